@@ -0,0 +1,72 @@
+package org.cinema.benchmark;
+
+import org.cinema.config.HibernateConfig;
+import org.cinema.model.FilmSession;
+import org.cinema.model.Movie;
+import org.cinema.model.Role;
+import org.cinema.model.User;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts the application's data layer against an in-memory H2 database and seeds the rows benchmarks work on.
+ * Services obtain their session factory from {@link HibernateConfig}, so it is initialized the same way
+ * the servlet container does, only with {@code hibernate-benchmark.cfg.xml} and without migrations.
+ */
+public final class BenchmarkDatabase {
+
+    /**
+     * Numbers the seeded movies, as a title and year pair is unique.
+     */
+    private static final AtomicInteger movieCounter = new AtomicInteger();
+
+    private BenchmarkDatabase() {
+    }
+
+    public static synchronized SessionFactory start() {
+        System.setProperty("hibernate.config.file", "hibernate-benchmark.cfg.xml");
+        System.setProperty("db.migration.enabled", "false");
+        return HibernateConfig.initialize();
+    }
+
+    public static User createUser(String username) {
+        return persist(new User(username, "$2a$10$benchmarkbenchmarkbenchmarkbenchmarkbenchmarkbenchma", Role.USER));
+    }
+
+    public static FilmSession createSession(int capacity) {
+        Movie movie = new Movie();
+        movie.setTitle("Benchmark Movie " + movieCounter.incrementAndGet());
+        movie.setYear("2010");
+        persist(movie);
+
+        FilmSession session = new FilmSession();
+        session.setMovie(movie);
+        session.setPrice(new BigDecimal("10.00"));
+        session.setDate(LocalDate.now().plusDays(1));
+        session.setStartTime(LocalTime.of(18, 0));
+        session.setEndTime(LocalTime.of(20, 0));
+        session.setCapacity(capacity);
+        return persist(session);
+    }
+
+    private static <T> T persist(T entity) {
+        try (Session session = HibernateConfig.getSessionFactory().openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                session.persist(entity);
+                transaction.commit();
+                return entity;
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package org.cinema.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.cinema.dto.ticketDTO.TicketCreateDTO;
+import org.cinema.model.User;
+import org.cinema.service.MovieService;
+import org.cinema.service.TicketService;
+import org.cinema.service.impl.MovieServiceImpl;
+import org.cinema.service.impl.TicketServiceImpl;
+import org.cinema.util.VirtualThreads;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throughput of the purchase and movie search paths when a burst of concurrent requests is served
+ * by a bounded platform-thread pool, as Tomcat's connector does by default, or by one virtual thread per request.
+ * <p>
+ * The search path goes to a local stub of the OMDB API that answers after {@code omdbLatencyMillis},
+ * so requests spend most of their time blocked on I/O, as in production. The purchase path is bound by
+ * the connection pool and H2, so it shows what virtual threads do not change.
+ * The {@code virtual} mode needs Java 21 or newer: run the benchmarks profile with a JDK 21 {@code JAVA_HOME}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 400;
+    private static final int PURCHASE_CAPACITY = 1_000_000;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    /** Tomcat's default {@code maxThreads}. */
+    @Param({"200"})
+    public int platformThreads;
+
+    @Param({"20"})
+    public int omdbLatencyMillis;
+
+    private HttpServer omdbStub;
+    private ExecutorService requestExecutor;
+    private TicketService ticketService;
+    private MovieService movieService;
+    private User user;
+    private long purchaseSessionId;
+    private final AtomicInteger nextSeat = new AtomicInteger();
+    private final AtomicInteger nextSearch = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        boolean virtual = "virtual".equals(threads);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("The virtual mode needs Java 21 or newer.");
+        }
+        omdbStub = startOmdbStub();
+        System.setProperty("execution.virtual.threads", String.valueOf(virtual));
+        System.setProperty("omdb.api.url", "http://localhost:" + omdbStub.getAddress().getPort() + "/");
+        System.setProperty("omdb.http.max.in.flight", String.valueOf(CONCURRENT_REQUESTS));
+        System.setProperty("omdb.http.request.timeout.millis", "60000");
+        System.setProperty("omdb.search.deadline.millis", "60000");
+
+        BenchmarkDatabase.start();
+        ticketService = TicketServiceImpl.getInstance();
+        movieService = MovieServiceImpl.getInstance();
+        user = BenchmarkDatabase.createUser("execution-benchmark-user");
+        requestExecutor = virtual
+                ? VirtualThreads.newThreadPerTaskExecutor("request-")
+                : Executors.newFixedThreadPool(platformThreads);
+        // Fills the movie details cache, so that every measured search makes one request to the stub.
+        movieService.searchMovies("qzxv warmup");
+    }
+
+    @Setup(Level.Iteration)
+    public void newPurchaseSession() {
+        purchaseSessionId = BenchmarkDatabase.createSession(PURCHASE_CAPACITY).getId();
+        nextSeat.set(0);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        requestExecutor.shutdownNow();
+        omdbStub.stop(0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public int purchaseTicket() throws Exception {
+        return serve(() -> ticketService.purchaseTicket(TicketCreateDTO.builder()
+                .userId(user.getId())
+                .sessionId(purchaseSessionId)
+                .seatNumber(String.valueOf(nextSeat.incrementAndGet()))
+                .build()));
+    }
+
+    /**
+     * Every search uses a new title, so it misses the database and the search cache and waits for the stub;
+     * movie details come from the cache.
+     */
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public int searchMovies() throws Exception {
+        return serve(() -> movieService.searchMovies("qzxv " + nextSearch.incrementAndGet()));
+    }
+
+    private int serve(Callable<?> request) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(requestExecutor.submit(request));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return futures.size();
+    }
+
+    private HttpServer startOmdbStub() throws IOException {
+        byte[] search = readPayload("omdb/search.json");
+        byte[] movie = readPayload("omdb/movie.json");
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENT_REQUESTS);
+        server.setExecutor(Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "omdb-stub");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.createContext("/", exchange -> respond(exchange,
+                exchange.getRequestURI().getQuery().startsWith("s=") ? search : movie));
+        server.start();
+        return server;
+    }
+
+    private void respond(HttpExchange exchange, byte[] body) throws IOException {
+        try {
+            Thread.sleep(omdbLatencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static byte[] readPayload(String name) throws IOException {
+        try (InputStream input = ExecutionModeBenchmark.class.getClassLoader().getResourceAsStream(name)) {
+            if (input == null) {
+                throw new IOException("Payload not found: " + name);
+            }
+            return input.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.cinema.benchmark;
+
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.dto.ticketDTO.TicketResponseDTO;
+import org.cinema.mapper.filmSessionMapper.FilmSessionResponseMapper;
+import org.cinema.mapper.ticketMapper.TicketResponseMapper;
+import org.cinema.model.FilmSession;
+import org.cinema.model.Movie;
+import org.cinema.model.RequestType;
+import org.cinema.model.Role;
+import org.cinema.model.Status;
+import org.cinema.model.Ticket;
+import org.cinema.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mappers used on every ticket and session listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private FilmSession filmSession;
+    private Ticket ticket;
+
+    @Setup
+    public void setUp() {
+        Movie movie = new Movie();
+        movie.setId(1L);
+        movie.setTitle("Inception");
+
+        filmSession = new FilmSession(1L, movie, new BigDecimal("12.50"), LocalDate.now(),
+                LocalTime.of(18, 0), LocalTime.of(20, 30), 120);
+
+        User user = new User("benchmark-user", "hash", Role.USER);
+        user.setId(1L);
+
+        ticket = new Ticket();
+        ticket.setId(1L);
+        ticket.setUser(user);
+        ticket.setFilmSession(filmSession);
+        ticket.setSeatNumber("42");
+        ticket.setPurchaseTime(LocalDateTime.now());
+        ticket.setStatus(Status.CONFIRMED);
+        ticket.setRequestType(RequestType.PURCHASE);
+    }
+
+    @Benchmark
+    public TicketResponseDTO ticketToDTO() {
+        return TicketResponseMapper.INSTANCE.toDTO(ticket);
+    }
+
+    @Benchmark
+    public FilmSessionResponseDTO filmSessionToDTO() {
+        return FilmSessionResponseMapper.INSTANCE.toDTO(filmSession);
+    }
+}
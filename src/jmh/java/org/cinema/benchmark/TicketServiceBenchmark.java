@@ -0,0 +1,80 @@
+package org.cinema.benchmark;
+
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.dto.ticketDTO.TicketCreateDTO;
+import org.cinema.model.FilmSession;
+import org.cinema.model.User;
+import org.cinema.service.TicketService;
+import org.cinema.service.impl.TicketServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Ticket purchase and the purchase page query, through the service layer against H2.
+ * Every measurement iteration buys into a fresh session so that seats never run out.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketServiceBenchmark {
+
+    private static final int PURCHASE_CAPACITY = 1_000_000;
+    private static final int DETAILS_CAPACITY = 200;
+    private static final int DETAILS_TAKEN_SEATS = 150;
+
+    private TicketService ticketService;
+    private User user;
+    private String detailsSessionId;
+    private long purchaseSessionId;
+    private final AtomicInteger nextSeat = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkDatabase.start();
+        ticketService = TicketServiceImpl.getInstance();
+        user = BenchmarkDatabase.createUser("benchmark-user");
+
+        FilmSession detailsSession = BenchmarkDatabase.createSession(DETAILS_CAPACITY);
+        detailsSessionId = String.valueOf(detailsSession.getId());
+        List<String> seats = IntStream.rangeClosed(1, DETAILS_TAKEN_SEATS).mapToObj(String::valueOf).toList();
+        for (int from = 0; from < seats.size(); from += 10) {
+            ticketService.purchaseTickets(user.getId(), detailsSession.getId(), seats.subList(from, from + 10));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void newPurchaseSession() {
+        purchaseSessionId = BenchmarkDatabase.createSession(PURCHASE_CAPACITY).getId();
+        nextSeat.set(0);
+    }
+
+    @Benchmark
+    public String purchaseTicket() {
+        return ticketService.purchaseTicket(TicketCreateDTO.builder()
+                .userId(user.getId())
+                .sessionId(purchaseSessionId)
+                .seatNumber(String.valueOf(nextSeat.incrementAndGet()))
+                .build());
+    }
+
+    @Benchmark
+    public FilmSessionResponseDTO getSessionDetailsWithTickets() {
+        return ticketService.getSessionDetailsWithTickets(detailsSessionId, user.getId());
+    }
+}
@@ -0,0 +1,50 @@
+package org.cinema.benchmark;
+
+import org.cinema.util.ValidationUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request parameter parsing done on every servlet call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationUtilBenchmark {
+
+    private String id = "12345";
+    private String seatNumber = " 42 ";
+    private String date = "2025-03-14";
+
+    @Benchmark
+    public int parseId() {
+        return ValidationUtil.parseId(id);
+    }
+
+    @Benchmark
+    public long parseLong() {
+        return ValidationUtil.parseLong(id);
+    }
+
+    @Benchmark
+    public int parseSeatNumber() {
+        return ValidationUtil.parseSeatNumber(seatNumber);
+    }
+
+    @Benchmark
+    public LocalDate parseDate() {
+        return ValidationUtil.parseDate(date, "Date");
+    }
+}
@@ -0,0 +1,59 @@
+package org.cinema.util;
+
+import org.cinema.model.MovieAPI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OMDB response parsing on recorded payloads, without network access.
+ * Lives in the {@code util} package to reach the package-private parse methods of {@link OmdbApiUtil}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OmdbApiParsingBenchmark {
+
+    private String searchResponse;
+    private String movieResponse;
+
+    @Setup
+    public void setUp() throws IOException {
+        searchResponse = readPayload("omdb/search.json");
+        movieResponse = readPayload("omdb/movie.json");
+    }
+
+    @Benchmark
+    public List<String> parseSearchResponse() throws IOException {
+        return OmdbApiUtil.parseSearchResponse(searchResponse, "batman");
+    }
+
+    @Benchmark
+    public MovieAPI parseMovieResponse() throws IOException {
+        return OmdbApiUtil.parseMovieResponse(movieResponse, "tt0372784");
+    }
+
+    private static String readPayload(String name) throws IOException {
+        try (InputStream input = OmdbApiParsingBenchmark.class.getClassLoader().getResourceAsStream(name)) {
+            if (input == null) {
+                throw new IOException("Payload not found: " + name);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package org.cinema.loadtest;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.WebResourceRoot;
+import org.apache.catalina.loader.WebappLoader;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.catalina.webresources.DirResourceSet;
+import org.apache.catalina.webresources.StandardRoot;
+import org.apache.tomcat.util.scan.StandardJarScanner;
+import org.cinema.config.HibernateConfig;
+import org.cinema.model.FilmSession;
+import org.cinema.model.Movie;
+import org.cinema.model.Role;
+import org.cinema.model.User;
+import org.cinema.util.PasswordUtil;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+/**
+ * Opening-night load harness: starts the webapp in embedded Tomcat, lets N virtual users log in
+ * and then releases them at once to buy seats of the same film session.
+ * <p>
+ * When the run is over it prints throughput, latency percentiles and the outcome classes of the purchase requests,
+ * and checks the tickets table for seats sold more than once and for purchases that were reported successful
+ * but left no ticket. The process exits with status 1 if either is found.
+ * <p>
+ * Settings (system properties): {@code loadtest.users}, {@code loadtest.seats} (session capacity),
+ * {@code loadtest.attempts} (purchase requests per user) and {@code loadtest.database} ({@code h2} or
+ * {@code mysql}, the latter being the docker-compose database on {@code localhost:3307}) and
+ * {@code loadtest.virtual.threads}, which serves requests on virtual threads and enables the application's
+ * virtual-thread mode (Java 21+), so the two modes can be compared on the same workload.
+ */
+public class LoadHarness {
+
+    private static final String PASSWORD = "loadtest-password";
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 100);
+        int seats = Integer.getInteger("loadtest.seats", 50);
+        int attempts = Integer.getInteger("loadtest.attempts", 20);
+        String database = System.getProperty("loadtest.database", "h2");
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtual.threads");
+        // Checked without VirtualThreads, which reads its setting once when first loaded.
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            System.err.println("loadtest.virtual.threads requires Java 21 or newer.");
+            System.exit(2);
+        }
+
+        configure(database, users, virtualThreads);
+        Tomcat tomcat = startTomcat(virtualThreads);
+        LoadReport report;
+        try {
+            URI baseUri = URI.create("http://localhost:" + tomcat.getConnector().getLocalPort());
+            long runId = System.currentTimeMillis();
+            List<User> accounts = createUsers(runId, users);
+            FilmSession filmSession = createSession(runId, seats);
+            System.out.printf("Load test: %d users x %d attempts on session %d with %d seats (%s, %s threads).%n",
+                    users, attempts, filmSession.getId(), seats, database, virtualThreads ? "virtual" : "platform");
+
+            report = run(baseUri, accounts, filmSession.getId(), seats, attempts);
+            report.verify(HibernateConfig.getSessionFactory(), filmSession.getId());
+        } finally {
+            tomcat.stop();
+            tomcat.destroy();
+        }
+        report.print(System.out);
+        int exitCode = report.isConsistent() ? 0 : 1;
+        System.exit(exitCode);
+    }
+
+    private static void configure(String database, int users, boolean virtualThreads) {
+        if ("mysql".equalsIgnoreCase(database)) {
+            System.setProperty("hibernate.config.file", "hibernate-loadtest-mysql.cfg.xml");
+        } else {
+            System.setProperty("hibernate.config.file", "hibernate-loadtest.cfg.xml");
+            System.setProperty("db.migration.enabled", "false");
+        }
+        // Every virtual user logs in from localhost at the same moment; the harness measures purchases,
+        // not the login throttle or the password hashing backpressure.
+        System.setProperty("login.throttle.address.burst", String.valueOf(users * 2));
+        System.setProperty("login.throttle.address.per.minute", String.valueOf(users * 2));
+        System.setProperty("password.hash.queue.size", String.valueOf(users));
+        System.setProperty("password.hash.timeout.millis", "60000");
+        System.setProperty("execution.virtual.threads", String.valueOf(virtualThreads));
+    }
+
+    /**
+     * Starts the webapp from {@code src/main/webapp} and {@code target/classes}. The context loads classes
+     * parent-first, so the webapp shares {@link HibernateConfig} and the caches with the harness.
+     */
+    private static Tomcat startTomcat(boolean virtualThreads) throws LifecycleException, IOException {
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("cinema-loadtest").toString());
+        tomcat.setPort(0);
+        tomcat.getConnector().setProperty("useVirtualThreads", String.valueOf(virtualThreads));
+
+        Context context = tomcat.addWebapp("", new File("src/main/webapp").getAbsolutePath());
+        context.setParentClassLoader(LoadHarness.class.getClassLoader());
+        WebappLoader loader = new WebappLoader();
+        loader.setDelegate(true);
+        context.setLoader(loader);
+        ((StandardJarScanner) context.getJarScanner()).setScanManifest(false);
+        WebResourceRoot resources = new StandardRoot(context);
+        resources.addPreResources(new DirResourceSet(resources, "/WEB-INF/classes",
+                new File("target/classes").getAbsolutePath(), "/"));
+        context.setResources(resources);
+
+        tomcat.start();
+        return tomcat;
+    }
+
+    private static LoadReport run(URI baseUri, List<User> accounts, long sessionId, int seats, int attempts)
+            throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        LoadReport report = new LoadReport();
+        CountDownLatch loggedIn = new CountDownLatch(accounts.size());
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (User account : accounts) {
+            VirtualUser user = new VirtualUser(client, baseUri, account.getUsername(), PASSWORD,
+                    sessionId, seats, attempts, report);
+            Thread thread = new Thread(() -> user.run(loggedIn, start), "virtual-user-" + account.getId());
+            threads.add(thread);
+            thread.start();
+        }
+
+        loggedIn.await();
+        System.out.println("All users logged in, starting purchases.");
+        report.start();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        report.stop();
+        return report;
+    }
+
+    private static List<User> createUsers(long runId, int count) {
+        String hash = PasswordUtil.hashPassword(PASSWORD);
+        List<User> users = new ArrayList<>(count);
+        inTransaction(session -> {
+            for (int i = 1; i <= count; i++) {
+                User user = new User("loadtest-" + runId + "-" + i, hash, Role.USER);
+                session.persist(user);
+                users.add(user);
+            }
+        });
+        return users;
+    }
+
+    private static FilmSession createSession(long runId, int capacity) {
+        Movie movie = new Movie();
+        movie.setTitle("Load Test Premiere " + runId);
+        movie.setYear(String.valueOf(LocalDate.now().getYear()));
+
+        FilmSession filmSession = new FilmSession();
+        filmSession.setMovie(movie);
+        filmSession.setPrice(new BigDecimal("10.00"));
+        filmSession.setDate(LocalDate.now().plusDays(1));
+        filmSession.setStartTime(LocalTime.of(20, 0));
+        filmSession.setEndTime(LocalTime.of(22, 0));
+        filmSession.setCapacity(capacity);
+
+        inTransaction(session -> {
+            session.persist(movie);
+            session.persist(filmSession);
+        });
+        return filmSession;
+    }
+
+    private static void inTransaction(Consumer<Session> work) {
+        try (Session session = HibernateConfig.getSessionFactory().openSession()) {
+            Transaction transaction = session.beginTransaction();
+            try {
+                work.accept(session);
+                transaction.commit();
+            } catch (RuntimeException e) {
+                transaction.rollback();
+                throw e;
+            }
+        }
+    }
+}
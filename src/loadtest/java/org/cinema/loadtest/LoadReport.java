@@ -0,0 +1,141 @@
+package org.cinema.loadtest;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the purchase results of all virtual users and checks the resulting tickets for double bookings.
+ */
+class LoadReport {
+
+    static final String SUCCESS = "SUCCESS";
+    static final String REJECTED = "REJECTED";
+
+    private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+    private final Map<Integer, LongAdder> confirmedSeats = new ConcurrentHashMap<>();
+    private final LongAdder loginFailures = new LongAdder();
+
+    private long startNanos;
+    private long stopNanos;
+    private Map<String, Long> doubleBookedSeats = Map.of();
+    private long ticketRows;
+
+    void start() {
+        startNanos = System.nanoTime();
+    }
+
+    void stop() {
+        stopNanos = System.nanoTime();
+    }
+
+    void recordLoginFailure() {
+        loginFailures.increment();
+    }
+
+    void recordPurchase(long latencyNanos, String outcome, int seat) {
+        latencies.add(latencyNanos);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        if (SUCCESS.equals(outcome)) {
+            confirmedSeats.computeIfAbsent(seat, key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Reads the tickets of the film session back from the database.
+     *
+     * @param sessionFactory the session factory of the webapp.
+     * @param filmSessionId the film session the users bought seats for.
+     */
+    void verify(SessionFactory sessionFactory, long filmSessionId) {
+        try (Session session = sessionFactory.openSession()) {
+            List<Object[]> rows = session.createQuery(
+                            "SELECT t.seatNumber, COUNT(t) FROM Ticket t WHERE t.filmSession.id = :sessionId " +
+                                    "GROUP BY t.seatNumber", Object[].class)
+                    .setParameter("sessionId", filmSessionId)
+                    .getResultList();
+
+            Map<String, Long> doubleBooked = new TreeMap<>();
+            long total = 0;
+            for (Object[] row : rows) {
+                long count = (Long) row[1];
+                total += count;
+                if (count > 1) {
+                    doubleBooked.put((String) row[0], count);
+                }
+            }
+            doubleBookedSeats = doubleBooked;
+            ticketRows = total;
+        }
+    }
+
+    /**
+     * Checks that no seat was sold twice, neither in the database nor in the responses the users received,
+     * and that every confirmed purchase left exactly one ticket.
+     *
+     * @return {@code true} if the run is free of double bookings and lost purchases.
+     */
+    boolean isConsistent() {
+        return doubleBookedSeats.isEmpty() && seatsConfirmedTwice().isEmpty() && ticketRows == count(SUCCESS);
+    }
+
+    void print(PrintStream out) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        double seconds = (stopNanos - startNanos) / 1e9;
+
+        out.println();
+        out.println("=== Purchase load test ===");
+        out.printf("Duration:        %.2f s%n", seconds);
+        out.printf("Requests:        %d (%.1f req/s)%n", sorted.length, sorted.length / seconds);
+        out.printf("Purchases:       %d (%.1f/s)%n", count(SUCCESS), count(SUCCESS) / seconds);
+        out.printf("Latency:         p50 %.1f ms, p95 %.1f ms, p99 %.1f ms, max %.1f ms%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                percentile(sorted, 1.0));
+        out.printf("Login failures:  %d%n", loginFailures.sum());
+        out.println("Outcomes:");
+        new TreeMap<>(outcomes).forEach((outcome, count) -> out.printf("  %-20s %d%n", outcome, count.sum()));
+
+        out.printf("Tickets in DB:   %d (confirmed to users: %d)%n", ticketRows, count(SUCCESS));
+        if (ticketRows != count(SUCCESS)) {
+            out.println("MISMATCH: the number of tickets differs from the purchases confirmed to users.");
+        }
+        if (!doubleBookedSeats.isEmpty()) {
+            out.println("DOUBLE BOOKING in database (seat -> tickets): " + doubleBookedSeats);
+        }
+        Map<Integer, Long> confirmedTwice = seatsConfirmedTwice();
+        if (!confirmedTwice.isEmpty()) {
+            out.println("DOUBLE BOOKING confirmed to users (seat -> confirmations): " + confirmedTwice);
+        }
+        out.println(isConsistent() ? "Result: OK, no seat was sold twice." : "Result: FAILED.");
+    }
+
+    private Map<Integer, Long> seatsConfirmedTwice() {
+        Map<Integer, Long> seats = new TreeMap<>();
+        confirmedSeats.forEach((seat, count) -> {
+            if (count.sum() > 1) {
+                seats.put(seat, count.sum());
+            }
+        });
+        return seats;
+    }
+
+    private long count(String outcome) {
+        LongAdder count = outcomes.get(outcome);
+        return count == null ? 0 : count.sum();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
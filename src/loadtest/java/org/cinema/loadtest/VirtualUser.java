@@ -0,0 +1,157 @@
+package org.cinema.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * One simulated customer: logs in, waits for the start signal and then repeatedly tries to buy a random seat.
+ * <p>
+ * The session cookie is handled by hand because the webapp marks it {@code Secure}, which the JDK cookie
+ * handler refuses to send over the plain HTTP connection of the embedded server.
+ */
+class VirtualUser {
+
+    private static final int LOGIN_RETRIES = 5;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final String username;
+    private final String password;
+    private final long sessionId;
+    private final int seats;
+    private final int attempts;
+    private final LoadReport report;
+
+    private String sessionCookie;
+
+    VirtualUser(HttpClient client, URI baseUri, String username, String password,
+                long sessionId, int seats, int attempts, LoadReport report) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.username = username;
+        this.password = password;
+        this.sessionId = sessionId;
+        this.seats = seats;
+        this.attempts = attempts;
+        this.report = report;
+    }
+
+    void run(CountDownLatch loggedIn, CountDownLatch start) {
+        boolean ready;
+        try {
+            ready = login();
+        } finally {
+            loggedIn.countDown();
+        }
+        if (!ready) {
+            report.recordLoginFailure();
+            return;
+        }
+
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        for (int i = 0; i < attempts; i++) {
+            purchase(ThreadLocalRandom.current().nextInt(1, seats + 1));
+        }
+    }
+
+    private boolean login() {
+        for (int attempt = 0; attempt < LOGIN_RETRIES; attempt++) {
+            try {
+                HttpResponse<Void> response = post("/login", Map.of("login", username, "password", password));
+                if (response.statusCode() == 302 && location(response).endsWith("/user")) {
+                    return true;
+                }
+                long retryAfter = response.headers().firstValueAsLong("Retry-After").orElse(-1);
+                if (retryAfter < 0) {
+                    return false;
+                }
+                Thread.sleep(Duration.ofSeconds(retryAfter).toMillis());
+            } catch (IOException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void purchase(int seat) {
+        long started = System.nanoTime();
+        String outcome;
+        try {
+            HttpResponse<Void> response = post("/user/tickets/purchase", Map.of(
+                    "sessionId", String.valueOf(sessionId),
+                    "seatNumber", String.valueOf(seat),
+                    "action", "purchase"));
+            outcome = classify(response);
+        } catch (IOException e) {
+            outcome = e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        report.recordPurchase(System.nanoTime() - started, outcome, seat);
+    }
+
+    /**
+     * Maps a purchase response to an outcome class. The servlet answers every purchase with a redirect:
+     * to the purchase page with a success message, or without one after a rejection or an error.
+     */
+    private String classify(HttpResponse<Void> response) {
+        int status = response.statusCode();
+        if (status == 302) {
+            return location(response).contains("message=Success") ? LoadReport.SUCCESS : LoadReport.REJECTED;
+        }
+        if (status == 200) {
+            // The access filter forwards to the login page when the session is gone.
+            return "SESSION_LOST";
+        }
+        return "HTTP_" + status;
+    }
+
+    private HttpResponse<Void> post(String path, Map<String, String> form) throws IOException, InterruptedException {
+        String body = form.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (sessionCookie != null) {
+            request.header("Cookie", sessionCookie);
+        }
+
+        HttpResponse<Void> response = client.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        sessionCookie(response).ifPresent(cookie -> sessionCookie = cookie);
+        return response;
+    }
+
+    private static Optional<String> sessionCookie(HttpResponse<?> response) {
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(header -> header.startsWith("JSESSIONID="))
+                .map(header -> header.split(";", 2)[0])
+                .findFirst();
+    }
+
+    private static String location(HttpResponse<?> response) {
+        return response.headers().firstValue("Location").orElse("");
+    }
+}
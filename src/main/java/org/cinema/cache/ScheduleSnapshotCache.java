@@ -0,0 +1,140 @@
+package org.cinema.cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.util.PropertiesUtil;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Snapshots of the schedule: the sessions of one date, and of all dates, already mapped to DTOs
+ * and sorted by date and start time. The DTOs are mutable, so a snapshot keeps its own copies and every read
+ * returns fresh copies; a caller that fills in per-user fields cannot leak them into other readers.
+ * <p>
+ * Snapshots are built lazily on the first read and dropped by {@link #invalidate} after every schedule write.
+ * Each write also bumps a version; a snapshot whose load overlapped a write removes itself again,
+ * so a load that read the schedule before the write never outlives it.
+ */
+@Slf4j
+public class ScheduleSnapshotCache {
+
+    @Getter
+    private static final ScheduleSnapshotCache instance = new ScheduleSnapshotCache();
+
+    private static final Comparator<FilmSessionResponseDTO> SCHEDULE_ORDER = Comparator
+            .comparing(FilmSessionResponseDTO::getDate, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(FilmSessionResponseDTO::getStartTime, Comparator.nullsLast(Comparator.<LocalTime>naturalOrder()))
+            .thenComparing(FilmSessionResponseDTO::getId, Comparator.nullsLast(Comparator.<Long>naturalOrder()));
+
+    private final int maxDates = PropertiesUtil.getInt("schedule.snapshot.max.dates", 400);
+    private final AtomicLong version = new AtomicLong();
+    private final Map<LocalDate, Set<FilmSessionResponseDTO>> byDate = new ConcurrentHashMap<>();
+    private final AtomicReference<Set<FilmSessionResponseDTO>> all = new AtomicReference<>();
+
+    /**
+     * Returns the snapshot of the whole schedule, loading it on a miss.
+     *
+     * @param loader supplies the mapped sessions of all dates.
+     * @return an unmodifiable set of copies of the sessions in schedule order.
+     */
+    public Set<FilmSessionResponseDTO> getAll(Supplier<Collection<FilmSessionResponseDTO>> loader) {
+        Set<FilmSessionResponseDTO> snapshot = all.get();
+        if (snapshot != null) {
+            return copyOf(snapshot);
+        }
+
+        long loadedAt = version.get();
+        Set<FilmSessionResponseDTO> loaded = toSnapshot(loader.get());
+        all.set(loaded);
+        if (version.get() != loadedAt) {
+            all.compareAndSet(loaded, null);
+        }
+        log.debug("Schedule snapshot loaded: {} sessions.", loaded.size());
+        return copyOf(loaded);
+    }
+
+    /**
+     * Returns the snapshot of one date, loading it on a miss. Once {@code schedule.snapshot.max.dates}
+     * dates are cached, other dates are loaded on every read until the next write clears the cache.
+     *
+     * @param date the date of the sessions.
+     * @param loader supplies the mapped sessions of the date.
+     * @return an unmodifiable set of copies of the sessions in schedule order.
+     */
+    public Set<FilmSessionResponseDTO> getByDate(LocalDate date, Supplier<Collection<FilmSessionResponseDTO>> loader) {
+        Set<FilmSessionResponseDTO> snapshot = byDate.get(date);
+        if (snapshot != null) {
+            return copyOf(snapshot);
+        }
+
+        long loadedAt = version.get();
+        Set<FilmSessionResponseDTO> loaded = toSnapshot(loader.get());
+        if (byDate.size() < maxDates) {
+            byDate.put(date, loaded);
+            if (version.get() != loadedAt) {
+                byDate.remove(date, loaded);
+            }
+            log.debug("Schedule snapshot for {} loaded: {} sessions.", date, loaded.size());
+        }
+        return copyOf(loaded);
+    }
+
+    /**
+     * Drops the snapshots affected by a schedule write. Must be called after the write is committed.
+     *
+     * @param date the date the session is scheduled on after the write, or {@code null} if it was deleted.
+     * @param sessionId the ID of the written session, or {@code null} for a new one; snapshots that
+     *                  contain it are dropped as well, which covers the previous date of a moved session.
+     */
+    public void invalidate(LocalDate date, Long sessionId) {
+        version.incrementAndGet();
+        all.set(null);
+        if (date != null) {
+            byDate.remove(date);
+        }
+        if (sessionId != null) {
+            byDate.entrySet().removeIf(entry -> entry.getValue().stream()
+                    .anyMatch(session -> Objects.equals(session.getId(), sessionId)));
+        }
+        log.debug("Schedule snapshots invalidated for date {} and session {}.", date, sessionId);
+    }
+
+    /**
+     * Drops all snapshots, e.g. after a bulk change of the schedule.
+     */
+    public void clear() {
+        version.incrementAndGet();
+        all.set(null);
+        byDate.clear();
+    }
+
+    /**
+     * Sorts copies of the loaded sessions, so the snapshot does not share DTOs with the loader's caller either.
+     */
+    private static Set<FilmSessionResponseDTO> toSnapshot(Collection<FilmSessionResponseDTO> sessions) {
+        return Collections.unmodifiableSet(sessions.stream()
+                .sorted(SCHEDULE_ORDER)
+                .map(session -> session.toBuilder().build())
+                .collect(LinkedHashSet::new, Set::add, Set::addAll));
+    }
+
+    private static Set<FilmSessionResponseDTO> copyOf(Set<FilmSessionResponseDTO> snapshot) {
+        Set<FilmSessionResponseDTO> copies = new LinkedHashSet<>(snapshot.size() * 4 / 3 + 1);
+        for (FilmSessionResponseDTO session : snapshot) {
+            copies.add(session.toBuilder().build());
+        }
+        return Collections.unmodifiableSet(copies);
+    }
+}
@@ -0,0 +1,88 @@
+package org.cinema.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free occupancy bitmap for the seats of a single film session.
+ * Seat numbers are 1-based; seat {@code n} is stored in bit {@code (n - 1) % 64}
+ * of word {@code (n - 1) / 64}. Every state change is a single CAS on one word.
+ */
+public class SeatBitmap {
+
+    private final int capacity;
+    private final AtomicLongArray words;
+
+    /**
+     * Creates an empty bitmap for a hall with the given capacity.
+     *
+     * @param capacity the number of seats in the hall.
+     */
+    public SeatBitmap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must not be negative.");
+        }
+        this.capacity = capacity;
+        this.words = new AtomicLongArray((capacity + 63) >>> 6);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Atomically marks the seat as taken.
+     *
+     * @param seat the 1-based seat number.
+     * @return {@code true} if this call took the seat, {@code false} if it was already taken.
+     */
+    public boolean tryClaim(int seat) {
+        int index = wordIndex(seat);
+        long mask = bitMask(seat);
+        while (true) {
+            long current = words.get(index);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Atomically marks the seat as free.
+     *
+     * @param seat the 1-based seat number.
+     */
+    public void release(int seat) {
+        int index = wordIndex(seat);
+        long mask = bitMask(seat);
+        while (true) {
+            long current = words.get(index);
+            if ((current & mask) == 0 || words.compareAndSet(index, current, current & ~mask)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the seat is currently taken.
+     *
+     * @param seat the 1-based seat number.
+     * @return {@code true} if the seat is taken.
+     */
+    public boolean isTaken(int seat) {
+        return (words.get(wordIndex(seat)) & bitMask(seat)) != 0;
+    }
+
+    private int wordIndex(int seat) {
+        if (seat <= 0 || seat > capacity) {
+            throw new IllegalArgumentException("Seat number exceeds the session's capacity or is not positive.");
+        }
+        return (seat - 1) >>> 6;
+    }
+
+    private static long bitMask(int seat) {
+        return 1L << ((seat - 1) & 63);
+    }
+}
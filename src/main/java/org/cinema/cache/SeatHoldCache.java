@@ -0,0 +1,229 @@
+package org.cinema.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.util.PropertiesUtil;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Temporary seat holds taken while a user is in the purchase flow.
+ * A hold is a TTL-based lease: it is released by a {@link HashedTimingWheel} when it expires,
+ * or earlier when the user purchases the seat or holds another one in the same session.
+ * Each user can hold at most one seat per session. The holds of a session are dropped together
+ * with their map once the last of them expires or is released.
+ */
+@Slf4j
+public class SeatHoldCache {
+
+    @Getter
+    private static final SeatHoldCache instance = new SeatHoldCache();
+
+    private final Duration ttl;
+    private final Map<Long, Map<Integer, SeatHold>> holds = new ConcurrentHashMap<>();
+    private final HashedTimingWheel timingWheel;
+
+    private SeatHoldCache() {
+        this(Duration.ofSeconds(PropertiesUtil.getLong("seat.hold.ttl.seconds", 300)), new HashedTimingWheel(
+                PropertiesUtil.getLong("seat.hold.wheel.tick.millis", 1000), TimeUnit.MILLISECONDS,
+                PropertiesUtil.getInt("seat.hold.wheel.size", 512), "seat-hold-wheel"));
+    }
+
+    SeatHoldCache(Duration ttl, HashedTimingWheel timingWheel) {
+        this.ttl = ttl;
+        this.timingWheel = timingWheel;
+    }
+
+    /**
+     * Places or refreshes a hold on a seat for the given user, releasing the user's previous hold
+     * in the same session.
+     *
+     * @param sessionId the ID of the session.
+     * @param seat the 1-based seat number.
+     * @param userId the ID of the user taking the hold.
+     * @return the hold if it was granted, or an empty {@link Optional} if another user holds the seat.
+     */
+    public Optional<SeatHold> hold(long sessionId, int seat, long userId) {
+        SeatHold newHold = new SeatHold(sessionId, seat, userId, LocalDateTime.now().plus(ttl));
+
+        // The seat is claimed inside compute on the session, so it cannot race with dropping an emptied session map.
+        SeatHold[] replaced = new SeatHold[1];
+        boolean[] granted = new boolean[1];
+        Map<Integer, SeatHold> sessionHolds = holds.compute(sessionId, (id, existingHolds) -> {
+            Map<Integer, SeatHold> seats = existingHolds == null ? new ConcurrentHashMap<>() : existingHolds;
+            seats.compute(seat, (key, existing) -> {
+                if (existing == null || existing.isExpired() || existing.getUserId() == userId) {
+                    replaced[0] = existing;
+                    granted[0] = true;
+                    return newHold;
+                }
+                return existing;
+            });
+            return seats;
+        });
+        if (!granted[0]) {
+            return Optional.empty();
+        }
+
+        if (replaced[0] != null) {
+            replaced[0].cancelExpiry();
+        }
+        sessionHolds.values().stream()
+                .filter(hold -> hold.getUserId() == userId && hold.getSeat() != seat)
+                .forEach(hold -> remove(sessionHolds, hold));
+
+        newHold.expiry = timingWheel.schedule(() -> expire(sessionHolds, newHold), ttl.toMillis(), TimeUnit.MILLISECONDS);
+        log.debug("Seat {} in session {} held by user {} until {}.", seat, sessionId, userId, newHold.getExpiresAt());
+        return Optional.of(newHold);
+    }
+
+    /**
+     * Checks whether a seat is held by anyone other than the given user.
+     *
+     * @param sessionId the ID of the session.
+     * @param seat the 1-based seat number.
+     * @param userId the ID of the current user.
+     * @return {@code true} if another user holds a live lease on the seat.
+     */
+    public boolean isHeldByOther(long sessionId, int seat, long userId) {
+        Map<Integer, SeatHold> sessionHolds = holds.get(sessionId);
+        if (sessionHolds == null) {
+            return false;
+        }
+        SeatHold hold = sessionHolds.get(seat);
+        return hold != null && !hold.isExpired() && hold.getUserId() != userId;
+    }
+
+    /**
+     * Returns the seats held by users other than the given one.
+     *
+     * @param sessionId the ID of the session.
+     * @param userId the ID of the current user.
+     * @return the held seat numbers.
+     */
+    public Set<Integer> getSeatsHeldByOthers(long sessionId, long userId) {
+        Map<Integer, SeatHold> sessionHolds = holds.get(sessionId);
+        if (sessionHolds == null) {
+            return Set.of();
+        }
+        return sessionHolds.values().stream()
+                .filter(hold -> !hold.isExpired() && hold.getUserId() != userId)
+                .map(SeatHold::getSeat)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the user's live hold in the given session, if any.
+     *
+     * @param sessionId the ID of the session.
+     * @param userId the ID of the user.
+     * @return the user's hold.
+     */
+    public Optional<SeatHold> getHoldOf(long sessionId, long userId) {
+        Map<Integer, SeatHold> sessionHolds = holds.get(sessionId);
+        if (sessionHolds == null) {
+            return Optional.empty();
+        }
+        return sessionHolds.values().stream()
+                .filter(hold -> !hold.isExpired() && hold.getUserId() == userId)
+                .findFirst();
+    }
+
+    /**
+     * Releases the user's hold on a seat, e.g. once the seat has been purchased.
+     *
+     * @param sessionId the ID of the session.
+     * @param seat the 1-based seat number.
+     * @param userId the ID of the user owning the hold.
+     */
+    public void release(long sessionId, int seat, long userId) {
+        Map<Integer, SeatHold> sessionHolds = holds.get(sessionId);
+        if (sessionHolds == null) {
+            return;
+        }
+        SeatHold hold = sessionHolds.get(seat);
+        if (hold != null && hold.getUserId() == userId) {
+            remove(sessionHolds, hold);
+        }
+    }
+
+    /**
+     * Drops all holds of a session, e.g. when the session is deleted.
+     *
+     * @param sessionId the ID of the session.
+     */
+    public void clear(long sessionId) {
+        Map<Integer, SeatHold> sessionHolds = holds.remove(sessionId);
+        if (sessionHolds != null) {
+            sessionHolds.values().forEach(SeatHold::cancelExpiry);
+        }
+    }
+
+    /**
+     * Stops the expiry worker. Called on application shutdown.
+     */
+    public void shutdown() {
+        timingWheel.stop();
+    }
+
+    /**
+     * Checks whether any holds, live or awaiting expiry, are tracked for a session.
+     *
+     * @param sessionId the ID of the session.
+     * @return {@code true} if the session still has a map of holds.
+     */
+    boolean hasHolds(long sessionId) {
+        return holds.containsKey(sessionId);
+    }
+
+    private void remove(Map<Integer, SeatHold> sessionHolds, SeatHold hold) {
+        if (sessionHolds.remove(hold.getSeat(), hold)) {
+            hold.cancelExpiry();
+            dropIfEmpty(hold.getSessionId());
+        }
+    }
+
+    private void expire(Map<Integer, SeatHold> sessionHolds, SeatHold hold) {
+        if (sessionHolds.remove(hold.getSeat(), hold)) {
+            log.debug("Hold on seat {} in session {} by user {} expired.", hold.getSeat(), hold.getSessionId(), hold.getUserId());
+            dropIfEmpty(hold.getSessionId());
+        }
+    }
+
+    private void dropIfEmpty(long sessionId) {
+        holds.computeIfPresent(sessionId, (id, sessionHolds) -> sessionHolds.isEmpty() ? null : sessionHolds);
+    }
+
+    /**
+     * A single seat lease.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class SeatHold {
+        private final long sessionId;
+        private final int seat;
+        private final long userId;
+        private final LocalDateTime expiresAt;
+        @Getter(AccessLevel.NONE)
+        private volatile HashedTimingWheel.Timeout expiry;
+
+        public boolean isExpired() {
+            return LocalDateTime.now().isAfter(expiresAt);
+        }
+
+        private void cancelExpiry() {
+            HashedTimingWheel.Timeout timeout = expiry;
+            if (timeout != null) {
+                timeout.cancel();
+            }
+        }
+    }
+}
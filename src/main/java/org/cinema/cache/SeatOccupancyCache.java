@@ -0,0 +1,123 @@
+package org.cinema.cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.config.HibernateConfig;
+import org.cinema.model.FilmSession;
+import org.cinema.repository.impl.TicketRepositoryImpl;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * In-memory seat occupancy for film sessions, used to reject conflicting purchases
+ * before any database work. Bitmaps are loaded lazily from the session's tickets on first use.
+ * The unique {@code (session_id, seat_number)} constraint on {@code ticket} stays the final authority.
+ */
+@Slf4j
+public class SeatOccupancyCache {
+
+    @Getter
+    private static final SeatOccupancyCache instance = new SeatOccupancyCache(sessionId ->
+            TicketRepositoryImpl.getInstance(HibernateConfig.getSessionFactory()).getSeatNumbersBySession(sessionId));
+
+    private final Map<Long, SeatBitmap> bitmaps = new ConcurrentHashMap<>();
+    private final Function<Long, List<String>> seatNumbersLoader;
+
+    /**
+     * Creates a cache.
+     *
+     * @param seatNumbersLoader reads the seat numbers of the tickets of a session.
+     */
+    SeatOccupancyCache(Function<Long, List<String>> seatNumbersLoader) {
+        this.seatNumbersLoader = seatNumbersLoader;
+    }
+
+    /**
+     * Atomically claims a seat for the given session. When the session's bitmap is already cached
+     * the claim is a single CAS without any database access; otherwise the session is loaded
+     * through {@code sessionLoader} and its bitmap is built from the existing tickets.
+     *
+     * @param sessionId the ID of the session the seat belongs to.
+     * @param seat the 1-based seat number.
+     * @param sessionLoader supplies the {@link FilmSession} when the bitmap has to be loaded.
+     * @return {@code true} if the seat was free and is now claimed, {@code false} otherwise.
+     * @throws IllegalArgumentException if the seat is outside the session's capacity.
+     */
+    public boolean tryClaim(long sessionId, int seat, Supplier<FilmSession> sessionLoader) {
+        return getOrLoad(sessionId, sessionLoader).tryClaim(seat);
+    }
+
+    /**
+     * Checks whether a seat of the given session is already sold.
+     *
+     * @param sessionId the ID of the session the seat belongs to.
+     * @param seat the 1-based seat number.
+     * @param sessionLoader supplies the {@link FilmSession} when the bitmap has to be loaded.
+     * @return {@code true} if the seat is taken.
+     * @throws IllegalArgumentException if the seat is outside the session's capacity.
+     */
+    public boolean isTaken(long sessionId, int seat, Supplier<FilmSession> sessionLoader) {
+        return getOrLoad(sessionId, sessionLoader).isTaken(seat);
+    }
+
+    /**
+     * Releases a previously claimed seat, e.g. when the ticket could not be persisted.
+     *
+     * @param sessionId the ID of the session.
+     * @param seat the 1-based seat number.
+     */
+    public void release(long sessionId, int seat) {
+        SeatBitmap bitmap = bitmaps.get(sessionId);
+        if (bitmap != null && seat > 0 && seat <= bitmap.getCapacity()) {
+            bitmap.release(seat);
+        }
+    }
+
+    /**
+     * Drops the cached bitmap so it is reloaded from the database on next use.
+     * Called whenever tickets or the session itself (e.g. its capacity) change outside the purchase path.
+     *
+     * @param sessionId the ID of the session.
+     */
+    public void invalidate(long sessionId) {
+        if (bitmaps.remove(sessionId) != null) {
+            log.debug("Seat occupancy for session {} invalidated.", sessionId);
+        }
+    }
+
+    private SeatBitmap getOrLoad(long sessionId, Supplier<FilmSession> sessionLoader) {
+        SeatBitmap bitmap = bitmaps.get(sessionId);
+        if (bitmap == null) {
+            bitmap = load(sessionLoader.get());
+            SeatBitmap existing = bitmaps.putIfAbsent(sessionId, bitmap);
+            if (existing != null) {
+                bitmap = existing;
+            }
+        }
+        return bitmap;
+    }
+
+    private SeatBitmap load(FilmSession filmSession) {
+        SeatBitmap bitmap = new SeatBitmap(filmSession.getCapacity());
+        List<String> seatNumbers = seatNumbersLoader.apply(filmSession.getId());
+        for (String seatNumber : seatNumbers) {
+            markTaken(bitmap, seatNumber, filmSession.getId());
+        }
+        log.debug("Seat occupancy for session {} loaded: {} seats taken.", filmSession.getId(), seatNumbers.size());
+        return bitmap;
+    }
+
+    private void markTaken(SeatBitmap bitmap, String seatNumber, long sessionId) {
+        try {
+            int seat = Integer.parseInt(seatNumber);
+            if (seat > 0 && seat <= bitmap.getCapacity()) {
+                bitmap.tryClaim(seat);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Skipping ticket with invalid seat number '{}' in session {}.", seatNumber, sessionId);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package org.cinema.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.model.FilmSession;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory index of the {@code [startTime, endTime)} slots of film sessions, used to find overlapping
+ * sessions and sessions in a time range without a query.
+ * <p>
+ * Dates are kept in a sorted map; the sessions of each date form an immutable interval tree
+ * (sorted by start time, every subtree annotated with its latest end time) that is rebuilt and swapped
+ * on every write to that date. Lookups are lock-free and take {@code O(log n)} plus the number of matches;
+ * writes are serialized, as the schedule changes rarely.
+ * <p>
+ * The index is filled from the database on first use and then kept up to date by its owner with committed writes.
+ */
+@Slf4j
+public class SessionIntervalIndex {
+
+    private static final long END_OF_DAY = Long.MAX_VALUE;
+
+    private final NavigableMap<LocalDate, DayTree> byDate = new ConcurrentSkipListMap<>();
+    private final Map<Long, Interval> byId = new ConcurrentHashMap<>();
+    /**
+     * Serializes the load and the writes. A lock rather than a monitor, as the load runs a query
+     * and a virtual thread blocked in a monitor pins its carrier thread.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile boolean loaded;
+
+    /**
+     * Fills the index on first use. The loader runs while writes to the index are blocked,
+     * so a write committed during the load is either read by it or applied after it.
+     *
+     * @param loader reads the slots of all sessions from the database.
+     */
+    public void ensureLoaded(Supplier<Collection<Interval>> loader) {
+        if (loaded) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (!loaded) {
+                load(loader.get());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds a session or moves it to its new slot. Ignored until the index is loaded,
+     * as the load will read the session from the database.
+     *
+     * @param interval the slot of the session.
+     */
+    public void put(Interval interval) {
+        writeLock.lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            removeLocked(interval.getSessionId());
+            byId.put(interval.getSessionId(), interval);
+            DayTree day = byDate.get(interval.getDate());
+            List<Interval> intervals = day == null ? new ArrayList<>() : day.toList();
+            intervals.add(interval);
+            byDate.put(interval.getDate(), new DayTree(intervals));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes a session from the index.
+     *
+     * @param sessionId the ID of the session.
+     */
+    public void remove(long sessionId) {
+        writeLock.lock();
+        try {
+            removeLocked(sessionId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void removeLocked(long sessionId) {
+        Interval removed = byId.remove(sessionId);
+        if (removed == null) {
+            return;
+        }
+        List<Interval> intervals = byDate.get(removed.getDate()).toList();
+        intervals.removeIf(interval -> interval.getSessionId() == sessionId);
+        if (intervals.isEmpty()) {
+            byDate.remove(removed.getDate());
+        } else {
+            byDate.put(removed.getDate(), new DayTree(intervals));
+        }
+    }
+
+    private void load(Collection<Interval> intervals) {
+        Map<LocalDate, List<Interval>> grouped = new HashMap<>();
+        for (Interval interval : intervals) {
+            byId.put(interval.getSessionId(), interval);
+            grouped.computeIfAbsent(interval.getDate(), date -> new ArrayList<>()).add(interval);
+        }
+        grouped.forEach((date, dayIntervals) -> byDate.put(date, new DayTree(dayIntervals)));
+        loaded = true;
+        log.info("Session interval index loaded: {} sessions on {} dates.", byId.size(), byDate.size());
+    }
+
+    /**
+     * Finds the sessions whose slot overlaps {@code [start, end)} on the given date.
+     *
+     * @param date the date of the slot.
+     * @param start the start of the slot, inclusive.
+     * @param end the end of the slot, exclusive.
+     * @return the overlapping sessions, ordered by start time.
+     */
+    public List<Interval> findOverlapping(LocalDate date, LocalTime start, LocalTime end) {
+        List<Interval> result = new ArrayList<>();
+        DayTree day = byDate.get(date);
+        if (day != null) {
+            day.collectOverlapping(start.toNanoOfDay(), end.toNanoOfDay(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the sessions whose slot overlaps {@code [from, to)}, across dates.
+     *
+     * @param from the start of the range, inclusive.
+     * @param to the end of the range, exclusive.
+     * @return the overlapping sessions, ordered by date and start time.
+     */
+    public List<Interval> findOverlapping(LocalDateTime from, LocalDateTime to) {
+        List<Interval> result = new ArrayList<>();
+        if (!from.isBefore(to)) {
+            return result;
+        }
+        LocalDate firstDate = from.toLocalDate();
+        LocalDate lastDate = to.toLocalDate();
+        for (Map.Entry<LocalDate, DayTree> entry : byDate.subMap(firstDate, true, lastDate, true).entrySet()) {
+            long start = entry.getKey().equals(firstDate) ? from.toLocalTime().toNanoOfDay() : 0;
+            long end = entry.getKey().equals(lastDate) ? to.toLocalTime().toNanoOfDay() : END_OF_DAY;
+            entry.getValue().collectOverlapping(start, end, result);
+        }
+        return result;
+    }
+
+    /**
+     * The slot of one film session.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Interval {
+        private final long sessionId;
+        private final Long movieId;
+        private final LocalDate date;
+        private final LocalTime startTime;
+        private final LocalTime endTime;
+
+        public static Interval of(FilmSession filmSession) {
+            return new Interval(filmSession.getId(),
+                    filmSession.getMovie() == null ? null : filmSession.getMovie().getId(),
+                    filmSession.getDate(), filmSession.getStartTime(), filmSession.getEndTime());
+        }
+    }
+
+    /**
+     * The sessions of one date as an implicit balanced search tree over an array sorted by start time:
+     * the root of {@code [lo, hi)} is its middle element, and {@code maxEnd[mid]} is the latest end time
+     * in that subtree, so subtrees that end before the queried slot are skipped.
+     */
+    private static final class DayTree {
+        private final Interval[] intervals;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnd;
+
+        DayTree(List<Interval> dayIntervals) {
+            intervals = dayIntervals.toArray(new Interval[0]);
+            Arrays.sort(intervals, Comparator.comparing(Interval::getStartTime)
+                    .thenComparingLong(Interval::getSessionId));
+            starts = new long[intervals.length];
+            ends = new long[intervals.length];
+            maxEnd = new long[intervals.length];
+            for (int i = 0; i < intervals.length; i++) {
+                starts[i] = intervals[i].getStartTime().toNanoOfDay();
+                ends[i] = intervals[i].getEndTime().toNanoOfDay();
+            }
+            annotate(0, intervals.length);
+        }
+
+        List<Interval> toList() {
+            return new ArrayList<>(Arrays.asList(intervals));
+        }
+
+        void collectOverlapping(long start, long end, List<Interval> result) {
+            collect(0, intervals.length, start, end, result);
+        }
+
+        private long annotate(int lo, int hi) {
+            if (lo >= hi) {
+                return Long.MIN_VALUE;
+            }
+            int mid = (lo + hi) >>> 1;
+            maxEnd[mid] = Math.max(ends[mid], Math.max(annotate(lo, mid), annotate(mid + 1, hi)));
+            return maxEnd[mid];
+        }
+
+        private void collect(int lo, int hi, long start, long end, List<Interval> result) {
+            if (lo >= hi) {
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            if (maxEnd[mid] <= start) {
+                return;
+            }
+            collect(lo, mid, start, end, result);
+            if (starts[mid] >= end) {
+                return;
+            }
+            if (ends[mid] > start) {
+                result.add(intervals[mid]);
+            }
+            collect(mid + 1, hi, start, end, result);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package org.cinema.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index for case-insensitive substring search over short texts such as movie titles.
+ * Every indexed text is split into overlapping three-character grams; a query is answered by intersecting
+ * the posting sets of its grams and verifying the few remaining candidates, instead of scanning every text.
+ * Queries shorter than three characters fall back to scanning the indexed texts in memory.
+ */
+public class TrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, String> texts = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Replaces the whole index content.
+     *
+     * @param entries the texts to index by ID.
+     */
+    public void rebuild(Map<Long, String> entries) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            texts.clear();
+            entries.forEach(this::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a text or replaces the text previously indexed under the same ID.
+     *
+     * @param id the ID of the indexed entity.
+     * @param text the text to index; {@code null} removes the entry.
+     */
+    public void put(long id, String text) {
+        lock.writeLock().lock();
+        try {
+            remove(id, texts.get(id));
+            if (text != null) {
+                add(id, text);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an entry from the index.
+     *
+     * @param id the ID of the indexed entity.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            remove(id, texts.get(id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the IDs of all texts containing the query, best matches first:
+     * exact matches, then prefix matches, then matches at a word start, then any other match;
+     * within each group shorter texts rank higher.
+     *
+     * @param query the substring to search for.
+     * @param limit the maximum number of IDs to return.
+     * @return the ranked IDs.
+     */
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Match> matches = new ArrayList<>();
+            for (long id : candidates(normalized)) {
+                String text = texts.get(id);
+                int position = text == null ? -1 : text.indexOf(normalized);
+                if (position >= 0) {
+                    matches.add(new Match(id, rank(text, normalized, position), text.length()));
+                }
+            }
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(Match::getRank)
+                            .thenComparingInt(Match::getLength)
+                            .thenComparingLong(Match::getId))
+                    .limit(limit)
+                    .map(Match::getId)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return texts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<Long> candidates(String normalized) {
+        if (normalized.length() < GRAM_LENGTH) {
+            return texts.keySet();
+        }
+        List<Set<Long>> sets = new ArrayList<>();
+        for (String gram : grams(normalized)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            sets.add(posting);
+        }
+        sets.sort(Comparator.comparingInt(Set::size));
+        Set<Long> result = new HashSet<>(sets.get(0));
+        for (int i = 1; i < sets.size() && !result.isEmpty(); i++) {
+            result.retainAll(sets.get(i));
+        }
+        return result;
+    }
+
+    private void add(long id, String text) {
+        String normalized = normalize(text);
+        texts.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void remove(long id, String normalized) {
+        if (normalized == null) {
+            return;
+        }
+        texts.remove(id);
+        for (String gram : grams(normalized)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static Set<String> grams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static int rank(String text, String query, int position) {
+        if (text.length() == query.length()) {
+            return 0;
+        }
+        if (position == 0) {
+            return 1;
+        }
+        for (int i = position; i >= 0; i = text.indexOf(query, i + 1)) {
+            if (!Character.isLetterOrDigit(text.charAt(i - 1))) {
+                return 2;
+            }
+        }
+        return 3;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Match {
+        private final long id;
+        private final int rank;
+        private final int length;
+    }
+}
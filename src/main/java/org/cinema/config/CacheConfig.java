@@ -0,0 +1,34 @@
+package org.cinema.config;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.cache.SeatHoldCache;
+import org.cinema.controller.AsyncMovieSearch;
+import org.cinema.util.OmdbApiUtil;
+import org.cinema.util.PasswordUtil;
+
+/**
+ * Configuration class for the in-memory caches, the OMDB HTTP client, the movie search executor
+ * and the password hashing executor.
+ * Responsible for releasing their background resources when the application shuts down.
+ */
+@Slf4j
+@WebListener
+public class CacheConfig implements ServletContextListener {
+
+    /**
+     * Stops cache worker threads, the OMDB HTTP executor and the password hashing executor when the application shuts down.
+     *
+     * @param sce the servlet context event object
+     */
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        SeatHoldCache.getInstance().shutdown();
+        OmdbApiUtil.shutdown();
+        PasswordUtil.shutdown();
+        AsyncMovieSearch.shutdown();
+        log.info("In-memory caches shut down successfully.");
+    }
+}
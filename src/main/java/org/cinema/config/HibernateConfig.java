@@ -3,19 +3,40 @@ package org.cinema.config;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import jakarta.servlet.annotation.WebListener;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.util.PropertiesUtil;
 import org.hibernate.HibernateException;
 import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
 
 /**
  * Configuration class for managing Hibernate.
  * Responsible for initializing and shutting down the {@link SessionFactory}.
+ * <p>
+ * The second-level cache and the query cache are switched on by {@code hibernate.cache.enabled}
+ * in {@code application.properties}; only entities annotated with {@code @Cacheable} use it.
+ * Region sizes and expiry are configured in {@code application.conf}.
+ * <p>
+ * The schema is owned by {@link MigrationRunner}, which runs before the {@link SessionFactory} is built;
+ * Hibernate does not create or alter tables.
+ * <p>
+ * With {@code jdbc.timing.enabled} the pool is wrapped by {@link TimingConnectionProvider},
+ * which times every statement and logs the slow ones.
  */
 @Slf4j
 @WebListener
 public class HibernateConfig implements ServletContextListener {
 
+    private static final String HIKARI_PREFIX = "hibernate.hikari.";
+
     private static SessionFactory sessionFactory;
 
     /**
@@ -31,6 +52,24 @@ public class HibernateConfig implements ServletContextListener {
         return sessionFactory;
     }
 
+    /**
+     * Returns the statistics of every second-level and query cache region, keyed by region name.
+     * The counters are only collected when {@code hibernate.statistics.enabled} is set.
+     *
+     * @return the statistics of the cache regions.
+     */
+    public static Map<String, CacheRegionStatistics> getCacheRegionStatistics() {
+        Statistics statistics = getSessionFactory().getStatistics();
+        Map<String, CacheRegionStatistics> regions = new TreeMap<>();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.put(region, regionStatistics);
+            }
+        }
+        return regions;
+    }
+
     /**
      * Initializes the session factory at the application startup.
      * This method is called when the server starts.
@@ -39,19 +78,68 @@ public class HibernateConfig implements ServletContextListener {
      */
     @Override
     public void contextInitialized(ServletContextEvent sce) {
+        initialize();
+        sce.getServletContext().setAttribute("SessionFactory", sessionFactory);
+    }
+
+    /**
+     * Applies pending migrations and builds the {@link SessionFactory}.
+     * The Hibernate configuration is read from the classpath resource named by {@code hibernate.config.file},
+     * so that benchmarks and load tests can start the data layer against another database outside a servlet container.
+     *
+     * @return the initialized {@link SessionFactory}
+     */
+    public static synchronized SessionFactory initialize() {
+        if (sessionFactory != null) {
+            return sessionFactory;
+        }
         try {
             log.debug("Initializing Hibernate SessionFactory...");
-            sessionFactory = new Configuration()
-                    .configure("hibernate.cfg.xml")
+            boolean cacheEnabled = PropertiesUtil.getBoolean("hibernate.cache.enabled", false);
+            Configuration configuration = new Configuration()
+                    .configure(PropertiesUtil.get("hibernate.config.file", "hibernate.cfg.xml"));
+            if (PropertiesUtil.getBoolean("db.migration.enabled", true)) {
+                migrateSchema(configuration.getProperties());
+            }
+            if (PropertiesUtil.getBoolean("jdbc.timing.enabled", false)) {
+                configuration.setProperty(AvailableSettings.CONNECTION_PROVIDER, TimingConnectionProvider.class.getName());
+            }
+            sessionFactory = configuration
+                    .setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, String.valueOf(cacheEnabled))
+                    .setProperty(AvailableSettings.USE_QUERY_CACHE, String.valueOf(cacheEnabled))
+                    .setProperty(AvailableSettings.GENERATE_STATISTICS,
+                            String.valueOf(PropertiesUtil.getBoolean("hibernate.statistics.enabled", false)))
                     .buildSessionFactory();
-            sce.getServletContext().setAttribute("SessionFactory", sessionFactory);
             log.info("Hibernate SessionFactory initialized successfully.");
+            return sessionFactory;
         } catch (HibernateException e) {
             log.error("Failed to initialize Hibernate SessionFactory(contextInitialized): {}", e.getMessage());
             throw new RuntimeException("SessionFactory initialization failed.", e);
         }
     }
 
+    /**
+     * Applies pending schema migrations through a short-lived single-connection pool
+     * configured with the same data source settings as Hibernate.
+     *
+     * @param properties the Hibernate configuration properties
+     */
+    private static void migrateSchema(Properties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("schema-migration");
+        config.setMaximumPoolSize(1);
+        config.setDataSourceClassName(properties.getProperty(HIKARI_PREFIX + "dataSourceClassName"));
+        String dataSourcePrefix = HIKARI_PREFIX + "dataSource.";
+        properties.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(dataSourcePrefix))
+                .forEach(name -> config.addDataSourceProperty(
+                        name.substring(dataSourcePrefix.length()), properties.getProperty(name)));
+
+        try (HikariDataSource dataSource = new HikariDataSource(config)) {
+            new MigrationRunner(dataSource, MigrationRunner.DEFAULT_LOCATION).migrate();
+        }
+    }
+
     /**
      * Closes the session factory when the application shuts down.
      * This method is called when the server stops.
@@ -63,7 +151,13 @@ public class HibernateConfig implements ServletContextListener {
         if (sessionFactory != null) {
             try {
                 log.debug("Closing Hibernate SessionFactory...");
+                if (sessionFactory.getStatistics().isStatisticsEnabled()) {
+                    getCacheRegionStatistics().forEach((region, stats) ->
+                            log.info("Cache region '{}': hits={}, misses={}, puts={}",
+                                    region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount()));
+                }
                 sessionFactory.close();
+                sessionFactory = null;
                 log.info("Hibernate SessionFactory closed successfully.");
             } catch (HibernateException e) {
                 log.error("Error closing Hibernate SessionFactory(contextDestroyed): {}", e.getMessage(), e);
@@ -0,0 +1,262 @@
+package org.cinema.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Applies versioned SQL migrations from the classpath before Hibernate starts.
+ * <p>
+ * Migrations are listed in order in {@code migrations.list} inside the migration location and are named
+ * {@code V<version>__<description>.sql}. Every applied migration is recorded in {@code schema_version} together
+ * with the SHA-256 checksum of its script; on the next start the checksums are verified, so an applied script
+ * that was edited, or removed from the list, stops the startup instead of leaving the schema in an unknown state.
+ * On MySQL a named lock keeps several nodes starting at once from applying the same migration twice.
+ * <p>
+ * MySQL commits DDL implicitly, so a migration that fails halfway is not rolled back;
+ * migration scripts are therefore written to be safe to re-run.
+ */
+@Slf4j
+public class MigrationRunner {
+
+    public static final String DEFAULT_LOCATION = "db/migration/";
+
+    private static final String INDEX_FILE = "migrations.list";
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final Pattern STATEMENT_END = Pattern.compile(";\\s*(\\R|$)");
+    private static final String LOCK_NAME = "cinema_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private static final String CREATE_HISTORY_TABLE = "CREATE TABLE IF NOT EXISTS `schema_version` (" +
+            "`version` INT NOT NULL, " +
+            "`description` VARCHAR(200) NOT NULL, " +
+            "`checksum` CHAR(64) NOT NULL, " +
+            "`installed_on` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, " +
+            "`execution_time_ms` BIGINT NOT NULL, " +
+            "PRIMARY KEY (`version`))";
+
+    private final DataSource dataSource;
+    private final String location;
+
+    /**
+     * Creates a runner.
+     *
+     * @param dataSource the database to migrate.
+     * @param location the classpath directory holding the migrations, ending with {@code /}.
+     */
+    public MigrationRunner(DataSource dataSource, String location) {
+        this.dataSource = dataSource;
+        this.location = location;
+    }
+
+    /**
+     * Verifies the applied migrations and applies the pending ones.
+     *
+     * @return the number of migrations applied.
+     * @throws IllegalStateException if an applied migration was changed or removed.
+     */
+    public int migrate() {
+        List<Migration> migrations = loadMigrations();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            boolean locked = acquireLock(connection);
+            try {
+                return migrate(connection, migrations);
+            } finally {
+                if (locked) {
+                    releaseLock(connection);
+                }
+            }
+        } catch (SQLException e) {
+            log.error("Schema migration failed: {}", e.getMessage());
+            throw new RuntimeException("Schema migration failed.", e);
+        }
+    }
+
+    private int migrate(Connection connection, List<Migration> migrations) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_HISTORY_TABLE);
+        }
+        Map<Integer, String> applied = loadAppliedChecksums(connection);
+        verify(migrations, applied);
+
+        int count = 0;
+        for (Migration migration : migrations) {
+            if (!applied.containsKey(migration.getVersion())) {
+                apply(connection, migration);
+                count++;
+            }
+        }
+        log.info("Database schema is up to date: {} migration(s) applied, {} already present.",
+                count, migrations.size() - count);
+        return count;
+    }
+
+    private void verify(List<Migration> migrations, Map<Integer, String> applied) {
+        Map<Integer, Migration> known = new HashMap<>();
+        migrations.forEach(migration -> known.put(migration.getVersion(), migration));
+
+        applied.forEach((version, checksum) -> {
+            Migration migration = known.get(version);
+            if (migration == null) {
+                throw new IllegalStateException("Applied migration V" + version + " is missing from " + INDEX_FILE + ".");
+            }
+            if (!migration.getChecksum().equals(checksum)) {
+                throw new IllegalStateException("Checksum mismatch for applied migration " + migration.getFileName()
+                        + ". Applied migrations must not be edited; add a new migration instead.");
+            }
+        });
+    }
+
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        log.info("Applying migration {}...", migration.getFileName());
+        long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : migration.getStatements()) {
+                statement.execute(sql);
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO `schema_version` " +
+                "(`version`, `description`, `checksum`, `execution_time_ms`) VALUES (?, ?, ?, ?)")) {
+            insert.setInt(1, migration.getVersion());
+            insert.setString(2, migration.getDescription());
+            insert.setString(3, migration.getChecksum());
+            insert.setLong(4, elapsedMillis);
+            insert.executeUpdate();
+        }
+        log.info("Migration {} applied in {} ms.", migration.getFileName(), elapsedMillis);
+    }
+
+    private Map<Integer, String> loadAppliedChecksums(Connection connection) throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT `version`, `checksum` FROM `schema_version`")) {
+            while (resultSet.next()) {
+                applied.put(resultSet.getInt(1), resultSet.getString(2));
+            }
+        }
+        return applied;
+    }
+
+    private boolean acquireLock(Connection connection) throws SQLException {
+        if (!isMySql(connection)) {
+            return false;
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next() || resultSet.getInt(1) != 1) {
+                    throw new IllegalStateException("Could not acquire the schema migration lock within "
+                            + LOCK_TIMEOUT_SECONDS + " seconds.");
+                }
+            }
+        }
+        return true;
+    }
+
+    private void releaseLock(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        } catch (SQLException e) {
+            log.warn("Failed to release the schema migration lock: {}", e.getMessage());
+        }
+    }
+
+    private boolean isMySql(Connection connection) throws SQLException {
+        return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private List<Migration> loadMigrations() {
+        List<Migration> migrations = new ArrayList<>();
+        int previousVersion = 0;
+        for (String line : readResource(INDEX_FILE).split("\\R")) {
+            String fileName = line.trim();
+            if (fileName.isEmpty() || fileName.startsWith("#")) {
+                continue;
+            }
+            Matcher matcher = FILE_NAME.matcher(fileName);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Invalid migration file name: " + fileName);
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            if (version <= previousVersion) {
+                throw new IllegalStateException("Migrations must be listed in ascending version order: " + fileName);
+            }
+            previousVersion = version;
+
+            String script = readResource(fileName).replace("\r\n", "\n");
+            migrations.add(new Migration(version, matcher.group(2).replace('_', ' '), fileName,
+                    checksum(script), splitStatements(script)));
+        }
+        return migrations;
+    }
+
+    private String readResource(String name) {
+        String path = location + name;
+        try (InputStream input = Thread.currentThread().getContextClassLoader().getResourceAsStream(path)) {
+            if (input == null) {
+                throw new IllegalStateException("Migration resource not found: " + path);
+            }
+            return new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read migration resource: " + path, e);
+        }
+    }
+
+    private static List<String> splitStatements(String script) {
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\n")) {
+            if (!line.trim().startsWith("--")) {
+                withoutComments.append(line).append('\n');
+            }
+        }
+        List<String> statements = new ArrayList<>();
+        for (String statement : STATEMENT_END.split(withoutComments)) {
+            if (!statement.isBlank()) {
+                statements.add(statement.trim());
+            }
+        }
+        return statements;
+    }
+
+    private static String checksum(String script) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(script.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Migration {
+        private final int version;
+        private final String description;
+        private final String fileName;
+        private final String checksum;
+        private final List<String> statements;
+    }
+}
@@ -0,0 +1,134 @@
+package org.cinema.config;
+
+import org.cinema.metrics.StatementMetrics;
+import org.hibernate.hikaricp.internal.HikariCPConnectionProvider;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hikari connection provider that times every JDBC statement and reports it to {@link StatementMetrics}.
+ * <p>
+ * Connections handed out by the pool are wrapped in dynamic proxies; statements created from them record
+ * the execution time of every {@code execute*} call together with the types of their bind parameters.
+ * Enabled by {@code jdbc.timing.enabled} in {@code application.properties}.
+ */
+public class TimingConnectionProvider extends HikariCPConnectionProvider {
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return connection == null ? null : (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Handles {@code equals} and {@code hashCode} by identity, as Hibernate keeps statements in hash maps.
+     */
+    private static Object identityMethod(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> args[0] == proxy;
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identityMethod(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            Object result = TimingConnectionProvider.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> wrap((Statement) result, Statement.class, null);
+                case "prepareStatement" -> wrap((Statement) result, PreparedStatement.class, (String) args[0]);
+                case "prepareCall" -> wrap((Statement) result, CallableStatement.class, (String) args[0]);
+                default -> result;
+            };
+        }
+
+        private static Object wrap(Statement statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final List<String> parameterTypes = new ArrayList<>();
+        private String sql;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identityMethod(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return timed(method, args);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                recordParameter((Integer) args[0], name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameterTypes.clear();
+            } else if (name.equals("addBatch") && args != null && args.length == 1) {
+                sql = (String) args[0];
+            }
+            return TimingConnectionProvider.invoke(target, method, args);
+        }
+
+        private Object timed(Method method, Object[] args) throws Throwable {
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+            boolean failed = true;
+            long start = System.nanoTime();
+            try {
+                Object result = TimingConnectionProvider.invoke(target, method, args);
+                failed = false;
+                return result;
+            } finally {
+                StatementMetrics.getInstance().record(statementSql == null ? "<unknown>" : statementSql,
+                        parameterTypes::toString, System.nanoTime() - start, failed);
+            }
+        }
+
+        private void recordParameter(int index, Object value) {
+            while (parameterTypes.size() < index) {
+                parameterTypes.add("?");
+            }
+            parameterTypes.set(index - 1, value == null ? "null" : value.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.cinema.config;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import jakarta.servlet.annotation.WebListener;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.util.PropertiesUtil;
+import org.cinema.util.VirtualThreads;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread, e.g. inside a {@code synchronized}
+ * block around JDBC or socket I/O. Such a thread holds the carrier for the whole wait, so a few of them
+ * can stall every other virtual thread.
+ * <p>
+ * Runs only in the virtual-thread mode and listens to the JFR {@code jdk.VirtualThreadPinned} event in-process.
+ * Every pinning longer than {@code execution.pinning.threshold.millis} is logged with its stack
+ * and counted by the first application frame (or the first non-JDK frame, e.g. in the JDBC driver),
+ * so the offending code can be found from the metrics.
+ */
+@Slf4j
+@WebListener
+public class VirtualThreadDiagnostics implements ServletContextListener {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APPLICATION_PACKAGE = "org.cinema.";
+    private static final int LOGGED_FRAMES = 12;
+    private static final int MAX_LOCATIONS = 200;
+
+    private static final Map<String, LongAdder> pinnedByLocation = new ConcurrentHashMap<>();
+    private static final LongAdder pinnedEvents = new LongAdder();
+    private static RecordingStream recordingStream;
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        start();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        stop();
+    }
+
+    /**
+     * Starts listening for pinned virtual threads if the virtual-thread mode is enabled.
+     */
+    public static synchronized void start() {
+        if (recordingStream != null || !VirtualThreads.isEnabled()) {
+            return;
+        }
+        Duration threshold = Duration.ofMillis(PropertiesUtil.getLong("execution.pinning.threshold.millis", 20));
+        try {
+            RecordingStream stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, VirtualThreadDiagnostics::onPinned);
+            stream.startAsync();
+            recordingStream = stream;
+            log.info("Watching for virtual threads pinned longer than {} ms.", threshold.toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Pinned virtual thread diagnostics are unavailable: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stops listening. Called on application shutdown.
+     */
+    public static synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    /**
+     * Returns the number of pinning events, keyed by the first application frame on the stack.
+     *
+     * @return the counts by location
+     */
+    public static Map<String, Long> getPinnedByLocation() {
+        return pinnedByLocation.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum(), (a, b) -> a, TreeMap::new));
+    }
+
+    public static long getPinnedCount() {
+        return pinnedEvents.sum();
+    }
+
+    private static void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+
+        List<String> described = frames.stream().map(VirtualThreadDiagnostics::describe).toList();
+        String location = described.stream()
+                .filter(frame -> frame.startsWith(APPLICATION_PACKAGE))
+                .findFirst()
+                .or(() -> described.stream().filter(frame -> !isJdkFrame(frame)).findFirst())
+                .orElse("unknown");
+        if (pinnedByLocation.containsKey(location) || pinnedByLocation.size() < MAX_LOCATIONS) {
+            pinnedByLocation.computeIfAbsent(location, key -> new LongAdder()).increment();
+        }
+
+        String stack = described.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\n\tat " + frame)
+                .collect(Collectors.joining());
+        log.warn("Virtual thread '{}' was pinned to its carrier for {} ms at {}:{}",
+                event.getThread() == null ? "unknown" : event.getThread().getJavaName(),
+                event.getDuration().toMillis(), location, stack);
+    }
+
+    private static boolean isJdkFrame(String frame) {
+        return frame.startsWith("java.") || frame.startsWith("jdk.") || frame.startsWith("sun.");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        if (frame.getMethod() == null) {
+            return "unknown";
+        }
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : "");
+    }
+}
@@ -0,0 +1,133 @@
+package org.cinema.controller;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.util.PropertiesUtil;
+import org.cinema.util.VirtualThreads;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Runs movie searches, which may wait seconds for the OMDB API, outside of the container's request threads.
+ * <p>
+ * The request is put into asynchronous mode and the search runs on a dedicated bounded executor.
+ * The search fills a model of request attributes; when it finishes, the model is copied to the request
+ * and the request is dispatched to the view. If the search does not finish within
+ * {@code movie.search.async.timeout.millis}, the view is rendered with an error message instead and
+ * the late result is dropped, as the request object may already be recycled by then.
+ * With {@link VirtualThreads} enabled every search gets its own virtual thread instead of a pool slot;
+ * the number of searches running at once is still capped at the pool size plus the queue size.
+ */
+@Slf4j
+public class AsyncMovieSearch {
+
+    private static final String MESSAGE = "message";
+    private static final String MOVIES = "movies";
+    private static final long TIMEOUT_MILLIS = PropertiesUtil.getLong("movie.search.async.timeout.millis", 10000);
+
+    private static final ExecutorService searchExecutor = createSearchExecutor();
+
+    /**
+     * Starts the search asynchronously and dispatches the request to the view once it is done.
+     * Must be called from a servlet with {@code asyncSupported = true}.
+     *
+     * @param request the current request
+     * @param viewPath the JSP to dispatch to
+     * @param search fills the request attributes, including error messages, into the given model
+     */
+    public static void dispatch(HttpServletRequest request, String viewPath, Consumer<Map<String, Object>> search) {
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(TIMEOUT_MILLIS);
+        AtomicBoolean finished = new AtomicBoolean();
+
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                if (finished.compareAndSet(false, true)) {
+                    log.warn("Movie search did not finish within {} ms.", TIMEOUT_MILLIS);
+                    setError(request, "Error! The movie search took too long. Please try again later.");
+                    asyncContext.dispatch(viewPath);
+                }
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                finished.set(true);
+                log.error("Asynchronous movie search failed: {}", event.getThrowable().getMessage());
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        try {
+            searchExecutor.execute(() -> {
+                Map<String, Object> model = new HashMap<>();
+                try {
+                    search.accept(model);
+                } catch (RuntimeException e) {
+                    log.error("Unexpected error during asynchronous movie search: {}", e.getMessage(), e);
+                    model.put(MESSAGE, "An unexpected error occurred while searching for movies");
+                    model.put(MOVIES, Collections.emptyList());
+                }
+                if (finished.compareAndSet(false, true)) {
+                    model.forEach(request::setAttribute);
+                    asyncContext.dispatch(viewPath);
+                } else {
+                    log.debug("Dropping the result of a movie search that timed out.");
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            finished.set(true);
+            log.warn("Movie search queue is full, rejecting search.");
+            setError(request, "Error! The server is busy. Please try again in a few seconds.");
+            asyncContext.dispatch(viewPath);
+        }
+    }
+
+    /**
+     * Stops the search executor. Called on application shutdown.
+     */
+    public static void shutdown() {
+        searchExecutor.shutdownNow();
+    }
+
+    private static void setError(HttpServletRequest request, String message) {
+        request.setAttribute(MESSAGE, message);
+        request.setAttribute(MOVIES, Collections.emptyList());
+    }
+
+    private static ExecutorService createSearchExecutor() {
+        int threads = PropertiesUtil.getInt("movie.search.threads", 8);
+        int queueSize = PropertiesUtil.getInt("movie.search.queue.size", 64);
+        if (VirtualThreads.isEnabled()) {
+            return VirtualThreads.newBoundedThreadPerTaskExecutor("movie-search-", threads + queueSize);
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                task -> {
+                    Thread thread = new Thread(task, "movie-search-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -8,12 +8,13 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.dto.ticketDTO.TicketResponseDTO;
 import org.cinema.exception.NoDataFoundException;
+import org.cinema.repository.Page;
 import org.cinema.service.TicketService;
 import org.cinema.service.impl.TicketServiceImpl;
+import org.cinema.util.PropertiesUtil;
 import org.cinema.util.ValidationUtil;
 import java.io.IOException;
 import java.util.Collections;
-import java.util.Set;
 
 @Slf4j
 @WebServlet(name = "AdminConfirmServlet", urlPatterns = {"/admin/tickets/confirm"})
@@ -21,6 +22,7 @@ public class AdminConfirmServlet extends HttpServlet {
 
     private static final String VIEW_PATH = "/WEB-INF/views/confirmTickets.jsp";
     private static final String MESSAGE_PARAM = "message";
+    private static final int PAGE_SIZE = PropertiesUtil.getInt("admin.page.size", 20);
     private static final String REDIRECT_PATH = "/admin/tickets/confirm";
 
     private TicketService ticketService;
@@ -38,13 +40,18 @@ public class AdminConfirmServlet extends HttpServlet {
 
         try {
             log.debug("Start to fetch tickets...");
-            Set<TicketResponseDTO> tickets = ticketService.findAll();
-            request.setAttribute("tickets", tickets);
+            Page<TicketResponseDTO> tickets = ticketService.findPageByStatus(request.getParameter("status"),
+                    request.getParameter("cursor"), PAGE_SIZE);
+            request.setAttribute("tickets", tickets.getContent());
+            request.setAttribute("nextCursor", tickets.getNextCursor());
             
             String message = request.getParameter(MESSAGE_PARAM);
             if (message != null && !message.isEmpty()) {
                 request.setAttribute(MESSAGE_PARAM, message);
             }
+        } catch (IllegalArgumentException e) {
+            handleError(request, response, "Error! Invalid input: " + e.getMessage(),
+                    "Validation error during tickets fetching: {}", e, e.getMessage());
         } catch (NoDataFoundException e) {
             handleError(request, response,"Error! " + e.getMessage(),
                     "No tickets found: {}", e, e.getMessage());
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.controller.AsyncMovieSearch;
 import org.cinema.dto.movieDTO.MovieResponseDTO;
 import org.cinema.exception.NoDataFoundException;
 import org.cinema.exception.OmdbApiException;
@@ -14,10 +15,11 @@ import org.cinema.service.impl.MovieServiceImpl;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Slf4j
-@WebServlet(name = "AdminMainPageServlet", urlPatterns = {"/admin"})
+@WebServlet(name = "AdminMainPageServlet", urlPatterns = {"/admin"}, asyncSupported = true)
 public class AdminMainPageServlet extends HttpServlet {
 
     private static final String VIEW_PATH = "/WEB-INF/views/admin.jsp";
@@ -42,43 +44,43 @@ public class AdminMainPageServlet extends HttpServlet {
                 .orElse(null);
 
         if (movieTitle != null) {
-            processMovieSearch(request, movieTitle);
-        } else {
-            log.debug("No movie title provided or movie title is empty");
-            request.setAttribute("movies", Collections.emptyList());
+            AsyncMovieSearch.dispatch(request, VIEW_PATH, model -> processMovieSearch(model, movieTitle));
+            return;
         }
 
+        log.debug("No movie title provided or movie title is empty");
+        request.setAttribute("movies", Collections.emptyList());
         request.getRequestDispatcher(VIEW_PATH).forward(request, response);
     }
 
-    private void processMovieSearch(HttpServletRequest request, String movieTitle) {
+    private void processMovieSearch(Map<String, Object> model, String movieTitle) {
         try {
             log.debug("Searching for movies with title: {}", movieTitle);
             List<MovieResponseDTO> movies = movieService.searchMovies(movieTitle);
-            request.setAttribute("movies", movies);
+            model.put("movies", movies);
             
         } catch (IllegalArgumentException e) {
-            handleError(request, "Error! Invalid input: " + e.getMessage(),
+            handleError(model, "Error! Invalid input: " + e.getMessage(),
                     "Validation error for movie search", e);
                     
         } catch (NoDataFoundException e) {
-            handleError(request, "Error! No movies found for title " + movieTitle,
+            handleError(model, "Error! No movies found for title " + movieTitle,
                     "No movies found for title '{}':{}", e, movieTitle, e.getMessage());
             
         } catch (OmdbApiException e) {
-            handleError(request, "Error! Failed to communicate with OMDB API. Please try again later.",
+            handleError(model, "Error! Failed to communicate with OMDB API. Please try again later.",
                     "OMDB API error for title '{}'", e, movieTitle);
                     
         } catch (Exception e) {
-            handleError(request, "An unexpected error occurred while searching for movies", 
+            handleError(model, "An unexpected error occurred while searching for movies", 
                     "Unexpected error during movie search for title '{}'", e, movieTitle);
         }
     }
 
-    private void handleError(HttpServletRequest request, String userMessage, 
+    private void handleError(Map<String, Object> model, String userMessage,
             String logMessage, Exception e, Object... logParams) {
         log.error(logMessage, logParams, e);
-        request.setAttribute("movies", Collections.emptyList());
-        request.setAttribute("message", userMessage);
+        model.put("movies", Collections.emptyList());
+        model.put("message", userMessage);
     }
 }
\ No newline at end of file
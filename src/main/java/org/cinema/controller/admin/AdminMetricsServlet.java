@@ -0,0 +1,211 @@
+package org.cinema.controller.admin;
+
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.config.HibernateConfig;
+import org.cinema.config.VirtualThreadDiagnostics;
+import org.cinema.metrics.LatencyHistogram;
+import org.cinema.metrics.OperationMetrics;
+import org.cinema.metrics.RepositoryMetrics;
+import org.cinema.util.LoginThrottle;
+import org.cinema.util.OmdbApiUtil;
+import org.cinema.util.PasswordUtil;
+import org.cinema.util.VirtualThreads;
+import org.hibernate.stat.CacheRegionStatistics;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exposes the application metrics in the Prometheus text format: repository operation timers with their
+ * error and rollback counters, the OMDb and second-level cache counters, the password hashing executor,
+ * the login throttle and pinned virtual threads.
+ * <p>
+ * Repository timers are exported as histograms, so percentiles are computed on the Prometheus side,
+ * e.g. {@code histogram_quantile(0.99, rate(cinema_repository_duration_seconds_bucket[5m]))}.
+ */
+@Slf4j
+@WebServlet(name = "AdminMetricsServlet", urlPatterns = {"/admin/metrics"})
+public class AdminMetricsServlet extends HttpServlet {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4";
+    private static final double[] BUCKET_SECONDS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+
+    @Override
+    public void init() {
+        log.info("AdminMetricsServlet initialized.");
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Cache-Control", "no-store");
+
+        PrintWriter out = response.getWriter();
+        writeRepositoryMetrics(out);
+        writeOmdbCacheMetrics(out);
+        writeHibernateCacheMetrics(out);
+        writePasswordHashMetrics(out);
+        writeLoginThrottleMetrics(out);
+        writeVirtualThreadMetrics(out);
+        out.flush();
+    }
+
+    private void writeRepositoryMetrics(PrintWriter out) {
+        List<OperationMetrics> operations = RepositoryMetrics.getInstance().getAll();
+
+        header(out, "cinema_repository_duration_seconds", "histogram", "Duration of repository operations.");
+        for (OperationMetrics operation : operations) {
+            LatencyHistogram.Snapshot snapshot = operation.getLatency().snapshot();
+            String labels = repositoryLabels(operation);
+            for (double bound : BUCKET_SECONDS) {
+                long count = snapshot.getCountAtOrBelow((long) (bound * 1e9));
+                out.printf("cinema_repository_duration_seconds_bucket{%s,le=\"%s\"} %d%n",
+                        labels, format(bound), count);
+            }
+            out.printf("cinema_repository_duration_seconds_bucket{%s,le=\"+Inf\"} %d%n", labels, snapshot.getCount());
+            out.printf("cinema_repository_duration_seconds_sum{%s} %s%n", labels, seconds(snapshot.getSumNanos()));
+            out.printf("cinema_repository_duration_seconds_count{%s} %d%n", labels, snapshot.getCount());
+        }
+
+        header(out, "cinema_repository_duration_max_seconds", "gauge",
+                "Longest repository operation since the application started.");
+        for (OperationMetrics operation : operations) {
+            sample(out, "cinema_repository_duration_max_seconds", repositoryLabels(operation),
+                    seconds(operation.getLatency().snapshot().getMaxNanos()));
+        }
+
+        header(out, "cinema_repository_errors_total", "counter", "Repository operations that failed.");
+        for (OperationMetrics operation : operations) {
+            sample(out, "cinema_repository_errors_total", repositoryLabels(operation),
+                    String.valueOf(operation.getErrors().sum()));
+        }
+
+        header(out, "cinema_repository_rollbacks_total", "counter", "Repository transactions that were rolled back.");
+        for (OperationMetrics operation : operations) {
+            sample(out, "cinema_repository_rollbacks_total", repositoryLabels(operation),
+                    String.valueOf(operation.getRollbacks().sum()));
+        }
+    }
+
+    private void writeOmdbCacheMetrics(PrintWriter out) {
+        Map<String, OmdbApiUtil.CacheStatistics> caches = Map.of(
+                "search", OmdbApiUtil.getSearchCacheStats(),
+                "details", OmdbApiUtil.getDetailsCacheStats());
+
+        header(out, "cinema_omdb_cache_hits_total", "counter", "OMDb cache hits.");
+        caches.forEach((cache, stats) -> sample(out, "cinema_omdb_cache_hits_total", cacheLabel(cache),
+                String.valueOf(stats.getStats().hitCount())));
+        header(out, "cinema_omdb_cache_misses_total", "counter", "OMDb cache misses.");
+        caches.forEach((cache, stats) -> sample(out, "cinema_omdb_cache_misses_total", cacheLabel(cache),
+                String.valueOf(stats.getStats().missCount())));
+        header(out, "cinema_omdb_cache_evictions_total", "counter", "OMDb cache evictions.");
+        caches.forEach((cache, stats) -> sample(out, "cinema_omdb_cache_evictions_total", cacheLabel(cache),
+                String.valueOf(stats.getStats().evictionCount())));
+        header(out, "cinema_omdb_cache_entries", "gauge", "Entries in the OMDb cache.");
+        caches.forEach((cache, stats) -> sample(out, "cinema_omdb_cache_entries", cacheLabel(cache),
+                String.valueOf(stats.getEntryCount())));
+        header(out, "cinema_omdb_cache_weight", "gauge", "Weighted size of the OMDb cache.");
+        caches.forEach((cache, stats) -> sample(out, "cinema_omdb_cache_weight", cacheLabel(cache),
+                String.valueOf(stats.getWeightedSize())));
+    }
+
+    private void writeHibernateCacheMetrics(PrintWriter out) {
+        Map<String, CacheRegionStatistics> regions = HibernateConfig.getCacheRegionStatistics();
+
+        header(out, "cinema_hibernate_cache_hits_total", "counter", "Second-level cache hits.");
+        regions.forEach((region, stats) -> sample(out, "cinema_hibernate_cache_hits_total", regionLabel(region),
+                String.valueOf(stats.getHitCount())));
+        header(out, "cinema_hibernate_cache_misses_total", "counter", "Second-level cache misses.");
+        regions.forEach((region, stats) -> sample(out, "cinema_hibernate_cache_misses_total", regionLabel(region),
+                String.valueOf(stats.getMissCount())));
+        header(out, "cinema_hibernate_cache_puts_total", "counter", "Second-level cache puts.");
+        regions.forEach((region, stats) -> sample(out, "cinema_hibernate_cache_puts_total", regionLabel(region),
+                String.valueOf(stats.getPutCount())));
+    }
+
+    private void writePasswordHashMetrics(PrintWriter out) {
+        PasswordUtil.Stats stats = PasswordUtil.getStats();
+
+        header(out, "cinema_password_hash_operations_total", "counter", "Completed bcrypt operations.");
+        sample(out, "cinema_password_hash_operations_total", null, String.valueOf(stats.getOperations()));
+        header(out, "cinema_password_hash_rejected_total", "counter",
+                "Bcrypt operations rejected because the executor was saturated.");
+        sample(out, "cinema_password_hash_rejected_total", null, String.valueOf(stats.getRejected()));
+        header(out, "cinema_password_hash_seconds_total", "counter", "Time spent hashing passwords.");
+        sample(out, "cinema_password_hash_seconds_total", null, seconds(stats.getTotalHashNanos()));
+        header(out, "cinema_password_hash_max_seconds", "gauge", "Longest bcrypt operation.");
+        sample(out, "cinema_password_hash_max_seconds", null, seconds(stats.getMaxHashNanos()));
+        header(out, "cinema_password_hash_wait_seconds_total", "counter",
+                "Time bcrypt operations spent waiting in the queue.");
+        sample(out, "cinema_password_hash_wait_seconds_total", null, seconds(stats.getTotalWaitNanos()));
+        header(out, "cinema_password_hash_queue_depth", "gauge", "Bcrypt operations waiting in the queue.");
+        sample(out, "cinema_password_hash_queue_depth", null, String.valueOf(stats.getQueueDepth()));
+        header(out, "cinema_password_hash_active_threads", "gauge", "Threads currently hashing passwords.");
+        sample(out, "cinema_password_hash_active_threads", null, String.valueOf(stats.getActiveThreads()));
+    }
+
+    private void writeLoginThrottleMetrics(PrintWriter out) {
+        LoginThrottle throttle = LoginThrottle.getInstance();
+
+        header(out, "cinema_login_throttled_total", "counter", "Login attempts rejected by the throttle.");
+        sample(out, "cinema_login_throttled_total", "key=\"address\"", String.valueOf(throttle.getThrottledByAddress()));
+        sample(out, "cinema_login_throttled_total", "key=\"username\"", String.valueOf(throttle.getThrottledByUsername()));
+        header(out, "cinema_login_throttle_tracked_keys", "gauge", "Addresses and usernames tracked by the throttle.");
+        sample(out, "cinema_login_throttle_tracked_keys", null, String.valueOf(throttle.getTrackedKeys()));
+    }
+
+    private void writeVirtualThreadMetrics(PrintWriter out) {
+        header(out, "cinema_virtual_threads_enabled", "gauge", "Whether blocking work runs on virtual threads.");
+        sample(out, "cinema_virtual_threads_enabled", null, VirtualThreads.isEnabled() ? "1" : "0");
+        header(out, "cinema_virtual_thread_pinned_total", "counter",
+                "Virtual threads pinned to their carrier, by first application frame.");
+        VirtualThreadDiagnostics.getPinnedByLocation().forEach((location, count) -> sample(out,
+                "cinema_virtual_thread_pinned_total", "location=\"" + escape(location) + "\"", String.valueOf(count)));
+    }
+
+    private static void header(PrintWriter out, String name, String type, String help) {
+        out.printf("# HELP %s %s%n", name, help);
+        out.printf("# TYPE %s %s%n", name, type);
+    }
+
+    private static void sample(PrintWriter out, String name, String labels, String value) {
+        if (labels == null) {
+            out.printf("%s %s%n", name, value);
+        } else {
+            out.printf("%s{%s} %s%n", name, labels, value);
+        }
+    }
+
+    private static String repositoryLabels(OperationMetrics operation) {
+        return "repository=\"" + escape(operation.getRepository()) + "\",operation=\""
+                + escape(operation.getOperation()) + "\"";
+    }
+
+    private static String cacheLabel(String cache) {
+        return "cache=\"" + cache + "\"";
+    }
+
+    private static String regionLabel(String region) {
+        return "region=\"" + escape(region) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String seconds(long nanos) {
+        return format(nanos / 1e9);
+    }
+
+    private static String format(double value) {
+        return Double.toString(value);
+    }
+}
@@ -1,11 +1,15 @@
 package org.cinema.controller.admin;
 
 import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.MultipartConfig;
 import jakarta.servlet.annotation.WebServlet;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.dto.filmSessionDTO.BulkScheduleResult;
+import org.cinema.dto.filmSessionDTO.BulkScheduleRow;
 import org.cinema.dto.filmSessionDTO.FilmSessionCreateDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionUpdateDTO;
@@ -13,26 +17,34 @@ import org.cinema.dto.movieDTO.MovieResponseDTO;
 import org.cinema.exception.EntityAlreadyExistException;
 import org.cinema.exception.NoDataFoundException;
 import org.cinema.exception.OmdbApiException;
+import org.cinema.repository.Page;
 import org.cinema.service.MovieService;
 import org.cinema.service.SessionService;
 import org.cinema.service.impl.MovieServiceImpl;
 import org.cinema.service.impl.SessionServiceImpl;
+import org.cinema.util.PropertiesUtil;
+import org.cinema.util.ScheduleImportUtil;
 import org.cinema.util.ValidationUtil;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
 
 @Slf4j
 @WebServlet(name = "AdminSessionServlet", urlPatterns = {"/admin/sessions"})
+@MultipartConfig(maxFileSize = 1024 * 1024, maxRequestSize = 2 * 1024 * 1024)
 public class AdminSessionServlet extends HttpServlet {
 
     private static final String VIEW_PATH = "/WEB-INF/views/sessions.jsp";
     private static final String REDIRECT_PATH = "/admin/sessions";
     private static final String MESSAGE_PARAM = "message";
+    private static final String BULK_FAILURES_ATTRIBUTE = "bulkFailures";
+    private static final int PAGE_SIZE = PropertiesUtil.getInt("admin.page.size", 20);
 
     private SessionService sessionService;
     private MovieService movieService;
@@ -55,9 +67,10 @@ public class AdminSessionServlet extends HttpServlet {
                 handleEditAction(request);
             }
             
-            log.debug("Fetching all sessions...");
-            Set<FilmSessionResponseDTO> filmSessions = sessionService.findAll();
-            request.setAttribute("filmSessions", filmSessions);
+            log.debug("Fetching sessions page...");
+            Page<FilmSessionResponseDTO> filmSessions = sessionService.findPage(request.getParameter("cursor"), PAGE_SIZE);
+            request.setAttribute("filmSessions", filmSessions.getContent());
+            request.setAttribute("nextCursor", filmSessions.getNextCursor());
 
             List<MovieResponseDTO> movies = movieService.findAll();
             request.setAttribute("movies", movies);
@@ -92,6 +105,7 @@ public class AdminSessionServlet extends HttpServlet {
 
             String message = switch (action) {
                 case "add" -> handleAddAction(request);
+                case "bulk" -> handleBulkAction(request);
                 case "edit" -> handleEditSubmitAction(request);
                 case "delete" -> handleDeleteAction(request);
                 default -> {
@@ -148,6 +162,33 @@ public class AdminSessionServlet extends HttpServlet {
         return sessionService.save(createDTO, movieId);
     }
 
+    private String handleBulkAction(HttpServletRequest request) throws IOException, ServletException {
+        Part csvFile = request.getPart("csvFile");
+        List<BulkScheduleRow> rows;
+        if (csvFile != null && csvFile.getSize() > 0) {
+            try (Reader reader = new InputStreamReader(csvFile.getInputStream(), StandardCharsets.UTF_8)) {
+                rows = ScheduleImportUtil.parseCsv(reader);
+            }
+        } else {
+            rows = ScheduleImportUtil.expandRecurrence(request.getParameterValues("movieIds"),
+                    getRequiredParameter(request, "price"), getRequiredParameter(request, "capacity"),
+                    getRequiredParameter(request, "startTime"), getRequiredParameter(request, "endTime"),
+                    getRequiredParameter(request, "fromDate"), getRequiredParameter(request, "toDate"),
+                    request.getParameterValues("days"));
+        }
+
+        BulkScheduleResult result = sessionService.saveAll(rows);
+        if (result.getFailures().isEmpty()) {
+            return result.getCreated() + " film sessions successfully added.";
+        }
+        request.getSession().setAttribute(BULK_FAILURES_ATTRIBUTE, result.getFailures());
+        if (result.getCreated() == 0) {
+            return "Error! No film sessions were added: all " + result.getFailures().size() + " rows were rejected.";
+        }
+        return result.getCreated() + " film sessions successfully added, " + result.getFailures().size()
+                + " rows rejected.";
+    }
+
     private String handleEditSubmitAction(HttpServletRequest request) {
         Long movieId = ValidationUtil.parseLong(getRequiredParameter(request, "movie_id"));
 
@@ -0,0 +1,58 @@
+package org.cinema.controller.admin;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.metrics.StatementMetrics;
+import org.cinema.util.PropertiesUtil;
+import java.io.IOException;
+
+/**
+ * Shows the SQL statements that took the most time in total and the latest slow statements.
+ */
+@Slf4j
+@WebServlet(name = "AdminSqlStatsServlet", urlPatterns = {"/admin/sql"})
+public class AdminSqlStatsServlet extends HttpServlet {
+
+    private static final String VIEW_PATH = "/WEB-INF/views/sqlStats.jsp";
+    private static final int DEFAULT_LIMIT = PropertiesUtil.getInt("admin.sql.top.size", 20);
+    private static final int MAX_LIMIT = 500;
+
+    private StatementMetrics statementMetrics;
+
+    @Override
+    public void init() {
+        statementMetrics = StatementMetrics.getInstance();
+        log.info("AdminSqlStatsServlet initialized.");
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        log.debug("Handling GET request for SQL statistics...");
+        int limit = parseLimit(request.getParameter("limit"));
+
+        request.setAttribute("limit", limit);
+        request.setAttribute("statements", statementMetrics.getTopByTotalTime(limit));
+        request.setAttribute("slowStatements", statementMetrics.getSlowStatements());
+        request.setAttribute("slowThresholdMillis", statementMetrics.getSlowThresholdMillis());
+        request.setAttribute("slowCount", statementMetrics.getSlowCount());
+        request.setAttribute("untrackedCount", statementMetrics.getUntrackedCount());
+        request.getRequestDispatcher(VIEW_PATH).forward(request, response);
+    }
+
+    private int parseLimit(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_LIMIT;
+        }
+        try {
+            return Math.max(1, Math.min(Integer.parseInt(value.trim()), MAX_LIMIT));
+        } catch (NumberFormatException e) {
+            log.warn("Invalid limit for SQL statistics: {}", value);
+            return DEFAULT_LIMIT;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package org.cinema.controller.admin;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.dto.ticketDTO.TicketExportDTO;
+import org.cinema.service.TicketService;
+import org.cinema.service.impl.TicketServiceImpl;
+import org.cinema.util.PropertiesUtil;
+import org.cinema.util.ValidationUtil;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Streams ticket sales for a range of session dates as CSV or NDJSON.
+ * Rows are written to the response as they are read from the database, so memory use
+ * does not depend on the number of exported tickets.
+ */
+@Slf4j
+@WebServlet(name = "AdminTicketExportServlet", urlPatterns = {"/admin/tickets/export"})
+public class AdminTicketExportServlet extends HttpServlet {
+
+    private static final String REDIRECT_PATH = "/admin/tickets";
+    private static final String MESSAGE_PARAM = "message";
+    private static final int FLUSH_EVERY_ROWS = PropertiesUtil.getInt("ticket.export.flush.rows", 500);
+    private static final String CSV_HEADER = "id,username,movie,session_date,start_time,seat,price," +
+            "purchase_time,status,request_type";
+
+    private final JsonFactory jsonFactory = new JsonFactory().setRootValueSeparator(null)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+
+    private TicketService ticketService;
+
+    @Override
+    public void init() {
+        ticketService = TicketServiceImpl.getInstance();
+        log.info("AdminTicketExportServlet initialized.");
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String from = request.getParameter("from");
+        String to = request.getParameter("to");
+        boolean json = "ndjson".equalsIgnoreCase(request.getParameter("format"));
+        log.debug("Handling ticket export from {} to {} as {}...", from, to, json ? "NDJSON" : "CSV");
+
+        try {
+            // Parsed before the headers are set, so only validated dates reach the file name.
+            LocalDate fromDate = ValidationUtil.parseDate(from, "Start date");
+            LocalDate toDate = ValidationUtil.parseDate(to, "End date");
+
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setContentType(json ? "application/x-ndjson" : "text/csv");
+            response.setHeader("Content-Disposition", "attachment; filename=\"tickets_" + fromDate + "_" + toDate
+                    + (json ? ".ndjson" : ".csv") + "\"");
+
+            Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+            RowWriter rowWriter = json ? new JsonRowWriter(writer) : new CsvRowWriter(writer);
+            long count = ticketService.exportTickets(fromDate.toString(), toDate.toString(), rowWriter::write);
+            rowWriter.finish();
+            log.info("Ticket export finished: {} rows.", count);
+        } catch (IllegalArgumentException e) {
+            handleError(request, response, "Error! Invalid input: " + e.getMessage(), e);
+        } catch (Exception e) {
+            handleError(request, response, "An unexpected error occurred during the export", e);
+        }
+    }
+
+    private void handleError(HttpServletRequest request, HttpServletResponse response,
+                             String message, Exception e) throws IOException {
+        if (response.isCommitted()) {
+            log.error("Ticket export aborted after the response was committed: {}", e.getMessage(), e);
+            return;
+        }
+        log.warn("Ticket export failed: {}", e.getMessage(), e);
+        response.reset();
+        request.getSession().setAttribute(MESSAGE_PARAM, message);
+        response.sendRedirect(request.getContextPath() + REDIRECT_PATH);
+    }
+
+    /**
+     * Writes export rows and flushes the response every {@link #FLUSH_EVERY_ROWS} rows.
+     * The header (if any) is flushed right away so the client receives the first bytes
+     * before the query finishes.
+     */
+    private abstract static class RowWriter {
+        protected final Writer writer;
+        private long rows;
+        private boolean started;
+
+        RowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        void write(TicketExportDTO ticket) {
+            try {
+                start();
+                writeRow(ticket);
+                if (++rows % FLUSH_EVERY_ROWS == 0) {
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            start();
+            writer.flush();
+        }
+
+        private void start() throws IOException {
+            if (!started) {
+                writeHeader();
+                writer.flush();
+                started = true;
+            }
+        }
+
+        protected abstract void writeHeader() throws IOException;
+
+        protected abstract void writeRow(TicketExportDTO ticket) throws IOException;
+    }
+
+    private static class CsvRowWriter extends RowWriter {
+
+        CsvRowWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        protected void writeHeader() throws IOException {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+
+        @Override
+        protected void writeRow(TicketExportDTO ticket) throws IOException {
+            writer.write(String.join(",",
+                    String.valueOf(ticket.getId()),
+                    escape(ticket.getUsername()),
+                    escape(ticket.getMovieTitle()),
+                    String.valueOf(ticket.getSessionDate()),
+                    String.valueOf(ticket.getStartTime()),
+                    escape(ticket.getSeatNumber()),
+                    ticket.getPrice() == null ? "" : ticket.getPrice().toPlainString(),
+                    Objects.toString(ticket.getPurchaseTime(), ""),
+                    ticket.getStatus(),
+                    ticket.getRequestType()));
+            writer.write("\r\n");
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+                return "\"" + value.replace("\"", "\"\"") + "\"";
+            }
+            return value;
+        }
+    }
+
+    private class JsonRowWriter extends RowWriter {
+        private final JsonGenerator generator;
+
+        JsonRowWriter(Writer writer) throws IOException {
+            super(writer);
+            this.generator = jsonFactory.createGenerator(writer);
+        }
+
+        @Override
+        protected void writeHeader() {
+        }
+
+        @Override
+        protected void writeRow(TicketExportDTO ticket) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", ticket.getId());
+            generator.writeStringField("username", ticket.getUsername());
+            generator.writeStringField("movie", ticket.getMovieTitle());
+            generator.writeStringField("sessionDate", String.valueOf(ticket.getSessionDate()));
+            generator.writeStringField("startTime", String.valueOf(ticket.getStartTime()));
+            generator.writeStringField("seat", ticket.getSeatNumber());
+            generator.writeNumberField("price", ticket.getPrice());
+            generator.writeStringField("purchaseTime", Objects.toString(ticket.getPurchaseTime(), null));
+            generator.writeStringField("status", ticket.getStatus());
+            generator.writeStringField("requestType", ticket.getRequestType());
+            generator.writeEndObject();
+            generator.flush();
+            writer.write('\n');
+        }
+    }
+}
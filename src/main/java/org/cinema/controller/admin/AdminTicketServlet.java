@@ -6,22 +6,17 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
 import org.cinema.dto.ticketDTO.TicketCreateDTO;
 import org.cinema.dto.ticketDTO.TicketResponseDTO;
 import org.cinema.dto.ticketDTO.TicketUpdateDTO;
-import org.cinema.dto.userDTO.UserResponseDTO;
 import org.cinema.exception.EntityAlreadyExistException;
 import org.cinema.exception.NoDataFoundException;
-import org.cinema.service.SessionService;
+import org.cinema.repository.Page;
 import org.cinema.service.TicketService;
-import org.cinema.service.UserService;
-import org.cinema.service.impl.SessionServiceImpl;
 import org.cinema.service.impl.TicketServiceImpl;
-import org.cinema.service.impl.UserServiceImpl;
+import org.cinema.util.PropertiesUtil;
 import org.cinema.util.ValidationUtil;
 import java.io.IOException;
-import java.util.Set;
 
 @Slf4j
 @WebServlet(name = "AdminTicketServlet", urlPatterns = {"/admin/tickets"})
@@ -30,16 +25,13 @@ public class AdminTicketServlet extends HttpServlet {
     private static final String VIEW_PATH = "/WEB-INF/views/tickets.jsp";
     private static final String REDIRECT_PATH = "/admin/tickets";
     private static final String MESSAGE_PARAM = "message";
+    private static final int PAGE_SIZE = PropertiesUtil.getInt("admin.page.size", 20);
 
     private TicketService ticketService;
-    private SessionService sessionService;
-    private UserService userService;
 
     @Override
     public void init() {
         ticketService = TicketServiceImpl.getInstance();
-        userService = UserServiceImpl.getInstance();
-        sessionService = SessionServiceImpl.getInstance();
         log.info("AdminTicketServlet initialized.");
     }
 
@@ -102,14 +94,9 @@ public class AdminTicketServlet extends HttpServlet {
     private void loadDataForView(HttpServletRequest request) {
         log.debug("Loading data for view...");
 
-        Set<UserResponseDTO> users = userService.findAll();
-        request.setAttribute("users", users);
-
-        Set<FilmSessionResponseDTO> filmSessions = sessionService.findAll();
-        request.setAttribute("filmSessions", filmSessions);
-
-        Set<TicketResponseDTO> tickets = ticketService.findAll();
-        request.setAttribute("tickets", tickets);
+        Page<TicketResponseDTO> tickets = ticketService.findPage(request.getParameter("cursor"), PAGE_SIZE);
+        request.setAttribute("tickets", tickets.getContent());
+        request.setAttribute("nextCursor", tickets.getNextCursor());
     }
 
     private String handleAddAction(HttpServletRequest request) {
@@ -10,12 +10,14 @@ import org.cinema.dto.userDTO.UserCreateDTO;
 import org.cinema.dto.userDTO.UserResponseDTO;
 import org.cinema.exception.EntityAlreadyExistException;
 import org.cinema.exception.NoDataFoundException;
+import org.cinema.exception.ServiceBusyException;
+import org.cinema.repository.Page;
 import org.cinema.service.UserService;
 import org.cinema.service.impl.UserServiceImpl;
+import org.cinema.util.PropertiesUtil;
 import org.cinema.util.ValidationUtil;
 import java.io.IOException;
 import java.util.Collections;
-import java.util.Set;
 
 @Slf4j
 @WebServlet(name = "AdminUserServlet", urlPatterns = {"/admin/users"})
@@ -24,6 +26,7 @@ public class AdminUserServlet extends HttpServlet {
     private static final String VIEW_PATH = "/WEB-INF/views/users.jsp";
     private static final String REDIRECT_PATH = "/admin/users";
     private static final String MESSAGE_PARAM = "message";
+    private static final int PAGE_SIZE = PropertiesUtil.getInt("admin.page.size", 20);
 
     private UserService userService;
 
@@ -75,7 +78,7 @@ public class AdminUserServlet extends HttpServlet {
         } catch (IllegalArgumentException e) {
             log.warn("Validation error: {}", e.getMessage(), e);
             request.getSession().setAttribute(MESSAGE_PARAM, "Error! Invalid input: " + e.getMessage());
-        } catch (NoDataFoundException | EntityAlreadyExistException e) {
+        } catch (NoDataFoundException | EntityAlreadyExistException | ServiceBusyException e) {
             log.warn("Business error: {}", "Error! " + e.getMessage(), e);
             request.getSession().setAttribute(MESSAGE_PARAM, e.getMessage());
         } catch (Exception e) {
@@ -100,8 +103,9 @@ public class AdminUserServlet extends HttpServlet {
 
     private void loadDataForView(HttpServletRequest request) {
         log.debug("Loading data for view...");
-        Set<UserResponseDTO> users = userService.findAll();
-        request.setAttribute("users", users);
+        Page<UserResponseDTO> users = userService.findPage(request.getParameter("cursor"), PAGE_SIZE);
+        request.setAttribute("users", users.getContent());
+        request.setAttribute("nextCursor", users.getNextCursor());
     }
 
     private void setEmptyCollections(HttpServletRequest request) {
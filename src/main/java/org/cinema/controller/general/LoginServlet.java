@@ -8,9 +8,12 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.dto.userDTO.UserUpdateDTO;
+import org.cinema.exception.ServiceBusyException;
 import org.cinema.service.UserService;
 import org.cinema.service.impl.UserServiceImpl;
+import org.cinema.util.LoginThrottle;
 import java.io.IOException;
+import java.time.Duration;
 
 @Slf4j
 @WebServlet(name = "LoginServlet", urlPatterns = {"/login"})
@@ -21,11 +24,15 @@ public class LoginServlet extends HttpServlet {
     private static final String USER_REDIRECT_PATH = "/user";
     private static final String MESSAGE_PARAM = "message";
 
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
     private UserService loginService;
+    private LoginThrottle loginThrottle;
 
     @Override
     public void init() {
         this.loginService = UserServiceImpl.getInstance();
+        this.loginThrottle = LoginThrottle.getInstance();
         log.info("LoginServlet initialized.");
     }
 
@@ -46,8 +53,20 @@ public class LoginServlet extends HttpServlet {
                     .username(getRequiredParameter(request, "login"))
                     .password(getRequiredParameter(request, "password"))
                     .build();
+
+            Duration wait = loginThrottle.tryAcquire(request.getRemoteAddr(), userUpdateDTO.getUsername());
+            if (!wait.isZero()) {
+                rejectThrottled(request, response, wait);
+                return;
+            }
             processLogin(request, response, userUpdateDTO);
 
+        } catch (ServiceBusyException e) {
+            log.warn("Login rejected, password hashing is saturated.");
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(e.getRetryAfterSeconds()));
+            handleError(request, "Error! " + e.getMessage());
+            forwardToLoginPage(request, response);
         } catch (IllegalArgumentException e) {
             log.warn("Login validation error: {}", e.getMessage());
             handleError(request, "Error! " + e.getMessage());
@@ -80,6 +99,15 @@ public class LoginServlet extends HttpServlet {
         }
     }
 
+    private void rejectThrottled(HttpServletRequest request, HttpServletResponse response, Duration wait)
+            throws ServletException, IOException {
+        long retryAfterSeconds = Math.max(1, wait.toSeconds() + 1);
+        response.setStatus(SC_TOO_MANY_REQUESTS);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+        handleError(request, "Error! Too many login attempts. Please try again in " + retryAfterSeconds + " seconds.");
+        forwardToLoginPage(request, response);
+    }
+
     private String getRequiredParameter(HttpServletRequest request, String paramName) {
         String value = request.getParameter(paramName);
         if (value == null || value.trim().isEmpty()) {
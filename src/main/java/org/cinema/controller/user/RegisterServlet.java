@@ -8,6 +8,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.dto.userDTO.UserUpdateDTO;
 import org.cinema.exception.EntityAlreadyExistException;
+import org.cinema.exception.ServiceBusyException;
 import org.cinema.service.UserService;
 import org.cinema.service.impl.UserServiceImpl;
 import java.io.IOException;
@@ -54,6 +55,13 @@ public class RegisterServlet extends HttpServlet {
             userService.register(userCreateDTO);
             handleSuccessfulRegistration(request, response);
             return;
+        } catch (ServiceBusyException e) {
+            log.warn("Registration rejected, password hashing is saturated.");
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", String.valueOf(e.getRetryAfterSeconds()));
+            request.setAttribute(MESSAGE_PARAM, e.getMessage());
+            request.getRequestDispatcher(VIEW_PATH).forward(request, response);
+            return;
         } catch (IllegalArgumentException e) {
             handleRegistrationError(request, "Invalid input: " + e.getMessage(),
                     "Validation error during registration attempt", e);
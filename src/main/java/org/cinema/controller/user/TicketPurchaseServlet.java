@@ -15,7 +15,11 @@ import org.cinema.service.TicketService;
 import org.cinema.service.impl.SessionServiceImpl;
 import org.cinema.service.impl.TicketServiceImpl;
 import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 @Slf4j
@@ -63,7 +67,8 @@ public class TicketPurchaseServlet extends HttpServlet {
             String sessionId = request.getParameter("sessionId");
             if (sessionId != null && !sessionId.trim().isEmpty()) {
                 log.debug("Loading details for session ID: {}", sessionId);
-                FilmSessionResponseDTO selectedSession = ticketService.getSessionDetailsWithTickets(sessionId);
+                Long userId = (Long) request.getSession().getAttribute("userId");
+                FilmSessionResponseDTO selectedSession = ticketService.getSessionDetailsWithTickets(sessionId, userId);
                 request.setAttribute("selectedSession", selectedSession);
                 request.setAttribute("sessionId", sessionId);
             }
@@ -95,17 +100,29 @@ public class TicketPurchaseServlet extends HttpServlet {
             Long userId = (Long) request.getSession().getAttribute("userId");
             String sessionId = request.getParameter("sessionId");
             String seatNumber = request.getParameter("seatNumber");
+            String action = request.getParameter("action");
 
-            log.debug("Processing ticket purchase for user ID: {}, session ID: {}, seat: {}",
-                    userId, sessionId, seatNumber);
+            log.debug("Processing ticket {} for user ID: {}, session ID: {}, seat: {}",
+                    action, userId, sessionId, seatNumber);
 
-            TicketCreateDTO ticketCreateDTO = TicketCreateDTO.builder()
-                    .userId(userId)
-                    .sessionId(Long.valueOf(sessionId))
-                    .seatNumber(seatNumber)
-                    .build();
+            List<String> seatNumbers = parseSeatNumbers(seatNumber);
 
-            String message = ticketService.purchaseTicket(ticketCreateDTO);
+            if ("hold".equals(action)) {
+                if (seatNumbers.size() != 1) {
+                    throw new IllegalArgumentException("Select exactly one seat to hold.");
+                }
+                TicketCreateDTO ticketCreateDTO = TicketCreateDTO.builder()
+                        .userId(userId)
+                        .sessionId(Long.valueOf(sessionId))
+                        .seatNumber(seatNumbers.get(0))
+                        .build();
+                String message = ticketService.holdSeat(ticketCreateDTO);
+                response.sendRedirect(request.getContextPath() + "/user/tickets/purchase?sessionId=" + sessionId +
+                        "&" + MESSAGE_PARAM + "=" + URLEncoder.encode(message, StandardCharsets.UTF_8));
+                return;
+            }
+
+            String message = ticketService.purchaseTickets(userId, Long.valueOf(sessionId), seatNumbers);
             response.sendRedirect(request.getContextPath() + "/user/tickets/purchase?" +
                     MESSAGE_PARAM + "=" + response.encodeRedirectURL(message));
             return;
@@ -124,6 +141,16 @@ public class TicketPurchaseServlet extends HttpServlet {
         response.sendRedirect(request.getContextPath() + "/user/tickets/purchase");
     }
 
+    private List<String> parseSeatNumbers(String seatNumbers) {
+        if (seatNumbers == null || seatNumbers.isBlank()) {
+            throw new IllegalArgumentException("Seat number cannot be null or empty.");
+        }
+        return Arrays.stream(seatNumbers.split(","))
+                .map(String::trim)
+                .filter(seat -> !seat.isEmpty())
+                .toList();
+    }
+
     private void handleError(HttpServletRequest request, String userMessage,
             String logMessage, Exception e, Object... logParams) {
         if (e != null) {
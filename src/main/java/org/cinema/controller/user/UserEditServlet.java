@@ -11,6 +11,7 @@ import org.cinema.dto.userDTO.UserResponseDTO;
 import org.cinema.dto.userDTO.UserUpdateDTO;
 import org.cinema.exception.EntityAlreadyExistException;
 import org.cinema.exception.NoDataFoundException;
+import org.cinema.exception.ServiceBusyException;
 import org.cinema.service.UserService;
 import org.cinema.service.impl.UserServiceImpl;
 import java.io.IOException;
@@ -87,7 +88,7 @@ public class UserEditServlet extends HttpServlet {
         } catch (IllegalArgumentException e) {
             handleSessionError(request, "Error! Invalid input: " + e.getMessage(),
                     "Validation error during profile update", e);
-        } catch (NoDataFoundException | EntityAlreadyExistException e) {
+        } catch (NoDataFoundException | EntityAlreadyExistException | ServiceBusyException e) {
             handleSessionError(request, "Error! " + e.getMessage(),
                     "Business error during profile update: {}", e, e.getMessage());
         } catch (Exception e) {
@@ -6,6 +6,7 @@ import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.controller.AsyncMovieSearch;
 import org.cinema.dto.movieDTO.MovieResponseDTO;
 import org.cinema.exception.NoDataFoundException;
 import org.cinema.exception.OmdbApiException;
@@ -14,9 +15,10 @@ import org.cinema.service.impl.MovieServiceImpl;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
-@WebServlet(name = "UserMainPageServlet", urlPatterns = {"/user"})
+@WebServlet(name = "UserMainPageServlet", urlPatterns = {"/user"}, asyncSupported = true)
 public class UserMainPageServlet extends HttpServlet {
 
     private static final String VIEW_PATH = "/WEB-INF/views/user.jsp";
@@ -36,43 +38,46 @@ public class UserMainPageServlet extends HttpServlet {
             throws ServletException, IOException {
         log.debug("Handling GET request for search movies...");
 
-        try {
-            String movieTitle = request.getParameter("movieTitle");
-            
-            if (movieTitle != null && !movieTitle.trim().isEmpty()) {
-                log.debug("Start to fetch movies with title: {}", movieTitle);
-                List<MovieResponseDTO> movies = movieService.searchMovies(movieTitle.trim());
-                request.setAttribute(MOVIES, movies);
-            } else {
-                log.debug("No movie title provided or movie title is empty.");
-                request.setAttribute(MOVIES, Collections.emptyList());
-            }
+        String message = request.getParameter(MESSAGE);
+        if (message != null && !message.isEmpty()) {
+            request.setAttribute(MESSAGE, message);
+        }
 
-            String message = request.getParameter(MESSAGE);
-            if (message != null && !message.isEmpty()) {
-                request.setAttribute(MESSAGE, message);
-            }
+        String movieTitle = request.getParameter("movieTitle");
+        if (movieTitle != null && !movieTitle.trim().isEmpty()) {
+            AsyncMovieSearch.dispatch(request, VIEW_PATH, model -> processMovieSearch(model, movieTitle.trim()));
+            return;
+        }
+
+        log.debug("No movie title provided or movie title is empty.");
+        request.setAttribute(MOVIES, Collections.emptyList());
+        request.getRequestDispatcher(VIEW_PATH).forward(request, response);
+    }
 
+    private void processMovieSearch(Map<String, Object> model, String movieTitle) {
+        try {
+            log.debug("Start to fetch movies with title: {}", movieTitle);
+            List<MovieResponseDTO> movies = movieService.searchMovies(movieTitle);
+            model.put(MOVIES, movies);
         } catch (IllegalArgumentException e) {
-            handleError(request, "Error! Invalid input: " + e.getMessage(),
+            handleError(model, "Error! Invalid input: " + e.getMessage(),
                     "Validation error during movie search", e);
         } catch (NoDataFoundException e) {
-            handleError(request, "Error! " + e.getMessage(),
+            handleError(model, "Error! " + e.getMessage(),
                     "No movies found: {}", e, e.getMessage());
         } catch (OmdbApiException e) {
-            handleError(request, "Error! Failed to communicate with OMDB API. Please try again later.",
+            handleError(model, "Error! Failed to communicate with OMDB API. Please try again later.",
                     "OMDB API error during movie search: {}", e, e.getMessage());
         } catch (Exception e) {
-            handleError(request, "An unexpected error occurred while searching for movies",
+            handleError(model, "An unexpected error occurred while searching for movies",
                     "Unexpected error during movie search: {}", e, e.getMessage());
         }
-        request.getRequestDispatcher(VIEW_PATH).forward(request, response);
     }
 
-    private void handleError(HttpServletRequest request, String userMessage,
+    private void handleError(Map<String, Object> model, String userMessage,
             String logMessage, Exception e, Object... logParams) {
         log.error(logMessage, logParams, e);
-        request.setAttribute(MESSAGE, userMessage);
-        request.setAttribute(MOVIES, Collections.emptyList());
+        model.put(MESSAGE, userMessage);
+        model.put(MOVIES, Collections.emptyList());
     }
 }
@@ -0,0 +1,26 @@
+package org.cinema.dto.filmSessionDTO;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.List;
+
+/**
+ * Outcome of a bulk schedule: the number of created sessions and the rows that were rejected.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BulkScheduleResult {
+
+    private final int created;
+    private final List<RowFailure> failures;
+
+    /**
+     * A rejected row and the reason it was rejected.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class RowFailure {
+        private final int line;
+        private final String reason;
+    }
+}
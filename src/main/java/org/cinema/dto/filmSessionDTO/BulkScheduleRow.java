@@ -0,0 +1,20 @@
+package org.cinema.dto.filmSessionDTO;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One film session of a bulk schedule, as entered in the CSV file or expanded from a recurrence rule.
+ * Values are kept as text so that every row can be validated on its own and rejected with its line number.
+ */
+@Data
+@Builder
+public class BulkScheduleRow {
+    private int line;
+    private String movieId;
+    private String price;
+    private String date;
+    private String startTime;
+    private String endTime;
+    private String capacity;
+}
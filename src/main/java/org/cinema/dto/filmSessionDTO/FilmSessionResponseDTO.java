@@ -4,12 +4,11 @@ import lombok.Builder;
 import lombok.Data;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 public class FilmSessionResponseDTO {
     private Long id;
     private Long movieId;
@@ -19,5 +18,7 @@ public class FilmSessionResponseDTO {
     private LocalTime startTime;
     private LocalTime endTime;
     private int capacity;
-    private List<Integer> takenSeats;
+    private SeatAvailability seats;
+    private Integer heldSeat;
+    private LocalDateTime heldUntil;
 }
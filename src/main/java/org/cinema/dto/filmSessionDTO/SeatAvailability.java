@@ -0,0 +1,55 @@
+package org.cinema.dto.filmSessionDTO;
+
+import lombok.Getter;
+import java.util.BitSet;
+
+/**
+ * Taken/free state of every seat of a film session, backed by a {@link BitSet}.
+ * Seat numbers are 1-based; seat {@code n} is stored in bit {@code n - 1}.
+ * Lookups take constant time, so rendering the seat map is linear in the hall capacity.
+ */
+public class SeatAvailability {
+
+    @Getter
+    private final int capacity;
+    private final BitSet taken;
+
+    /**
+     * Creates the availability of a hall in which all seats are free.
+     *
+     * @param capacity the number of seats in the hall.
+     */
+    public SeatAvailability(int capacity) {
+        this.capacity = capacity;
+        this.taken = new BitSet(capacity);
+    }
+
+    /**
+     * Marks a seat as taken. Seat numbers outside the hall are ignored.
+     *
+     * @param seat the 1-based seat number.
+     */
+    public void markTaken(int seat) {
+        if (seat > 0 && seat <= capacity) {
+            taken.set(seat - 1);
+        }
+    }
+
+    /**
+     * Checks whether a seat is taken.
+     *
+     * @param seat the 1-based seat number.
+     * @return {@code true} if the seat is taken.
+     */
+    public boolean isTaken(int seat) {
+        return seat > 0 && seat <= capacity && taken.get(seat - 1);
+    }
+
+    public int getTakenCount() {
+        return taken.cardinality();
+    }
+
+    public int getFreeCount() {
+        return capacity - taken.cardinality();
+    }
+}
@@ -0,0 +1,24 @@
+package org.cinema.dto.ticketDTO;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+@Data
+@Builder
+public class TicketExportDTO {
+    private Long id;
+    private String username;
+    private String movieTitle;
+    private LocalDate sessionDate;
+    private LocalTime startTime;
+    private String seatNumber;
+    private BigDecimal price;
+    private LocalDateTime purchaseTime;
+    private String status;
+    private String requestType;
+}
@@ -0,0 +1,19 @@
+package org.cinema.exception;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a bounded resource, such as the password hashing executor, is saturated and the request
+ * is rejected instead of queued. Controllers answer it with {@code 503 Service Unavailable} and a
+ * {@code Retry-After} header.
+ */
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public ServiceBusyException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
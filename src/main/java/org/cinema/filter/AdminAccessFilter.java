@@ -9,7 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 
 @Slf4j
-@WebFilter("/admin/*")
+@WebFilter(urlPatterns = "/admin/*", asyncSupported = true)
 public class AdminAccessFilter implements Filter {
 
     @Override
@@ -10,7 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 
 @Slf4j
-@WebFilter("/user/*")
+@WebFilter(urlPatterns = "/user/*", asyncSupported = true)
 public class UserAccessFilter implements Filter {
 
     @Override
@@ -0,0 +1,34 @@
+package org.cinema.metrics;
+
+import lombok.Getter;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timer and failure counters of one named repository operation.
+ */
+@Getter
+public class OperationMetrics {
+
+    private final String repository;
+    private final String operation;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rollbacks = new LongAdder();
+
+    OperationMetrics(String repository, String operation) {
+        this.repository = repository;
+        this.operation = operation;
+    }
+
+    public void recordLatency(long nanos) {
+        latency.record(nanos);
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public void recordRollback() {
+        rollbacks.increment();
+    }
+}
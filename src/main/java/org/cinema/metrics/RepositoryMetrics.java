@@ -0,0 +1,83 @@
+package org.cinema.metrics;
+
+import lombok.Getter;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the timers of all repository operations, keyed by repository and operation name.
+ * It also tracks the operation running on the current thread, so that lower layers such as the
+ * JDBC statement timing can attribute their work to a repository method.
+ */
+public class RepositoryMetrics {
+
+    @Getter
+    private static final RepositoryMetrics instance = new RepositoryMetrics();
+
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private final ThreadLocal<OperationMetrics> currentOperation = new ThreadLocal<>();
+
+    /**
+     * Returns the metrics of an operation, registering them on first use.
+     * Callers should keep the returned instance instead of looking it up on every call.
+     *
+     * @param repository the name of the repository, e.g. {@code TicketRepositoryImpl}.
+     * @param operation the name of the operation, e.g. {@code getTicketsBySession}.
+     * @return the metrics of the operation.
+     */
+    public OperationMetrics get(String repository, String operation) {
+        return operations.computeIfAbsent(repository + '.' + operation,
+                key -> new OperationMetrics(repository, operation));
+    }
+
+    /**
+     * Returns the metrics of all operations, ordered by repository and operation name.
+     *
+     * @return the registered operations.
+     */
+    public List<OperationMetrics> getAll() {
+        Collection<OperationMetrics> all = operations.values();
+        return all.stream()
+                .sorted(Comparator.comparing(OperationMetrics::getRepository)
+                        .thenComparing(OperationMetrics::getOperation))
+                .toList();
+    }
+
+    /**
+     * Marks the operation as running on the current thread.
+     *
+     * @param operation the operation that starts.
+     * @return the operation that was running before, to be passed to {@link #exit(OperationMetrics)}.
+     */
+    public OperationMetrics enter(OperationMetrics operation) {
+        OperationMetrics previous = currentOperation.get();
+        currentOperation.set(operation);
+        return previous;
+    }
+
+    /**
+     * Restores the operation that was running before {@link #enter(OperationMetrics)}.
+     *
+     * @param previous the value returned by {@code enter}.
+     */
+    public void exit(OperationMetrics previous) {
+        if (previous == null) {
+            currentOperation.remove();
+        } else {
+            currentOperation.set(previous);
+        }
+    }
+
+    /**
+     * Returns the repository operation running on the current thread.
+     *
+     * @return the operation as {@code Repository.operation}, or {@code null} outside of repository calls.
+     */
+    public String getCurrentOperationName() {
+        OperationMetrics operation = currentOperation.get();
+        return operation == null ? null : operation.getRepository() + '.' + operation.getOperation();
+    }
+}
@@ -0,0 +1,24 @@
+package org.cinema.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * One execution of a statement that took longer than the slow query threshold.
+ * Bind parameters are kept as their types only, so that no user data ends up in the log.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SlowStatement {
+    private final LocalDateTime executedAt;
+    private final String sql;
+    private final String parameters;
+    private final long durationNanos;
+    private final String caller;
+    private final boolean failed;
+
+    public double getDurationMillis() {
+        return durationNanos / 1e6;
+    }
+}
@@ -0,0 +1,125 @@
+package org.cinema.metrics;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.util.PropertiesUtil;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timings of the SQL statements executed through JDBC.
+ * <p>
+ * Every statement text gets aggregated counters, capped at {@code jdbc.statement.stats.max} distinct texts.
+ * Executions slower than {@code jdbc.slow.query.threshold.millis} are logged with the repository method
+ * that issued them and kept in a ring buffer of the last {@code jdbc.slow.query.log.size} slow statements.
+ */
+@Slf4j
+public class StatementMetrics {
+
+    private static final long SLOW_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(
+            PropertiesUtil.getLong("jdbc.slow.query.threshold.millis", 200));
+    private static final int SLOW_LOG_SIZE = PropertiesUtil.getInt("jdbc.slow.query.log.size", 100);
+    private static final int MAX_STATEMENTS = PropertiesUtil.getInt("jdbc.statement.stats.max", 1000);
+
+    @Getter
+    private static final StatementMetrics instance = new StatementMetrics();
+
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<SlowStatement> slowStatements = new AtomicReferenceArray<>(SLOW_LOG_SIZE);
+    private final AtomicLong slowCount = new AtomicLong();
+    private final LongAdder untracked = new LongAdder();
+
+    /**
+     * Records one execution of a statement.
+     *
+     * @param sql the statement text.
+     * @param parameters supplies the bind parameter types; only called for slow statements.
+     * @param nanos the execution time in nanoseconds.
+     * @param failed whether the statement threw an exception.
+     */
+    public void record(String sql, ParameterShape parameters, long nanos, boolean failed) {
+        StatementStats stats = statements.get(sql);
+        if (stats == null) {
+            if (statements.size() < MAX_STATEMENTS) {
+                stats = statements.computeIfAbsent(sql, StatementStats::new);
+            } else {
+                untracked.increment();
+            }
+        }
+        if (stats != null) {
+            stats.record(nanos, failed);
+        }
+
+        if (nanos >= SLOW_THRESHOLD_NANOS) {
+            String caller = RepositoryMetrics.getInstance().getCurrentOperationName();
+            SlowStatement slow = new SlowStatement(LocalDateTime.now(), sql, parameters.describe(), nanos,
+                    caller, failed);
+            slowStatements.set((int) (slowCount.getAndIncrement() % SLOW_LOG_SIZE), slow);
+            log.warn("Slow SQL ({} ms) in {}: {} {}", TimeUnit.NANOSECONDS.toMillis(nanos),
+                    caller == null ? "unknown caller" : caller, sql, slow.getParameters());
+        }
+    }
+
+    /**
+     * Returns the statements that took the most time in total.
+     *
+     * @param limit the maximum number of statements.
+     * @return the statements, most expensive first.
+     */
+    public List<StatementStats> getTopByTotalTime(int limit) {
+        return statements.values().stream()
+                .sorted(Comparator.comparingLong(StatementStats::getTotalNanos).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Returns the slow statements still held in the ring buffer.
+     *
+     * @return the slow statements, newest first.
+     */
+    public List<SlowStatement> getSlowStatements() {
+        long last = slowCount.get();
+        List<SlowStatement> result = new ArrayList<>(SLOW_LOG_SIZE);
+        for (long i = last - 1; i >= Math.max(0, last - SLOW_LOG_SIZE); i--) {
+            SlowStatement slow = slowStatements.get((int) (i % SLOW_LOG_SIZE));
+            if (slow != null) {
+                result.add(slow);
+            }
+        }
+        return result;
+    }
+
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(SLOW_THRESHOLD_NANOS);
+    }
+
+    public long getSlowCount() {
+        return slowCount.get();
+    }
+
+    /**
+     * Returns the number of executions not aggregated because the limit of distinct statements was reached.
+     *
+     * @return the number of untracked executions.
+     */
+    public long getUntrackedCount() {
+        return untracked.sum();
+    }
+
+    /**
+     * Describes the bind parameters of a statement, e.g. {@code [Long, String, null]}.
+     */
+    @FunctionalInterface
+    public interface ParameterShape {
+        String describe();
+    }
+}
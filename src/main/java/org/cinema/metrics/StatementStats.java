@@ -0,0 +1,59 @@
+package org.cinema.metrics;
+
+import lombok.Getter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated timings of one SQL statement text.
+ */
+public class StatementStats {
+
+    @Getter
+    private final String sql;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    StatementStats(String sql) {
+        this.sql = sql;
+    }
+
+    void record(long nanos, boolean failed) {
+        count.increment();
+        totalNanos.add(nanos);
+        if (failed) {
+            errors.increment();
+        }
+        long currentMax = maxNanos.get();
+        while (nanos > currentMax && !maxNanos.compareAndSet(currentMax, nanos)) {
+            currentMax = maxNanos.get();
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public double getTotalMillis() {
+        return getTotalNanos() / 1e6;
+    }
+
+    public double getMeanMillis() {
+        long executions = getCount();
+        return executions == 0 ? 0 : getTotalMillis() / executions;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1e6;
+    }
+}
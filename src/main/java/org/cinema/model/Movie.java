@@ -1,12 +1,17 @@
 package org.cinema.model;
 
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import javax.persistence.*;
 import java.math.BigDecimal;
 
 @Data
 @Entity
-@Table(name = "movies")
+@Table(name = "movies", uniqueConstraints = @UniqueConstraint(
+        name = "uk_movies_title_year", columnNames = {"title", "year"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "movie")
 public class Movie {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,7 +22,10 @@ public class Movie {
 
     private String year;
     private String poster;
+
+    @Column(length = 65535)
     private String plot;
+
     private String genre;
     private String imdbRating;
     private String runtime;
@@ -3,7 +3,14 @@ package org.cinema.repository;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.exception.NoDataFoundException;
 import org.hibernate.SessionFactory;
+import org.hibernate.query.Query;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -15,6 +22,18 @@ import java.util.Optional;
 @Slf4j
 public abstract class AbstractHibernateRepository<T> extends BaseRepository {
 
+    /**
+     * Number of entities flushed per JDBC batch; matches {@code hibernate.jdbc.batch_size}.
+     */
+    protected static final int BATCH_SIZE = 50;
+
+    /**
+     * Upper bound for the size of a single page.
+     */
+    protected static final int MAX_PAGE_SIZE = 100;
+
+    private static final String CURSOR_SEPARATOR = "\u001F";
+
     protected Class<T> entityClass;
 
     /**
@@ -34,16 +53,48 @@ public abstract class AbstractHibernateRepository<T> extends BaseRepository {
      * @param entity the entity to save.
      */
     public void save(T entity) {
-        executeTransaction(session -> session.save(entity));
+        executeTransaction("save", session -> {
+            session.save(entity);
+            afterCommit(session, () -> afterSave(entity));
+        });
+    }
+
+    /**
+     * Saves all specified entities in a single transaction.
+     * The persistence context is flushed and cleared every {@link #BATCH_SIZE} entities so that
+     * inserts are sent to the database as JDBC batches. Either all entities are saved or none.
+     *
+     * @param entities the entities to save.
+     */
+    public void saveAll(List<T> entities) {
+        executeTransaction("saveAll", session -> {
+            for (int i = 0; i < entities.size(); i++) {
+                session.save(entities.get(i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            afterCommit(session, () -> entities.forEach(this::afterSave));
+        });
     }
 
     /**
      * Updates the specified entity in the database.
+     * Inside a {@link UnitOfWork} the session may already hold an instance with the same ID,
+     * so the state is merged onto it instead of reattaching the given instance.
      *
      * @param entity the entity to update.
      */
     public void update(T entity) {
-        executeTransaction(session -> session.update(entity));
+        executeTransaction("update", session -> {
+            if (isInUnitOfWork()) {
+                session.merge(entity);
+            } else {
+                session.update(entity);
+            }
+            afterCommit(session, () -> afterUpdate(entity));
+        });
     }
 
     /**
@@ -53,16 +104,42 @@ public abstract class AbstractHibernateRepository<T> extends BaseRepository {
      * @param id the ID of the entity to delete.
      */
     public void delete(long id) {
-        executeTransaction(session -> {
+        executeTransaction("delete", session -> {
             T entity = session.get(entityClass, id);
             if (entity != null) {
                 session.delete(entity);
+                afterCommit(session, () -> afterDelete(id));
              } else {
                 throw new NoDataFoundException("Entity with ID '" + id + "' not found.");
             }
         });
     }
 
+    /**
+     * Called once a {@link #save} or {@link #saveAll} commits, for every saved entity.
+     * Does nothing by default; repositories that keep derived state in memory override it.
+     *
+     * @param entity the saved entity, with its generated ID.
+     */
+    protected void afterSave(T entity) {
+    }
+
+    /**
+     * Called once an {@link #update} commits.
+     *
+     * @param entity the updated entity.
+     */
+    protected void afterUpdate(T entity) {
+    }
+
+    /**
+     * Called once a {@link #delete} commits.
+     *
+     * @param id the ID of the deleted entity.
+     */
+    protected void afterDelete(long id) {
+    }
+
     /**
      * Retrieves an entity by its ID.
      * If the entity is not found, an empty {@link Optional} will be returned.
@@ -71,7 +148,117 @@ public abstract class AbstractHibernateRepository<T> extends BaseRepository {
      * @return an {@link Optional} containing the entity if found, otherwise an empty {@link Optional}.
      */
     public Optional<T> getById(long id) {
-        return Optional.ofNullable(executeWithResult(session ->
+        return Optional.ofNullable(executeWithResult("getById", session ->
                 session.get(entityClass, id)));
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves one page of entities using keyset pagination.
+     * Rows are ordered ascending by the keyset columns, and instead of an {@code OFFSET} the query
+     * seeks past the last row of the previous page, so every page costs the same regardless of its position.
+     *
+     * @param selectHql the query without {@code WHERE} and {@code ORDER BY} clauses, e.g. {@code FROM Ticket t}.
+     * @param where an optional filter condition (without {@code WHERE}), or {@code null}.
+     * @param parameters the named parameters of {@code where}.
+     * @param keyset the sort order; the last column must be unique.
+     * @param cursor the {@link Page#getNextCursor()} of the previous page, or {@code null} for the first page.
+     * @param pageSize the maximum number of rows, capped at {@link #MAX_PAGE_SIZE}.
+     * @return the requested page.
+     * @throws IllegalArgumentException if the cursor is malformed or the page size is not positive.
+     */
+    protected Page<T> findPage(String selectHql, String where, Map<String, Object> parameters,
+                               List<KeysetColumn<T>> keyset, String cursor, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        int limit = Math.min(pageSize, MAX_PAGE_SIZE);
+        List<Object> after = cursor == null || cursor.isBlank() ? null : decodeCursor(cursor, keyset);
+
+        List<String> conditions = new ArrayList<>();
+        if (where != null) {
+            conditions.add("(" + where + ")");
+        }
+        if (after != null) {
+            conditions.add(keysetCondition(keyset));
+        }
+
+        StringBuilder hql = new StringBuilder(selectHql);
+        if (!conditions.isEmpty()) {
+            hql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        hql.append(" ORDER BY ");
+        for (int i = 0; i < keyset.size(); i++) {
+            hql.append(i == 0 ? "" : ", ").append(keyset.get(i).getPath()).append(" ASC");
+        }
+
+        return executeWithResult("findPage", session -> {
+            Query<T> query = session.createQuery(hql.toString(), entityClass);
+            parameters.forEach(query::setParameter);
+            if (after != null) {
+                for (int i = 0; i < after.size(); i++) {
+                    query.setParameter("k" + i, after.get(i));
+                }
+            }
+            query.setMaxResults(limit + 1);
+
+            List<T> rows = query.list();
+            if (rows.size() <= limit) {
+                return new Page<>(rows, null);
+            }
+            List<T> content = new ArrayList<>(rows.subList(0, limit));
+            return new Page<>(content, encodeCursor(content.get(limit - 1), keyset));
+        });
+    }
+
+    /**
+     * Retrieves one unfiltered page of entities using keyset pagination.
+     *
+     * @see #findPage(String, String, Map, List, String, int)
+     */
+    protected Page<T> findPage(String selectHql, List<KeysetColumn<T>> keyset, String cursor, int pageSize) {
+        return findPage(selectHql, null, Collections.emptyMap(), keyset, cursor, pageSize);
+    }
+
+    /**
+     * Builds {@code (a > :k0) OR (a = :k0 AND b > :k1) OR ...} for the keyset columns.
+     */
+    private String keysetCondition(List<KeysetColumn<T>> keyset) {
+        List<String> alternatives = new ArrayList<>();
+        for (int i = 0; i < keyset.size(); i++) {
+            StringBuilder alternative = new StringBuilder("(");
+            for (int j = 0; j < i; j++) {
+                alternative.append(keyset.get(j).getPath()).append(" = :k").append(j).append(" AND ");
+            }
+            alternative.append(keyset.get(i).getPath()).append(" > :k").append(i).append(")");
+            alternatives.add(alternative.toString());
+        }
+        return "(" + String.join(" OR ", alternatives) + ")";
+    }
+
+    private String encodeCursor(T lastRow, List<KeysetColumn<T>> keyset) {
+        List<String> values = new ArrayList<>();
+        for (KeysetColumn<T> column : keyset) {
+            values.add(String.valueOf(column.getExtractor().apply(lastRow)));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(CURSOR_SEPARATOR, values).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<Object> decodeCursor(String cursor, List<KeysetColumn<T>> keyset) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(CURSOR_SEPARATOR, -1);
+            if (values.length != keyset.size()) {
+                throw new IllegalArgumentException("Invalid page cursor.");
+            }
+            List<Object> result = new ArrayList<>();
+            for (int i = 0; i < values.length; i++) {
+                result.add(keyset.get(i).getParser().apply(values[i]));
+            }
+            return result;
+        } catch (RuntimeException e) {
+            log.warn("Rejected page cursor '{}': {}", cursor, e.getMessage());
+            throw new IllegalArgumentException("Invalid page cursor.");
+        }
+    }
+}
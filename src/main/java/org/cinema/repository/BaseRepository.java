@@ -1,10 +1,19 @@
 package org.cinema.repository;
 
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.metrics.OperationMetrics;
+import org.cinema.metrics.RepositoryMetrics;
 import org.hibernate.HibernateException;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
 import org.hibernate.Transaction;
+import org.hibernate.exception.ConstraintViolationException;
+import javax.transaction.Status;
+import javax.transaction.Synchronization;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -13,48 +22,86 @@ import java.util.function.Function;
  * This class contains methods to execute Hibernate transactions that either do or don't return results.
  * It abstracts the session management and transaction handling to simplify database operations for subclasses.
  * This class is intended to be extended by other Repositories that interact with specific entities.
+ * <p>
+ * Every operation is named by the calling repository method and timed in {@link RepositoryMetrics}
+ * together with its errors and rollbacks.
  */
 @Slf4j
 public class BaseRepository {
 
     protected final SessionFactory sessionFactory;
 
+    private final String repositoryName = getClass().getSimpleName();
+    private final Map<String, OperationMetrics> metrics = new ConcurrentHashMap<>();
+
     protected BaseRepository(SessionFactory sessionFactory) {
         this.sessionFactory = sessionFactory;
     }
 
     /**
      * Executes a transaction that does not return a result (e.g., insert, update, delete).
+     * Inside a {@link UnitOfWork} the operation joins the current session and is flushed immediately,
+     * so constraint violations surface here; the commit is left to the unit of work.
      *
+     * @param operation the name of the operation, used for metrics
      * @param action the operation to be performed within the transaction
      */
-    protected void executeTransaction(Consumer<Session> action) {
-        Transaction transaction = null;
+    protected void executeTransaction(String operation, Consumer<Session> action) {
+        OperationMetrics operationMetrics = metrics(operation);
+        if (UnitOfWork.isActive(sessionFactory)) {
+            executeInUnitOfWork(operationMetrics, session -> {
+                action.accept(session);
+                session.flush();
+                return null;
+            });
+            return;
+        }
+
+        OperationMetrics previous = RepositoryMetrics.getInstance().enter(operationMetrics);
+        long start = System.nanoTime();
         try (Session session = sessionFactory.openSession()) {
             log.debug("Transaction started...");
-            transaction = session.beginTransaction();
-            action.accept(session);
-            transaction.commit();
+            Transaction transaction = session.beginTransaction();
+            try {
+                action.accept(session);
+                transaction.commit();
+            } catch (RuntimeException e) {
+                // Rolled back here, as the session is already closed when the outer catch blocks run.
+                handleTransactionRollback(transaction, operationMetrics);
+                throw e;
+            }
             log.debug("Transaction successfully completed.");
         } catch (HibernateException e) {
             log.error("Hibernate error during transaction execution: {}", e.getMessage());
-            handleTransactionRollback(transaction);
+            operationMetrics.recordError();
             throw new RuntimeException("Hibernate error during transaction.", e);
         } catch (Exception e) {
             log.error("Unexpected error during transaction without result: {}", e.getMessage());
-            handleTransactionRollback(transaction);
+            operationMetrics.recordError();
             throw new RuntimeException("Unexpected error during transaction.", e);
+        } finally {
+            operationMetrics.recordLatency(System.nanoTime() - start);
+            RepositoryMetrics.getInstance().exit(previous);
         }
     }
 
     /**
      * Executes an operation that returns a result (e.g., fetching data).
+     * Inside a {@link UnitOfWork} the operation joins the current session.
      *
+     * @param operation the name of the operation, used for metrics
      * @param action the operation to be performed
      * @param <R>    the type of the result
      * @return the result of the operation
      */
-    protected <R> R executeWithResult(Function<Session, R> action) {
+    protected <R> R executeWithResult(String operation, Function<Session, R> action) {
+        OperationMetrics operationMetrics = metrics(operation);
+        if (UnitOfWork.isActive(sessionFactory)) {
+            return executeInUnitOfWork(operationMetrics, action);
+        }
+
+        OperationMetrics previous = RepositoryMetrics.getInstance().enter(operationMetrics);
+        long start = System.nanoTime();
         try (Session session = sessionFactory.openSession()) {
             log.debug("Session opened for operation...");
             R result = action.apply(session);
@@ -62,22 +109,166 @@ public class BaseRepository {
             return result;
         } catch (HibernateException e) {
             log.error("Hibernate error during operation: {}", e.getMessage());
+            operationMetrics.recordError();
             throw new RuntimeException("Hibernate error during operation.", e);
         } catch (Exception e) {
             log.error("Unexpected error during operation: {}", e.getMessage());
+            operationMetrics.recordError();
+            throw new RuntimeException("Unexpected error during operation.", e);
+        } finally {
+            operationMetrics.recordLatency(System.nanoTime() - start);
+            RepositoryMetrics.getInstance().exit(previous);
+        }
+    }
+
+    /**
+     * Checks whether repository calls on the current thread join a {@link UnitOfWork}.
+     *
+     * @return {@code true} if a unit of work is active
+     */
+    protected boolean isInUnitOfWork() {
+        return UnitOfWork.isActive(sessionFactory);
+    }
+
+    /**
+     * Executes an operation on the session of the current {@link UnitOfWork}.
+     * Errors are propagated so that the unit of work rolls back.
+     *
+     * @param operationMetrics the metrics of the operation
+     * @param action the operation to be performed
+     * @param <R>    the type of the result
+     * @return the result of the operation
+     */
+    private <R> R executeInUnitOfWork(OperationMetrics operationMetrics, Function<Session, R> action) {
+        OperationMetrics previous = RepositoryMetrics.getInstance().enter(operationMetrics);
+        long start = System.nanoTime();
+        try {
+            return action.apply(sessionFactory.getCurrentSession());
+        } catch (HibernateException e) {
+            log.error("Hibernate error during unit of work operation: {}", e.getMessage());
+            operationMetrics.recordError();
+            throw new RuntimeException("Hibernate error during operation.", e);
+        } catch (Exception e) {
+            log.error("Unexpected error during unit of work operation: {}", e.getMessage());
+            operationMetrics.recordError();
+            throw new RuntimeException("Unexpected error during operation.", e);
+        } finally {
+            operationMetrics.recordLatency(System.nanoTime() - start);
+            RepositoryMetrics.getInstance().exit(previous);
+        }
+    }
+
+    /**
+     * Executes a read operation on a {@link StatelessSession}, e.g. scrolling over large result sets.
+     * A stateless session has no persistence context, so memory use does not grow with the number of rows read.
+     *
+     * @param operation the name of the operation, used for metrics
+     * @param action the operation to be performed
+     * @param <R>    the type of the result
+     * @return the result of the operation
+     */
+    protected <R> R executeStateless(String operation, Function<StatelessSession, R> action) {
+        OperationMetrics operationMetrics = metrics(operation);
+        OperationMetrics previous = RepositoryMetrics.getInstance().enter(operationMetrics);
+        long start = System.nanoTime();
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            log.debug("Stateless session opened for operation...");
+            return action.apply(session);
+        } catch (HibernateException e) {
+            log.error("Hibernate error during stateless operation: {}", e.getMessage());
+            operationMetrics.recordError();
+            throw new RuntimeException("Hibernate error during operation.", e);
+        } catch (Exception e) {
+            log.error("Unexpected error during stateless operation: {}", e.getMessage());
+            operationMetrics.recordError();
             throw new RuntimeException("Unexpected error during operation.", e);
+        } finally {
+            operationMetrics.recordLatency(System.nanoTime() - start);
+            RepositoryMetrics.getInstance().exit(previous);
+        }
+    }
+
+    /**
+     * Runs the action once the transaction of the session commits, and not at all if it rolls back.
+     * Inside a {@link UnitOfWork} that is the commit of the whole unit, not of the current operation.
+     *
+     * @param session the session whose transaction is watched
+     * @param action the action to run after the commit
+     */
+    protected void afterCommit(Session session, Runnable action) {
+        session.getTransaction().registerSynchronization(new Synchronization() {
+            @Override
+            public void beforeCompletion() {
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == Status.STATUS_COMMITTED) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Clears the second-level cache of an entity, e.g. after the database changed its rows behind Hibernate's back
+     * through {@code ON DELETE CASCADE}. Does nothing if caching is disabled.
+     *
+     * @param entityClass the cached entity class
+     */
+    protected void evictEntityCache(Class<?> entityClass) {
+        sessionFactory.getCache().evictEntityData(entityClass);
+        log.debug("Second-level cache of {} evicted.", entityClass.getSimpleName());
+    }
+
+    /**
+     * Clears a query cache region, e.g. after the database changed the queried rows behind Hibernate's back.
+     * Does nothing if the query cache is disabled.
+     *
+     * @param region the name of the query cache region
+     */
+    protected void evictQueryCache(String region) {
+        sessionFactory.getCache().evictQueryRegion(region);
+        log.debug("Query cache region '{}' evicted.", region);
+    }
+
+    /**
+     * Checks whether the given exception was caused by a database constraint violation
+     * (e.g. a duplicate key on a unique index).
+     *
+     * @param e the exception to inspect
+     * @return {@code true} if a constraint violation is found in the cause chain
+     */
+    protected boolean isConstraintViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException
+                    || cause instanceof SQLIntegrityConstraintViolationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private OperationMetrics metrics(String operation) {
+        OperationMetrics operationMetrics = metrics.get(operation);
+        if (operationMetrics == null) {
+            operationMetrics = metrics.computeIfAbsent(operation,
+                    name -> RepositoryMetrics.getInstance().get(repositoryName, name));
         }
+        return operationMetrics;
     }
 
     /**
      * Handles transaction rollback in case of an error.
      *
      * @param transaction the transaction to roll back
+     * @param operationMetrics the metrics of the failed operation
      */
-    private void handleTransactionRollback(Transaction transaction) {
+    private void handleTransactionRollback(Transaction transaction, OperationMetrics operationMetrics) {
         if (transaction != null && transaction.isActive()) {
             try {
                 transaction.rollback();
+                operationMetrics.recordRollback();
                 log.warn("Transaction rolled back due to an error.");
             } catch (HibernateException e) {
                 log.error("Error during transaction rollback: {}", e.getMessage(), e);
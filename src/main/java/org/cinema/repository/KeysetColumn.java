@@ -0,0 +1,35 @@
+package org.cinema.repository;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.function.Function;
+
+/**
+ * One column of a keyset (seek) sort order: the HQL path it is sorted by, how to read its value
+ * from an entity and how to restore that value from a page cursor.
+ * Keyset columns must be non-null, and the last column of a keyset must be unique (usually the ID).
+ *
+ * @param <T> the type of the entity.
+ */
+@Getter(AccessLevel.PACKAGE)
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetColumn<T> {
+
+    private final String path;
+    private final Function<T, ?> extractor;
+    private final Function<String, ?> parser;
+
+    /**
+     * Creates a keyset column.
+     *
+     * @param path the HQL path, e.g. {@code fs.date}.
+     * @param extractor reads the column value from an entity.
+     * @param parser restores the value from its {@code toString()} form, e.g. {@code LocalDate::parse}.
+     * @param <T> the type of the entity.
+     * @return the keyset column.
+     */
+    public static <T> KeysetColumn<T> of(String path, Function<T, ?> extractor, Function<String, ?> parser) {
+        return new KeysetColumn<>(path, extractor, parser);
+    }
+}
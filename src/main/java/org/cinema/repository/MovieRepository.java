@@ -2,6 +2,7 @@ package org.cinema.repository;
 
 import org.cinema.model.Movie;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -56,4 +57,13 @@ public interface MovieRepository {
      * @return a {@link List} of {@link Movie} entities matching the title.
      */
     List<Movie> findByTitle(String movieTitle);
+
+    /**
+     * Finds the movies with exactly one of the given titles in a single query,
+     * e.g. to check which OMDB results are already stored.
+     *
+     * @param movieTitles the exact titles of the movies.
+     * @return the matching {@link Movie} entities, in no particular order.
+     */
+    List<Movie> findByTitles(Collection<String> movieTitles);
 }
@@ -0,0 +1,37 @@
+package org.cinema.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A bounded slice of an ordered result set, fetched with keyset pagination.
+ * The {@code nextCursor} is an opaque token identifying the last row of the page;
+ * it is {@code null} when there are no further rows.
+ *
+ * @param <T> the type of the page elements.
+ */
+@Getter
+@RequiredArgsConstructor
+public class Page<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Converts the page elements while keeping the cursor, e.g. to map entities to DTOs.
+     *
+     * @param mapper the conversion function.
+     * @param <R> the type of the converted elements.
+     * @return a page with the converted elements.
+     */
+    public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
+        return new Page<>(content.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+}
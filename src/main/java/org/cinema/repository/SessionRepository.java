@@ -1,8 +1,12 @@
 package org.cinema.repository;
 
+import org.cinema.cache.SessionIntervalIndex;
 import org.cinema.model.FilmSession;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -20,6 +24,13 @@ public interface SessionRepository {
      */
     void save(FilmSession filmSession);
 
+    /**
+     * Saves several film sessions in a single transaction; either all of them are saved or none.
+     *
+     * @param filmSessions the {@link FilmSession} entities to be saved.
+     */
+    void saveAll(List<FilmSession> filmSessions);
+
     /**
      * Retrieves a film session by its unique identifier.
      *
@@ -35,6 +46,15 @@ public interface SessionRepository {
      */
     Set<FilmSession> findAll();
 
+    /**
+     * Retrieves one page of film sessions ordered by date, start time and ID.
+     *
+     * @param cursor the cursor of the previous page, or {@code null} for the first page.
+     * @param pageSize the maximum number of film sessions on the page.
+     * @return a {@link Page} of {@link FilmSession} entities.
+     */
+    Page<FilmSession> findPage(String cursor, int pageSize);
+
     /**
      * Updates an existing film session in the repository.
      *
@@ -50,13 +70,32 @@ public interface SessionRepository {
     void delete(long filmSessionId);
 
     /**
-     * Checks if a film session with the same details already exists in the repository.
+     * Checks if a film session of the same movie already occupies an overlapping time slot on the same date.
      *
      * @param filmSession the {@link FilmSession} entity to check.
      * @return {@code true} if the session exists, {@code false} otherwise.
      */
     boolean checkIfSessionExists(FilmSession filmSession);
 
+    /**
+     * Finds the slots of all film sessions, of any movie, that overlap {@code [start, end)} on a date.
+     *
+     * @param date the date of the slot.
+     * @param start the start of the slot, inclusive.
+     * @param end the end of the slot, exclusive.
+     * @return the overlapping slots ordered by start time.
+     */
+    List<SessionIntervalIndex.Interval> findOverlapping(LocalDate date, LocalTime start, LocalTime end);
+
+    /**
+     * Finds all film sessions that overlap {@code [from, to)}, across dates.
+     *
+     * @param from the start of the range, inclusive.
+     * @param to the end of the range, exclusive.
+     * @return a {@link List} of {@link FilmSession} entities ordered by date and start time.
+     */
+    List<FilmSession> findByDateRange(LocalDateTime from, LocalDateTime to);
+
     /**
      * Finds all film sessions scheduled for a specific date.
      *
@@ -1,11 +1,15 @@
 package org.cinema.repository;
 
+import org.cinema.dto.ticketDTO.TicketExportDTO;
+import org.cinema.model.Status;
 import org.cinema.model.Ticket;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for managing {@link Ticket} entities.
@@ -21,6 +25,13 @@ public interface TicketRepository {
      */
     void save(Ticket ticket);
 
+    /**
+     * Saves several tickets in a single transaction; either all of them are saved or none.
+     *
+     * @param tickets the {@link Ticket} entities to be saved.
+     */
+    void saveAll(List<Ticket> tickets);
+
     /**
      * Retrieves a ticket by its unique identifier.
      *
@@ -36,6 +47,25 @@ public interface TicketRepository {
      */
     Set<Ticket> findAll();
 
+    /**
+     * Retrieves one page of tickets ordered by session date, start time, seat number and ID.
+     *
+     * @param cursor the cursor of the previous page, or {@code null} for the first page.
+     * @param pageSize the maximum number of tickets on the page.
+     * @return a {@link Page} of {@link Ticket} entities.
+     */
+    Page<Ticket> findPage(String cursor, int pageSize);
+
+    /**
+     * Retrieves one page of tickets with the given status, in the same order as {@link #findPage(String, int)}.
+     *
+     * @param status the status of the tickets to retrieve.
+     * @param cursor the cursor of the previous page, or {@code null} for the first page.
+     * @param pageSize the maximum number of tickets on the page.
+     * @return a {@link Page} of {@link Ticket} entities.
+     */
+    Page<Ticket> findPageByStatus(Status status, String cursor, int pageSize);
+
     /**
      * Updates an existing ticket in the repository with new purchase time details.
      *
@@ -59,6 +89,15 @@ public interface TicketRepository {
      */
     List<Ticket> getTicketsBySession(long sessionId);
 
+    /**
+     * Retrieves the seat numbers of all tickets for a specific session.
+     * Only the seat number column is selected, no ticket, user or session entities are loaded.
+     *
+     * @param sessionId the ID of the session to retrieve seat numbers for.
+     * @return a {@link List} of seat numbers of the tickets for the specified session.
+     */
+    List<String> getSeatNumbersBySession(long sessionId);
+
     /**
      * Checks if a ticket with the same details already exists in the repository.
      *
@@ -74,4 +113,27 @@ public interface TicketRepository {
      * @return a {@link List} of {@link Ticket} entities purchased by the specified user.
      */
     List<Ticket> getTicketsByUserId(long userId);
+
+    /**
+     * Retrieves the IDs of the sessions a specific user holds tickets for.
+     * Only the session ID column is selected, no ticket entities are loaded.
+     *
+     * @param userId the ID of the user.
+     * @return the distinct IDs of the sessions with tickets of the user.
+     */
+    List<Long> getSessionIdsByUserId(long userId);
+
+    /**
+     * Streams tickets of sessions within the given date range, ordered by session date, start time and ticket ID.
+     * Rows are read through a forward-only cursor and passed to {@code consumer} one by one,
+     * so no more than {@code fetchSize} rows are held in memory at a time. On MySQL the rows are streamed
+     * from the server one at a time instead, which keeps the connection busy until the export is done.
+     *
+     * @param from the first session date, inclusive.
+     * @param to the last session date, inclusive.
+     * @param fetchSize the number of rows fetched from the database per round trip; ignored on MySQL.
+     * @param consumer receives each exported ticket.
+     * @return the number of exported tickets.
+     */
+    long streamByDateRange(LocalDate from, LocalDate to, int fetchSize, Consumer<TicketExportDTO> consumer);
 }
@@ -0,0 +1,121 @@
+package org.cinema.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.config.HibernateConfig;
+import org.hibernate.HibernateException;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.context.internal.ThreadLocalSessionContext;
+import java.util.function.Supplier;
+
+/**
+ * Service-level transaction boundary.
+ * Work executed through this class runs in a single Hibernate session and transaction bound to the current thread
+ * (the {@code thread} current session context); repository calls made inside it join that session through
+ * {@link SessionFactory#getCurrentSession()} instead of opening their own, so a whole service operation
+ * borrows one pooled connection and commits or rolls back as a unit.
+ * Nested calls join the outer unit of work.
+ */
+@Slf4j
+public class UnitOfWork {
+
+    private static final ThreadLocal<SessionFactory> ACTIVE = new ThreadLocal<>();
+
+    private final SessionFactory sessionFactory;
+
+    public UnitOfWork(SessionFactory sessionFactory) {
+        this.sessionFactory = sessionFactory;
+    }
+
+    public static UnitOfWork getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+        private static final UnitOfWork INSTANCE = new UnitOfWork(HibernateConfig.getSessionFactory());
+    }
+
+    /**
+     * Checks whether a unit of work for the given session factory is running on the current thread.
+     *
+     * @param sessionFactory the session factory of the calling repository.
+     * @return {@code true} if repository calls should join the current session.
+     */
+    static boolean isActive(SessionFactory sessionFactory) {
+        return ACTIVE.get() == sessionFactory;
+    }
+
+    /**
+     * Executes the work in one session and transaction. The transaction is committed when the work returns
+     * and rolled back when it throws. The session never outlives the call, so a pooled thread
+     * does not carry it into the next request.
+     *
+     * @param work the work to execute.
+     * @param <R> the type of the result.
+     * @return the result of the work.
+     */
+    public <R> R execute(Supplier<R> work) {
+        if (ACTIVE.get() != null) {
+            return work.get();
+        }
+
+        Transaction transaction = null;
+        ACTIVE.set(sessionFactory);
+        try {
+            transaction = sessionFactory.getCurrentSession().beginTransaction();
+            log.debug("Unit of work started.");
+            R result = work.get();
+            transaction.commit();
+            log.debug("Unit of work committed.");
+            return result;
+        } catch (RuntimeException | Error e) {
+            if (transaction != null) {
+                rollback(transaction);
+            }
+            throw e;
+        } finally {
+            ACTIVE.remove();
+            closeCurrentSession();
+        }
+    }
+
+    /**
+     * Executes the work in one session and transaction.
+     *
+     * @param work the work to execute.
+     * @see #execute(Supplier)
+     */
+    public void run(Runnable work) {
+        execute(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Unbinds and closes the session if it is still bound to the thread, which happens when
+     * the transaction could not be started or its commit failed.
+     */
+    private void closeCurrentSession() {
+        Session session = ThreadLocalSessionContext.unbind(sessionFactory);
+        if (session != null && session.isOpen()) {
+            try {
+                session.close();
+            } catch (HibernateException e) {
+                log.error("Error closing unit of work session: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void rollback(Transaction transaction) {
+        if (transaction.isActive()) {
+            try {
+                transaction.rollback();
+                log.warn("Unit of work rolled back due to an error.");
+            } catch (HibernateException e) {
+                log.error("Error during unit of work rollback: {}", e.getMessage(), e);
+            }
+        }
+    }
+}
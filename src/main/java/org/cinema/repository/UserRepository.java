@@ -34,6 +34,15 @@ public interface UserRepository {
      */
     Set<User> findAll();
 
+    /**
+     * Retrieves one page of users ordered by ID.
+     *
+     * @param cursor the cursor of the previous page, or {@code null} for the first page.
+     * @param pageSize the maximum number of users on the page.
+     * @return a {@link Page} of {@link User} entities.
+     */
+    Page<User> findPage(String cursor, int pageSize);
+
     /**
      * Updates an existing user in the repository.
      *
@@ -1,19 +1,40 @@
 package org.cinema.repository.impl;
 
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.cache.TrigramIndex;
+import org.cinema.exception.EntityAlreadyExistException;
+import org.cinema.model.FilmSession;
 import org.cinema.model.Movie;
 import org.cinema.repository.AbstractHibernateRepository;
 import org.cinema.repository.MovieRepository;
+import org.cinema.util.PropertiesUtil;
 import org.hibernate.SessionFactory;
 import org.hibernate.query.Query;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 public class MovieRepositoryImpl extends AbstractHibernateRepository<Movie> implements MovieRepository {
 
+    private static final int MAX_SEARCH_RESULTS = PropertiesUtil.getInt("movie.search.max.results", 50);
+
+    /**
+     * Titles of all stored movies, used to answer title searches without scanning the table.
+     * Built when the repository is created and updated when a write through this repository commits.
+     */
+    private final TrigramIndex titleIndex = new TrigramIndex();
+
     private MovieRepositoryImpl(SessionFactory sessionFactory) {
         super(sessionFactory, Movie.class);
+        rebuildTitleIndex();
     }
 
     public static MovieRepositoryImpl getInstance(SessionFactory sessionFactory) {
@@ -21,22 +42,53 @@ public class MovieRepositoryImpl extends AbstractHibernateRepository<Movie> impl
         return Holder.INSTANCE;
     }
 
+    /**
+     * Creates the instance once; the constructor loads the title index, so racing first callers must not both run it.
+     */
     private static class Holder {
-        private static MovieRepositoryImpl INSTANCE;
+        private static final ReentrantLock LOCK = new ReentrantLock();
+        private static volatile MovieRepositoryImpl INSTANCE;
 
         static void initialize(SessionFactory sessionFactory) {
-            if (INSTANCE == null) {
-                INSTANCE = new MovieRepositoryImpl(sessionFactory);
+            if (INSTANCE != null) {
+                return;
+            }
+            LOCK.lock();
+            try {
+                if (INSTANCE == null) {
+                    INSTANCE = new MovieRepositoryImpl(sessionFactory);
+                }
+            } finally {
+                LOCK.unlock();
             }
         }
     }
 
     @Override
     public void save(Movie movie) {
-        super.save(movie);
+        try {
+            super.save(movie);
+        } catch (RuntimeException e) {
+            if (isConstraintViolation(e)) {
+                throw new EntityAlreadyExistException("Movie '" + movie.getTitle() + "' already exists.");
+            }
+            throw e;
+        }
         log.info("Movie '{}' successfully added.", movie.getTitle());
     }
 
+    @Override
+    public void saveAll(List<Movie> movies) {
+        try {
+            super.saveAll(movies);
+        } catch (RuntimeException e) {
+            if (isConstraintViolation(e)) {
+                throw new EntityAlreadyExistException("One of the movies already exists.");
+            }
+            throw e;
+        }
+    }
+
     @Override
     public void update(Movie movie) {
         super.update(movie);
@@ -46,6 +98,9 @@ public class MovieRepositoryImpl extends AbstractHibernateRepository<Movie> impl
     @Override
     public void delete(long movieId) {
         super.delete(movieId);
+        // Sessions of the movie are removed by ON DELETE CASCADE, which bypasses the second-level cache.
+        evictEntityCache(FilmSession.class);
+        evictQueryCache(SessionRepositoryImpl.SCHEDULE_CACHE_REGION);
     }
 
     @Override
@@ -55,7 +110,7 @@ public class MovieRepositoryImpl extends AbstractHibernateRepository<Movie> impl
 
     @Override
     public List<Movie> findAll() {
-        return executeWithResult(session -> {
+        return executeWithResult("findAll", session -> {
             log.debug("Retrieving all movies...");
             List<Movie> movies = session.createQuery("FROM Movie", Movie.class).list();
             log.info("{} movies successfully retrieved.", movies.size());
@@ -65,10 +120,65 @@ public class MovieRepositoryImpl extends AbstractHibernateRepository<Movie> impl
 
     @Override
     public List<Movie> findByTitle(String title) {
-        return executeWithResult(session -> {
-            Query<Movie> query = session.createQuery("FROM Movie WHERE LOWER(title) LIKE LOWER(:title)", Movie.class);
-            query.setParameter("title", "%" + title + "%");
-            return query.list();
+        List<Long> ids = titleIndex.search(title, MAX_SEARCH_RESULTS);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Movie> moviesById = executeWithResult("findByTitle", session -> session
+                .createQuery("FROM Movie WHERE id IN (:ids)", Movie.class)
+                .setParameterList("ids", ids)
+                .list()
+                .stream()
+                .collect(Collectors.toMap(Movie::getId, Function.identity())));
+
+        ids.stream()
+                .filter(id -> !moviesById.containsKey(id))
+                .forEach(titleIndex::remove);
+        return ids.stream()
+                .map(moviesById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    protected void afterSave(Movie movie) {
+        titleIndex.put(movie.getId(), movie.getTitle());
+    }
+
+    @Override
+    protected void afterUpdate(Movie movie) {
+        titleIndex.put(movie.getId(), movie.getTitle());
+    }
+
+    @Override
+    protected void afterDelete(long movieId) {
+        titleIndex.remove(movieId);
+    }
+
+    /**
+     * Reloads the title index from the database.
+     */
+    public void rebuildTitleIndex() {
+        Map<Long, String> titles = executeWithResult("rebuildTitleIndex", session -> {
+            Map<Long, String> result = new HashMap<>();
+            session.createQuery("SELECT m.id, m.title FROM Movie m", Object[].class)
+                    .list()
+                    .forEach(row -> result.put((Long) row[0], (String) row[1]));
+            return result;
         });
+        titleIndex.rebuild(titles);
+        log.info("Movie title index built with {} titles.", titles.size());
+    }
+
+    @Override
+    public List<Movie> findByTitles(Collection<String> titles) {
+        if (titles.isEmpty()) {
+            return List.of();
+        }
+        return executeWithResult("findByTitles", session -> session
+                .createQuery("FROM Movie WHERE title IN (:titles)", Movie.class)
+                .setParameterList("titles", new HashSet<>(titles))
+                .list());
     }
 }
\ No newline at end of file
@@ -2,12 +2,17 @@ package org.cinema.repository.impl;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.cache.SessionIntervalIndex;
 import org.cinema.config.HibernateConfig;
 import org.cinema.model.FilmSession;
 import org.cinema.repository.AbstractHibernateRepository;
+import org.cinema.repository.KeysetColumn;
+import org.cinema.repository.Page;
 import org.cinema.repository.SessionRepository;
 import org.hibernate.query.Query;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.*;
 import java.util.Optional;
 
@@ -17,6 +22,22 @@ public class SessionRepositoryImpl extends AbstractHibernateRepository<FilmSessi
     @Getter
     private static final SessionRepositoryImpl instance = new SessionRepositoryImpl();
 
+    /**
+     * Query cache region for the schedule queries. Hibernate invalidates it whenever
+     * the {@code film_session} or {@code movies} tables are written through a session.
+     */
+    public static final String SCHEDULE_CACHE_REGION = "schedule-query";
+
+    private static final List<KeysetColumn<FilmSession>> PAGE_KEYSET = List.of(
+            KeysetColumn.of("fs.date", FilmSession::getDate, LocalDate::parse),
+            KeysetColumn.of("fs.startTime", FilmSession::getStartTime, LocalTime::parse),
+            KeysetColumn.of("fs.id", FilmSession::getId, Long::valueOf));
+
+    /**
+     * Slots of all sessions, loaded on first use and updated when a write through this repository commits.
+     */
+    private final SessionIntervalIndex intervalIndex = new SessionIntervalIndex();
+
     public SessionRepositoryImpl() {
         super(HibernateConfig.getSessionFactory(), FilmSession.class);
     }
@@ -27,6 +48,12 @@ public class SessionRepositoryImpl extends AbstractHibernateRepository<FilmSessi
         log.info("Film session successfully added.");
     }
 
+    @Override
+    public void saveAll(List<FilmSession> filmSessions) {
+        super.saveAll(filmSessions);
+        log.info("{} film sessions successfully added.", filmSessions.size());
+    }
+
     @Override
     public void update(FilmSession filmSession) {
         super.update(filmSession);
@@ -45,44 +72,112 @@ public class SessionRepositoryImpl extends AbstractHibernateRepository<FilmSessi
 
     @Override
     public Set<FilmSession> findAll() {
-        return executeWithResult(session -> {
+        return executeWithResult("findAll", session -> {
             log.debug("Retrieving all film sessions...");
             List<FilmSession> filmSessions = session.createQuery(
                 "FROM FilmSession fs ORDER BY fs.date ASC, fs.startTime ASC", 
                 FilmSession.class
-            ).list();
+            ).setCacheable(true)
+             .setCacheRegion(SCHEDULE_CACHE_REGION)
+             .list();
 
             log.info("{} film sessions successfully retrieved.", filmSessions.size());
             return new HashSet<>(filmSessions);
         });
     }
 
+    @Override
+    public Page<FilmSession> findPage(String cursor, int pageSize) {
+        Page<FilmSession> page = findPage("SELECT fs FROM FilmSession fs JOIN FETCH fs.movie",
+                PAGE_KEYSET, cursor, pageSize);
+        log.debug("{} film sessions retrieved for page.", page.getContent().size());
+        return page;
+    }
+
+    /**
+     * Uses the in-memory interval index as a fast pre-check and confirms a miss against the database,
+     * as the index only sees the writes of this node. Two slots overlap when one starts before the other ends,
+     * so back-to-back sessions do not conflict.
+     */
     @Override
     public boolean checkIfSessionExists(FilmSession filmSession) {
-        return executeWithResult(session -> {
-            String hql = "FROM FilmSession fs WHERE fs.movie.id = :movieId AND fs.date = :date " +
-                    "AND ((fs.startTime BETWEEN :start AND :end) OR (fs.endTime BETWEEN :start AND :end))";
+        Long movieId = filmSession.getMovie().getId();
+        boolean indexed = findOverlapping(filmSession.getDate(), filmSession.getStartTime(), filmSession.getEndTime())
+                .stream()
+                .anyMatch(interval -> movieId.equals(interval.getMovieId()));
+        if (indexed) {
+            return true;
+        }
+        return executeWithResult("checkIfSessionExists", session -> session.createQuery(
+                        "SELECT COUNT(fs) FROM FilmSession fs WHERE fs.movie.id = :movieId AND fs.date = :date "
+                                + "AND fs.startTime < :endTime AND fs.endTime > :startTime", Long.class)
+                .setParameter("movieId", movieId)
+                .setParameter("date", filmSession.getDate())
+                .setParameter("startTime", filmSession.getStartTime())
+                .setParameter("endTime", filmSession.getEndTime())
+                .uniqueResult() > 0);
+    }
 
-            Query<FilmSession> query = session.createQuery(hql, FilmSession.class);
-            query.setParameter("movieId", filmSession.getMovie().getId());
-            query.setParameter("date", filmSession.getDate());
-            query.setParameter("start", filmSession.getStartTime());
-            query.setParameter("end", filmSession.getEndTime());
+    @Override
+    public List<SessionIntervalIndex.Interval> findOverlapping(LocalDate date, LocalTime start, LocalTime end) {
+        return intervals().findOverlapping(date, start, end);
+    }
 
-            return !query.list().isEmpty();
+    @Override
+    public List<FilmSession> findByDateRange(LocalDateTime from, LocalDateTime to) {
+        List<Long> ids = intervals().findOverlapping(from, to).stream()
+                .map(SessionIntervalIndex.Interval::getSessionId)
+                .toList();
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return executeWithResult("findByDateRange", session -> {
+            List<FilmSession> filmSessions = session.byMultipleIds(FilmSession.class)
+                    .enableOrderedReturn(true)
+                    .multiLoad(ids);
+            filmSessions.removeIf(Objects::isNull);
+            log.debug("{} film sessions found between {} and {}", filmSessions.size(), from, to);
+            return filmSessions;
         });
     }
 
     @Override
     public Set<FilmSession> findByDate(LocalDate date) {
-        return executeWithResult(session -> {
+        return executeWithResult("findByDate", session -> {
             String hql = "FROM FilmSession fs WHERE fs.date = :date";
             Query<FilmSession> query = session.createQuery(hql, FilmSession.class);
             query.setParameter("date", date);
+            query.setCacheable(true);
+            query.setCacheRegion(SCHEDULE_CACHE_REGION);
 
             List<FilmSession> filmSessions = query.list();
             log.info("{} film sessions found for date: {}", filmSessions.size(), date);
             return new HashSet<>(filmSessions);
         });
     }
-}
\ No newline at end of file
+
+    @Override
+    protected void afterSave(FilmSession filmSession) {
+        intervalIndex.put(SessionIntervalIndex.Interval.of(filmSession));
+    }
+
+    @Override
+    protected void afterUpdate(FilmSession filmSession) {
+        intervalIndex.put(SessionIntervalIndex.Interval.of(filmSession));
+    }
+
+    @Override
+    protected void afterDelete(long id) {
+        intervalIndex.remove(id);
+    }
+
+    private SessionIntervalIndex intervals() {
+        intervalIndex.ensureLoaded(() -> executeWithResult("loadIntervals", session -> session.createQuery(
+                        "SELECT fs.id, fs.movie.id, fs.date, fs.startTime, fs.endTime FROM FilmSession fs", Object[].class)
+                .list().stream()
+                .map(row -> new SessionIntervalIndex.Interval((Long) row[0], (Long) row[1],
+                        (LocalDate) row[2], (LocalTime) row[3], (LocalTime) row[4]))
+                .toList()));
+        return intervalIndex;
+    }
+}
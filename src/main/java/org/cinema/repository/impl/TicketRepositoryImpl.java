@@ -1,34 +1,109 @@
 package org.cinema.repository.impl;
 
-import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
-import org.cinema.config.HibernateConfig;
+import org.cinema.dto.ticketDTO.TicketExportDTO;
+import org.cinema.exception.EntityAlreadyExistException;
+import org.cinema.model.Status;
 import org.cinema.model.Ticket;
 import org.cinema.repository.AbstractHibernateRepository;
+import org.cinema.repository.KeysetColumn;
+import org.cinema.repository.Page;
 import org.cinema.repository.TicketRepository;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.query.Query;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 @Slf4j
 public class TicketRepositoryImpl extends AbstractHibernateRepository<Ticket> implements TicketRepository {
 
-    @Getter
-    private static final TicketRepositoryImpl instance = new TicketRepositoryImpl();
+    private static final List<KeysetColumn<Ticket>> PAGE_KEYSET = List.of(
+            KeysetColumn.of("fs.date", t -> t.getFilmSession().getDate(), LocalDate::parse),
+            KeysetColumn.of("fs.startTime", t -> t.getFilmSession().getStartTime(), LocalTime::parse),
+            KeysetColumn.of("t.seatNumber", Ticket::getSeatNumber, value -> value),
+            KeysetColumn.of("t.id", Ticket::getId, Long::valueOf));
 
-    public TicketRepositoryImpl() {
-        super(HibernateConfig.getSessionFactory(), Ticket.class);
+    /**
+     * Loads tickets together with everything {@code TicketResponseMapper} reads (user, session and movie)
+     * in a single statement, so mapping a list does not trigger a select per row.
+     */
+    private static final String DETAILS_QUERY =
+            "SELECT t FROM Ticket t JOIN FETCH t.user u JOIN FETCH t.filmSession fs JOIN FETCH fs.movie m ";
+
+    private static final String EXPORT_QUERY =
+            "SELECT t.id, u.username, m.title, fs.date, fs.startTime, t.seatNumber, fs.price, " +
+            "t.purchaseTime, t.status, t.requestType " +
+            "FROM Ticket t JOIN t.user u JOIN t.filmSession fs JOIN fs.movie m " +
+            "WHERE fs.date BETWEEN :from AND :to " +
+            "ORDER BY fs.date ASC, fs.startTime ASC, t.id ASC";
+
+    /**
+     * MySQL Connector/J buffers the whole result set unless server-side cursors are enabled for the connection;
+     * the only per-statement alternative is row streaming, requested with a fetch size of {@link Integer#MIN_VALUE}.
+     */
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private final boolean mysql;
+
+    private TicketRepositoryImpl(SessionFactory sessionFactory) {
+        super(sessionFactory, Ticket.class);
+        this.mysql = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+    }
+
+    public static TicketRepositoryImpl getInstance(SessionFactory sessionFactory) {
+        Holder.initialize(sessionFactory);
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+        private static TicketRepositoryImpl INSTANCE;
+
+        static void initialize(SessionFactory sessionFactory) {
+            if (INSTANCE == null) {
+                INSTANCE = new TicketRepositoryImpl(sessionFactory);
+            }
+        }
     }
 
     @Override
     public void save(Ticket ticket) {
-        super.save(ticket);
+        try {
+            super.save(ticket);
+        } catch (RuntimeException e) {
+            if (isConstraintViolation(e)) {
+                throw new EntityAlreadyExistException("Ticket already exists with this session and seat. Try again.");
+            }
+            throw e;
+        }
         log.info("Ticket successfully added.");
     }
 
+    @Override
+    public void saveAll(List<Ticket> tickets) {
+        try {
+            super.saveAll(tickets);
+        } catch (RuntimeException e) {
+            if (isConstraintViolation(e)) {
+                throw new EntityAlreadyExistException("One of the selected seats is already taken. Try again.");
+            }
+            throw e;
+        }
+        log.info("{} tickets successfully added.", tickets.size());
+    }
+
     @Override
     public void update(Ticket ticket, LocalDateTime purchaseTime) {
         ticket.setPurchaseTime(purchaseTime);
@@ -48,10 +123,10 @@ public class TicketRepositoryImpl extends AbstractHibernateRepository<Ticket> im
 
     @Override
     public Set<Ticket> findAll() {
-        return executeWithResult(session -> {
+        return executeWithResult("findAll", session -> {
             log.debug("Retrieving all tickets...");
             List<Ticket> tickets = session.createQuery(
-                "FROM Ticket t JOIN FETCH t.filmSession fs " +
+                DETAILS_QUERY +
                 "ORDER BY fs.date ASC, fs.startTime ASC, t.seatNumber ASC", 
                 Ticket.class
             ).list();
@@ -59,11 +134,27 @@ public class TicketRepositoryImpl extends AbstractHibernateRepository<Ticket> im
         });
     }
 
+    @Override
+    public Page<Ticket> findPage(String cursor, int pageSize) {
+        Page<Ticket> page = findPage(DETAILS_QUERY, PAGE_KEYSET, cursor, pageSize);
+        log.debug("{} tickets retrieved for page.", page.getContent().size());
+        return page;
+    }
+
+    @Override
+    public Page<Ticket> findPageByStatus(Status status, String cursor, int pageSize) {
+        Page<Ticket> page = findPage(DETAILS_QUERY, "t.status = :status", Map.of("status", status),
+                PAGE_KEYSET, cursor, pageSize);
+        log.debug("{} tickets with status {} retrieved for page.", page.getContent().size(), status);
+        return page;
+    }
+
     @Override
     public List<Ticket> getTicketsBySession(long sessionId) {
-        return executeWithResult(session -> {
+        return executeWithResult("getTicketsBySession", session -> {
             Query<Ticket> query = session.createQuery(
-                "FROM Ticket t WHERE t.filmSession.id = :sessionId " +
+                DETAILS_QUERY +
+                "WHERE fs.id = :sessionId " +
                 "ORDER BY t.seatNumber ASC", 
                 Ticket.class
             );
@@ -75,14 +166,39 @@ public class TicketRepositoryImpl extends AbstractHibernateRepository<Ticket> im
         });
     }
 
+    @Override
+    public List<String> getSeatNumbersBySession(long sessionId) {
+        return executeWithResult("getSeatNumbersBySession", session -> {
+            List<String> seatNumbers = session.createQuery(
+                "SELECT t.seatNumber FROM Ticket t WHERE t.filmSession.id = :sessionId", String.class)
+                .setParameter("sessionId", sessionId)
+                .list();
+            log.debug("Found {} taken seats for session with ID {}", seatNumbers.size(), sessionId);
+            return seatNumbers;
+        });
+    }
+
+    @Override
+    public List<Long> getSessionIdsByUserId(long userId) {
+        return executeWithResult("getSessionIdsByUserId", session -> {
+            List<Long> sessionIds = session.createQuery(
+                "SELECT DISTINCT t.filmSession.id FROM Ticket t WHERE t.user.id = :userId", Long.class)
+                .setParameter("userId", userId)
+                .list();
+            log.debug("User with ID {} holds tickets for {} sessions", userId, sessionIds.size());
+            return sessionIds;
+        });
+    }
+
     @Override
     public boolean checkIfTicketExists(Ticket ticket) {
-        return executeWithResult(session -> {
-            Query<Ticket> query = session.createQuery(
-                    "FROM Ticket t WHERE t.filmSession.id = :sessionId " +
-                            "AND t.seatNumber = :seatNumber", Ticket.class);
+        return executeWithResult("checkIfTicketExists", session -> {
+            Query<Long> query = session.createQuery(
+                    "SELECT t.id FROM Ticket t WHERE t.filmSession.id = :sessionId " +
+                            "AND t.seatNumber = :seatNumber", Long.class);
             query.setParameter("sessionId", ticket.getFilmSession().getId());
             query.setParameter("seatNumber", ticket.getSeatNumber());
+            query.setMaxResults(1);
 
             boolean exists = !query.list().isEmpty();
             log.debug("Check for existing ticket with session '{}', seat '{}': {}.",
@@ -94,10 +210,10 @@ public class TicketRepositoryImpl extends AbstractHibernateRepository<Ticket> im
 
     @Override
     public List<Ticket> getTicketsByUserId(long userId) {
-        return executeWithResult(session -> {
+        return executeWithResult("getTicketsByUserId", session -> {
             Query<Ticket> query = session.createQuery(
-                "FROM Ticket t JOIN FETCH t.filmSession fs " +
-                "WHERE t.user.id = :userId " +
+                DETAILS_QUERY +
+                "WHERE u.id = :userId " +
                 "ORDER BY fs.date ASC, fs.startTime ASC, t.seatNumber ASC", 
                 Ticket.class
             );
@@ -108,4 +224,40 @@ public class TicketRepositoryImpl extends AbstractHibernateRepository<Ticket> im
             return tickets;
         });
     }
+
+    @Override
+    public long streamByDateRange(LocalDate from, LocalDate to, int fetchSize, Consumer<TicketExportDTO> consumer) {
+        return executeStateless("streamByDateRange", session -> {
+            Query<Object[]> query = session.createQuery(EXPORT_QUERY, Object[].class);
+            query.setParameter("from", from);
+            query.setParameter("to", to);
+            query.setFetchSize(mysql ? MYSQL_STREAMING_FETCH_SIZE : fetchSize);
+            query.setReadOnly(true);
+
+            long count = 0;
+            try (ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY)) {
+                while (results.next()) {
+                    consumer.accept(toExportDTO(results.get()));
+                    count++;
+                }
+            }
+            log.info("{} tickets exported for sessions from {} to {}.", count, from, to);
+            return count;
+        });
+    }
+
+    private TicketExportDTO toExportDTO(Object[] row) {
+        return TicketExportDTO.builder()
+                .id((Long) row[0])
+                .username((String) row[1])
+                .movieTitle((String) row[2])
+                .sessionDate((LocalDate) row[3])
+                .startTime((LocalTime) row[4])
+                .seatNumber((String) row[5])
+                .price((BigDecimal) row[6])
+                .purchaseTime((LocalDateTime) row[7])
+                .status(String.valueOf(row[8]))
+                .requestType(String.valueOf(row[9]))
+                .build();
+    }
 }
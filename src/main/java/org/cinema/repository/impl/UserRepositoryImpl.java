@@ -5,6 +5,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.cinema.config.HibernateConfig;
 import org.cinema.model.User;
 import org.cinema.repository.AbstractHibernateRepository;
+import org.cinema.repository.KeysetColumn;
+import org.cinema.repository.Page;
 import org.cinema.repository.UserRepository;
 import org.hibernate.query.Query;
 import java.util.HashSet;
@@ -18,6 +20,9 @@ public class UserRepositoryImpl extends AbstractHibernateRepository<User> implem
     @Getter
     private static final UserRepositoryImpl instance = new UserRepositoryImpl();
 
+    private static final List<KeysetColumn<User>> PAGE_KEYSET = List.of(
+            KeysetColumn.of("u.id", User::getId, Long::valueOf));
+
     public UserRepositoryImpl() {
         super(HibernateConfig.getSessionFactory(), User.class);
     }
@@ -46,7 +51,7 @@ public class UserRepositoryImpl extends AbstractHibernateRepository<User> implem
 
     @Override
     public Set<User> findAll() {
-        return executeWithResult(session -> {
+        return executeWithResult("findAll", session -> {
             log.debug("Retrieving all users...");
             List<User> users = session.createQuery(
                 "FROM User u ORDER BY u.createdAt ASC", 
@@ -57,9 +62,16 @@ public class UserRepositoryImpl extends AbstractHibernateRepository<User> implem
         });
     }
 
+    @Override
+    public Page<User> findPage(String cursor, int pageSize) {
+        Page<User> page = findPage("FROM User u", PAGE_KEYSET, cursor, pageSize);
+        log.debug("{} users retrieved for page.", page.getContent().size());
+        return page;
+    }
+
     @Override
     public Optional<User> getByUsername(String username) {
-        return executeWithResult(session -> {
+        return executeWithResult("getByUsername", session -> {
             Query<User> query = session.createQuery("FROM User WHERE username = :username", User.class);
             query.setParameter("username", username);
             return query.uniqueResultOptional();
@@ -1,8 +1,12 @@
 package org.cinema.service;
 
+import org.cinema.dto.filmSessionDTO.BulkScheduleResult;
+import org.cinema.dto.filmSessionDTO.BulkScheduleRow;
 import org.cinema.dto.filmSessionDTO.FilmSessionCreateDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionUpdateDTO;
+import org.cinema.repository.Page;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -18,6 +22,16 @@ public interface SessionService {
      */
     String save(FilmSessionCreateDTO createDTO, Long movieId);
 
+    /**
+     * Creates many film sessions at once. Every row is validated and checked for overlaps with existing
+     * sessions and with earlier rows of the same movie; the rows that pass are saved in one transaction,
+     * the others are reported without aborting the batch.
+     *
+     * @param rows the sessions to create.
+     * @return the number of created sessions and the rejected rows.
+     */
+    BulkScheduleResult saveAll(List<BulkScheduleRow> rows);
+
     /**
      * Updates an existing film session.
      *
@@ -44,17 +58,35 @@ public interface SessionService {
     FilmSessionResponseDTO getById(String id);
 
     /**
-     * Retrieves all film sessions.
+     * Retrieves all film sessions, sorted by date and start time.
      *
-     * @return a set of {@link FilmSessionResponseDTO}.
+     * @return an unmodifiable set of {@link FilmSessionResponseDTO} copies owned by the caller.
      */
     Set<FilmSessionResponseDTO> findAll();
 
     /**
-     * Retrieves film sessions by date.
+     * Retrieves one page of film sessions.
+     *
+     * @param cursor the cursor of the previous page, or {@code null} for the first page.
+     * @param pageSize the maximum number of film sessions on the page.
+     * @return a {@link Page} of {@link FilmSessionResponseDTO}; empty if there are no film sessions.
+     */
+    Page<FilmSessionResponseDTO> findPage(String cursor, int pageSize);
+
+    /**
+     * Retrieves film sessions by date, sorted by start time.
      *
      * @param date the date to filter sessions by.
-     * @return a set of {@link FilmSessionResponseDTO}.
+     * @return an unmodifiable set of {@link FilmSessionResponseDTO} copies owned by the caller.
      */
     Set<FilmSessionResponseDTO> findByDate(String date);
+
+    /**
+     * Retrieves film sessions scheduled between two dates, inclusive.
+     *
+     * @param from the first date of the range.
+     * @param to the last date of the range.
+     * @return a list of {@link FilmSessionResponseDTO} ordered by date and start time.
+     */
+    List<FilmSessionResponseDTO> findByDateRange(String from, String to);
 }
@@ -2,10 +2,14 @@ package org.cinema.service;
 
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
 import org.cinema.dto.ticketDTO.TicketCreateDTO;
+import org.cinema.dto.ticketDTO.TicketExportDTO;
 import org.cinema.dto.ticketDTO.TicketResponseDTO;
 import org.cinema.dto.ticketDTO.TicketUpdateDTO;
+import org.cinema.repository.Page;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing tickets.
@@ -50,13 +54,53 @@ public interface TicketService {
      */
     Set<TicketResponseDTO> findAll();
 
+    /**
+     * Retrieves one page of tickets.
+     *
+     * @param cursor the cursor of the previous page, or {@code null} for the first page.
+     * @param pageSize the maximum number of tickets on the page.
+     * @return a {@link Page} of {@link TicketResponseDTO}; empty if there are no tickets.
+     */
+    Page<TicketResponseDTO> findPage(String cursor, int pageSize);
+
+    /**
+     * Retrieves one page of tickets with the given status, e.g. the queue of pending tickets.
+     *
+     * @param status the ticket status, or {@code null} / blank for tickets of any status.
+     * @param cursor the cursor of the previous page, or {@code null} for the first page.
+     * @param pageSize the maximum number of tickets on the page.
+     * @return a {@link Page} of {@link TicketResponseDTO}; empty if there are no matching tickets.
+     * @throws IllegalArgumentException if the status is unknown.
+     */
+    Page<TicketResponseDTO> findPageByStatus(String status, String cursor, int pageSize);
+
+    /**
+     * Streams tickets of sessions within a date range without loading them all into memory.
+     *
+     * @param from the first session date (yyyy-MM-dd), inclusive.
+     * @param to the last session date (yyyy-MM-dd), inclusive.
+     * @param consumer receives each exported ticket in session order.
+     * @return the number of exported tickets.
+     */
+    long exportTickets(String from, String to, Consumer<TicketExportDTO> consumer);
+
     /**
      * Retrieves session details along with associated tickets.
+     * Seats held by other users are reported as taken; the user's own hold is reported separately.
      *
      * @param sessionId the ID of the session to retrieve.
+     * @param userId the ID of the user viewing the session.
      * @return the {@link FilmSessionResponseDTO} containing session and ticket details.
      */
-    FilmSessionResponseDTO getSessionDetailsWithTickets(String sessionId);
+    FilmSessionResponseDTO getSessionDetailsWithTickets(String sessionId, Long userId);
+
+    /**
+     * Temporarily holds a seat for the user while they complete the purchase.
+     *
+     * @param ticketCreateDTO the DTO containing the user, session and seat.
+     * @return the result message.
+     */
+    String holdSeat(TicketCreateDTO ticketCreateDTO);
 
     /**
      * Purchases a ticket.
@@ -66,6 +110,17 @@ public interface TicketService {
      */
     String purchaseTicket(TicketCreateDTO ticketCreateDTO);
 
+    /**
+     * Purchases several seats of one session in a single transaction.
+     * Either all tickets are created or none of them.
+     *
+     * @param userId the ID of the buyer.
+     * @param sessionId the ID of the session.
+     * @param seatNumbers the seat numbers to purchase.
+     * @return the result message.
+     */
+    String purchaseTickets(Long userId, Long sessionId, List<String> seatNumbers);
+
     /**
      * Retrieves tickets by user ID.
      *
@@ -4,6 +4,7 @@ import jakarta.servlet.http.HttpSession;
 import org.cinema.dto.userDTO.UserResponseDTO;
 import org.cinema.dto.userDTO.UserUpdateDTO;
 import org.cinema.dto.userDTO.UserCreateDTO;
+import org.cinema.repository.Page;
 import java.util.Optional;
 import java.util.Set;
 
@@ -51,6 +52,15 @@ public interface UserService {
      */
     Set<UserResponseDTO> findAll();
 
+    /**
+     * Retrieves one page of users.
+     *
+     * @param cursor the cursor of the previous page, or {@code null} for the first page.
+     * @param pageSize the maximum number of users on the page.
+     * @return a {@link Page} of {@link UserResponseDTO}; empty if there are no users.
+     */
+    Page<UserResponseDTO> findPage(String cursor, int pageSize);
+
     /**
      * Logs a user in.
      *
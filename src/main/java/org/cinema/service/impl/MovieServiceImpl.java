@@ -4,6 +4,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.config.HibernateConfig;
 import org.cinema.dto.movieDTO.MovieResponseDTO;
+import org.cinema.exception.EntityAlreadyExistException;
 import org.cinema.exception.NoDataFoundException;
 import org.cinema.mapper.filmSessionMapper.FilmSessionResponseMapper;
 import org.cinema.mapper.movieMapper.MovieResponseMapper;
@@ -14,9 +15,19 @@ import org.cinema.repository.impl.MovieRepositoryImpl;
 import org.cinema.service.MovieService;
 import org.cinema.util.OmdbApiUtil;
 import org.cinema.util.ValidationUtil;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,6 +38,13 @@ public class MovieServiceImpl implements MovieService {
 
     private final MovieRepositoryImpl movieRepository = MovieRepositoryImpl.getInstance(HibernateConfig.getSessionFactory());
 
+    /**
+     * OMDB searches currently in progress, by normalized title. Concurrent searches for the same title
+     * wait for the first one instead of calling OMDB and inserting the same movies again.
+     */
+    private final ConcurrentMap<String, CompletableFuture<List<MovieResponseDTO>>> searchesInFlight =
+            new ConcurrentHashMap<>();
+
     @Override
     public List<MovieResponseDTO> findAll() {
         List<Movie> movies = movieRepository.findAll();
@@ -46,17 +64,124 @@ public class MovieServiceImpl implements MovieService {
                     .toList();
         }
 
+        String key = OmdbApiUtil.normalizeTitle(title);
+        CompletableFuture<List<MovieResponseDTO>> search = new CompletableFuture<>();
+        CompletableFuture<List<MovieResponseDTO>> inFlight = searchesInFlight.putIfAbsent(key, search);
+        if (inFlight != null) {
+            log.debug("Joining in-flight OMDB search for title '{}'", title);
+            return awaitSearch(inFlight);
+        }
+
+        try {
+            List<MovieResponseDTO> movies = searchAndSave(title);
+            search.complete(movies);
+            return movies;
+        } catch (RuntimeException e) {
+            search.completeExceptionally(e);
+            throw e;
+        } finally {
+            searchesInFlight.remove(key, search);
+        }
+    }
+
+    /**
+     * Fetches movies from OMDB and stores the ones that are not in the database yet.
+     * The database is checked again first: a search for the same title may have finished
+     * between the caller's lookup and this one becoming the leader.
+     * <p>
+     * Searches for different titles can still return the same movie at the same time, possibly on
+     * different nodes; the unique {@code (title, year)} key then rejects the second insert,
+     * and the movies are read again and the missing ones saved one by one.
+     */
+    private List<MovieResponseDTO> searchAndSave(String title) {
+        List<Movie> moviesFromDb = movieRepository.findByTitle(title);
+        if (!moviesFromDb.isEmpty()) {
+            return moviesFromDb.stream()
+                    .map(MovieResponseMapper.INSTANCE::toDTO)
+                    .toList();
+        }
+
         List<MovieAPI> apiMovies = OmdbApiUtil.searchMovies(title);
+        Map<String, Movie> movies = findStoredMovies(apiMovies);
+        List<Movie> newMovies = toNewMovies(apiMovies, movies);
+        try {
+            saveMoviesToDatabase(newMovies);
+            newMovies.forEach(movie -> movies.put(movieKey(movie.getTitle(), movie.getYear()), movie));
+        } catch (EntityAlreadyExistException e) {
+            log.info("Some movies for '{}' were stored by a concurrent search, saving the rest one by one.", title);
+            movies.putAll(findStoredMovies(apiMovies));
+            for (Movie movie : toNewMovies(apiMovies, movies)) {
+                try {
+                    movieRepository.save(movie);
+                    movies.put(movieKey(movie.getTitle(), movie.getYear()), movie);
+                } catch (EntityAlreadyExistException duplicate) {
+                    log.warn("Movie '{}' ({}) is already stored under a differently written title.",
+                            movie.getTitle(), movie.getYear());
+                }
+            }
+        }
+
         return apiMovies.stream()
-                .map(this::convertToMovie)
-                .peek(this::saveMovieToDatabase)
+                .map(apiMovie -> movies.get(movieKey(apiMovie.getTitle(), apiMovie.getYear())))
+                .filter(Objects::nonNull)
+                .distinct()
                 .map(MovieResponseMapper.INSTANCE::toDTO)
                 .toList();
     }
 
-    private void saveMovieToDatabase(Movie movie) {
-        movieRepository.save(movie);
-        log.info("Saved movie '{}' to database", movie.getTitle());
+    /**
+     * Reads the stored movies matching the OMDB results with one query.
+     *
+     * @return the stored movies by {@link #movieKey}.
+     */
+    private Map<String, Movie> findStoredMovies(List<MovieAPI> apiMovies) {
+        Map<String, Movie> stored = new HashMap<>();
+        List<String> titles = apiMovies.stream().map(MovieAPI::getTitle).distinct().toList();
+        for (Movie movie : movieRepository.findByTitles(titles)) {
+            stored.putIfAbsent(movieKey(movie.getTitle(), movie.getYear()), movie);
+        }
+        return stored;
+    }
+
+    /**
+     * Converts the OMDB results that are not stored yet, once per title and year.
+     */
+    private List<Movie> toNewMovies(List<MovieAPI> apiMovies, Map<String, Movie> stored) {
+        Map<String, Movie> newMovies = new LinkedHashMap<>();
+        for (MovieAPI apiMovie : apiMovies) {
+            String key = movieKey(apiMovie.getTitle(), apiMovie.getYear());
+            if (!stored.containsKey(key)) {
+                newMovies.putIfAbsent(key, convertToMovie(apiMovie));
+            }
+        }
+        return new ArrayList<>(newMovies.values());
+    }
+
+    /**
+     * The identity of a movie for duplicate checks. The title is lower-cased,
+     * as the database compares titles case-insensitively.
+     */
+    private static String movieKey(String title, String year) {
+        return title.toLowerCase(Locale.ROOT) + '\u001F' + year;
+    }
+
+    private List<MovieResponseDTO> awaitSearch(CompletableFuture<List<MovieResponseDTO>> search) {
+        try {
+            return search.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void saveMoviesToDatabase(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return;
+        }
+        movieRepository.saveAll(movies);
+        log.info("Saved {} movie(s) to database", movies.size());
     }
 
     private Movie convertToMovie(MovieAPI apiMovie) {
@@ -2,7 +2,12 @@ package org.cinema.service.impl;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.cache.ScheduleSnapshotCache;
+import org.cinema.cache.SeatHoldCache;
+import org.cinema.cache.SeatOccupancyCache;
 import org.cinema.config.HibernateConfig;
+import org.cinema.dto.filmSessionDTO.BulkScheduleResult;
+import org.cinema.dto.filmSessionDTO.BulkScheduleRow;
 import org.cinema.dto.filmSessionDTO.FilmSessionCreateDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
 import org.cinema.dto.filmSessionDTO.FilmSessionUpdateDTO;
@@ -13,23 +18,39 @@ import org.cinema.mapper.filmSessionMapper.FilmSessionResponseMapper;
 import org.cinema.mapper.filmSessionMapper.FilmSessionUpdateMapper;
 import org.cinema.model.FilmSession;
 import org.cinema.model.Movie;
+import org.cinema.repository.Page;
 import org.cinema.repository.impl.MovieRepositoryImpl;
 import org.cinema.repository.impl.SessionRepositoryImpl;
 import org.cinema.service.SessionService;
+import org.cinema.util.PropertiesUtil;
 import org.cinema.util.ValidationUtil;
+import java.math.BigDecimal;
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 public class SessionServiceImpl implements SessionService {
 
+    private static final long RANGE_MAX_DAYS = PropertiesUtil.getLong("session.range.max.days", 92);
+    private static final int BULK_MAX_ROWS = PropertiesUtil.getInt("session.bulk.max.rows", 1000);
+
     @Getter
     private static final SessionServiceImpl instance = new SessionServiceImpl();
 
     private final SessionRepositoryImpl sessionRepository = SessionRepositoryImpl.getInstance();
     private final MovieRepositoryImpl movieRepository = MovieRepositoryImpl.getInstance(HibernateConfig.getSessionFactory());
+    private final SeatOccupancyCache seatOccupancyCache = SeatOccupancyCache.getInstance();
+    private final SeatHoldCache seatHoldCache = SeatHoldCache.getInstance();
+    private final ScheduleSnapshotCache scheduleSnapshots = ScheduleSnapshotCache.getInstance();
 
     @Override
     public String save(FilmSessionCreateDTO createDTO, Long movieId) {
@@ -45,6 +66,7 @@ public class SessionServiceImpl implements SessionService {
         }
 
         sessionRepository.save(filmSession);
+        scheduleSnapshots.invalidate(filmSession.getDate(), null);
 
         if (!sessionRepository.checkIfSessionExists(filmSession)) {
             throw new EntityAlreadyExistException("Film session not found in database after saving. Try again.");
@@ -52,6 +74,44 @@ public class SessionServiceImpl implements SessionService {
         return "Film session successfully added.";
     }
 
+    @Override
+    public BulkScheduleResult saveAll(List<BulkScheduleRow> rows) {
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("No film sessions to add.");
+        }
+        if (rows.size() > BULK_MAX_ROWS) {
+            throw new IllegalArgumentException("At most " + BULK_MAX_ROWS + " film sessions can be added at once.");
+        }
+
+        Map<Long, Optional<Movie>> movies = new HashMap<>();
+        Map<String, List<FilmSession>> acceptedBySlotKey = new HashMap<>();
+        List<FilmSession> accepted = new ArrayList<>();
+        List<BulkScheduleResult.RowFailure> failures = new ArrayList<>();
+
+        for (BulkScheduleRow row : rows) {
+            try {
+                FilmSession filmSession = toEntity(row, movies);
+                List<FilmSession> sameMovieAndDate = acceptedBySlotKey.computeIfAbsent(
+                        filmSession.getMovie().getId() + "@" + filmSession.getDate(), key -> new ArrayList<>());
+                if (sessionRepository.checkIfSessionExists(filmSession)
+                        || sameMovieAndDate.stream().anyMatch(other -> overlaps(other, filmSession))) {
+                    throw new EntityAlreadyExistException("Film session overlaps another session of this film.");
+                }
+                sameMovieAndDate.add(filmSession);
+                accepted.add(filmSession);
+            } catch (IllegalArgumentException | DateTimeException | NoDataFoundException | EntityAlreadyExistException e) {
+                failures.add(new BulkScheduleResult.RowFailure(row.getLine(), e.getMessage()));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            sessionRepository.saveAll(accepted);
+            scheduleSnapshots.clear();
+        }
+        log.info("Bulk schedule: {} film sessions added, {} rows rejected.", accepted.size(), failures.size());
+        return new BulkScheduleResult(accepted.size(), failures);
+    }
+
     @Override
     public String update(FilmSessionUpdateDTO updateDTO, Long movieId) {
         Movie movie = movieRepository.getById(movieId).orElseThrow(() ->
@@ -62,6 +122,8 @@ public class SessionServiceImpl implements SessionService {
         filmSession.setMovie(movie);
 
         sessionRepository.update(filmSession);
+        seatOccupancyCache.invalidate(filmSession.getId());
+        scheduleSnapshots.invalidate(filmSession.getDate(), filmSession.getId());
 
         if (!sessionRepository.checkIfSessionExists(filmSession)) {
             throw new EntityAlreadyExistException("Film session not found in database after updating. Try again.");
@@ -71,7 +133,11 @@ public class SessionServiceImpl implements SessionService {
 
     @Override
     public String delete(String id) {
-        sessionRepository.delete(ValidationUtil.parseLong(id));
+        long sessionId = ValidationUtil.parseLong(id);
+        sessionRepository.delete(sessionId);
+        seatOccupancyCache.invalidate(sessionId);
+        scheduleSnapshots.invalidate(null, sessionId);
+        seatHoldCache.clear(sessionId);
         return "Film session successfully deleted.";
     }
 
@@ -84,18 +150,61 @@ public class SessionServiceImpl implements SessionService {
 
     @Override
     public Set<FilmSessionResponseDTO> findAll() {
-        Set<FilmSession> sessions = sessionRepository.findAll();
-        return sessions.stream()
-                .map(FilmSessionResponseMapper.INSTANCE::toDTO)
-                .collect(Collectors.toSet());
+        return scheduleSnapshots.getAll(() -> toDTOs(sessionRepository.findAll()));
+    }
+
+    @Override
+    public Page<FilmSessionResponseDTO> findPage(String cursor, int pageSize) {
+        return sessionRepository.findPage(cursor, pageSize).map(FilmSessionResponseMapper.INSTANCE::toDTO);
     }
 
     @Override
     public Set<FilmSessionResponseDTO> findByDate(String dateStr) {
         ValidationUtil.validateDate(dateStr);
-        Set<FilmSession> sessions = sessionRepository.findByDate(LocalDate.parse(dateStr));
+        LocalDate date = LocalDate.parse(dateStr);
+        return scheduleSnapshots.getByDate(date, () -> toDTOs(sessionRepository.findByDate(date)));
+    }
+
+    @Override
+    public List<FilmSessionResponseDTO> findByDateRange(String from, String to) {
+        LocalDate fromDate = ValidationUtil.parseDate(from, "Start date");
+        LocalDate toDate = ValidationUtil.parseDate(to, "End date");
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date.");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= RANGE_MAX_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + RANGE_MAX_DAYS + " days.");
+        }
+        return toDTOs(sessionRepository.findByDateRange(fromDate.atStartOfDay(), toDate.plusDays(1).atStartOfDay()));
+    }
+
+    private FilmSession toEntity(BulkScheduleRow row, Map<Long, Optional<Movie>> movies) {
+        long movieId = ValidationUtil.parseLong(row.getMovieId());
+        ValidationUtil.validateDate(row.getDate());
+        ValidationUtil.validatePrice(row.getPrice());
+        ValidationUtil.validateCapacity(row.getCapacity());
+        ValidationUtil.validateTime(row.getStartTime(), row.getEndTime());
+
+        Movie movie = movies.computeIfAbsent(movieId, movieRepository::getById).orElseThrow(() ->
+                new NoDataFoundException("Movie with ID " + movieId + " doesn't exist."));
+        FilmSession filmSession = FilmSessionCreateMapper.INSTANCE.toEntity(FilmSessionCreateDTO.builder()
+                .price(new BigDecimal(row.getPrice()))
+                .date(LocalDate.parse(row.getDate()))
+                .startTime(LocalTime.parse(row.getStartTime()))
+                .endTime(LocalTime.parse(row.getEndTime()))
+                .capacity(Integer.parseInt(row.getCapacity()))
+                .build());
+        filmSession.setMovie(movie);
+        return filmSession;
+    }
+
+    private static boolean overlaps(FilmSession first, FilmSession second) {
+        return first.getStartTime().isBefore(second.getEndTime()) && second.getStartTime().isBefore(first.getEndTime());
+    }
+
+    private List<FilmSessionResponseDTO> toDTOs(Collection<FilmSession> sessions) {
         return sessions.stream()
                 .map(FilmSessionResponseMapper.INSTANCE::toDTO)
-                .collect(Collectors.toSet());
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -2,8 +2,13 @@ package org.cinema.service.impl;
 
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.cache.SeatHoldCache;
+import org.cinema.cache.SeatOccupancyCache;
+import org.cinema.config.HibernateConfig;
 import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.cinema.dto.filmSessionDTO.SeatAvailability;
 import org.cinema.dto.ticketDTO.TicketCreateDTO;
+import org.cinema.dto.ticketDTO.TicketExportDTO;
 import org.cinema.dto.ticketDTO.TicketResponseDTO;
 import org.cinema.dto.ticketDTO.TicketUpdateDTO;
 import org.cinema.exception.EntityAlreadyExistException;
@@ -13,15 +18,22 @@ import org.cinema.mapper.ticketMapper.TicketCreateMapper;
 import org.cinema.mapper.ticketMapper.TicketResponseMapper;
 import org.cinema.mapper.ticketMapper.TicketUpdateMapper;
 import org.cinema.model.*;
+import org.cinema.repository.Page;
+import org.cinema.repository.UnitOfWork;
 import org.cinema.repository.impl.SessionRepositoryImpl;
 import org.cinema.repository.impl.TicketRepositoryImpl;
 import org.cinema.repository.impl.UserRepositoryImpl;
 import org.cinema.service.TicketService;
+import org.cinema.util.PropertiesUtil;
 import org.cinema.util.ValidationUtil;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,37 +42,48 @@ public class TicketServiceImpl implements TicketService {
     @Getter
     private static final TicketServiceImpl instance = new TicketServiceImpl();
 
-    private final TicketRepositoryImpl ticketRepository = TicketRepositoryImpl.getInstance();
+    private static final int MAX_GROUP_SIZE = PropertiesUtil.getInt("ticket.group.max.size", 10);
+    private static final int EXPORT_FETCH_SIZE = PropertiesUtil.getInt("ticket.export.fetch.size", 500);
+    private static final long EXPORT_MAX_DAYS = PropertiesUtil.getLong("ticket.export.max.days", 366);
+
+    private final TicketRepositoryImpl ticketRepository = TicketRepositoryImpl.getInstance(HibernateConfig.getSessionFactory());
     private final UserRepositoryImpl userRepository = UserRepositoryImpl.getInstance();
     private final SessionRepositoryImpl sessionRepository = SessionRepositoryImpl.getInstance();
+    private final SeatOccupancyCache seatOccupancyCache = SeatOccupancyCache.getInstance();
+    private final SeatHoldCache seatHoldCache = SeatHoldCache.getInstance();
+    private final UnitOfWork unitOfWork = UnitOfWork.getInstance();
 
     @Override
     public String save(TicketCreateDTO createDTO) {
         Status status = Status.valueOf(createDTO.getStatus().toUpperCase());
         RequestType requestType = RequestType.valueOf(createDTO.getRequestType().toUpperCase());
 
-        User user = userRepository.getById(createDTO.getUserId()).orElseThrow(() ->
-                new NoDataFoundException("User with this ID doesn't exist!"));
-        FilmSession filmSession = sessionRepository.getById(createDTO.getSessionId()).orElseThrow(() ->
-                new NoDataFoundException("Session with this ID doesn't exist!"));
+        long sessionId = unitOfWork.execute(() -> {
+            User user = userRepository.getById(createDTO.getUserId()).orElseThrow(() ->
+                    new NoDataFoundException("User with this ID doesn't exist!"));
+            FilmSession filmSession = sessionRepository.getById(createDTO.getSessionId()).orElseThrow(() ->
+                    new NoDataFoundException("Session with this ID doesn't exist!"));
 
-        ValidationUtil.validateSeatNumber(createDTO.getSeatNumber(), filmSession.getCapacity());
+            ValidationUtil.validateSeatNumber(createDTO.getSeatNumber(), filmSession.getCapacity());
 
-        Ticket ticket = TicketCreateMapper.INSTANCE.toEntity(createDTO);
-        ticket.setUser(user);
-        ticket.setFilmSession(filmSession);
-        ticket.setStatus(status);
-        ticket.setRequestType(requestType);
+            Ticket ticket = TicketCreateMapper.INSTANCE.toEntity(createDTO);
+            ticket.setUser(user);
+            ticket.setFilmSession(filmSession);
+            ticket.setStatus(status);
+            ticket.setRequestType(requestType);
 
-        if (ticketRepository.checkIfTicketExists(ticket)) {
-            throw new EntityAlreadyExistException("Ticket already exists with this session and seat. Try again.");
-        }
+            if (ticketRepository.checkIfTicketExists(ticket)) {
+                throw new EntityAlreadyExistException("Ticket already exists with this session and seat. Try again.");
+            }
 
-        ticketRepository.save(ticket);
+            ticketRepository.save(ticket);
 
-        if (!ticketRepository.checkIfTicketExists(ticket)) {
-            throw new NoDataFoundException("Ticket not found in database after saving. Try again.");
-        }
+            if (!ticketRepository.checkIfTicketExists(ticket)) {
+                throw new NoDataFoundException("Ticket not found in database after saving. Try again.");
+            }
+            return filmSession.getId();
+        });
+        seatOccupancyCache.invalidate(sessionId);
         return "Success! Ticket was successfully added to the database!";
     }
 
@@ -69,34 +92,46 @@ public class TicketServiceImpl implements TicketService {
         Status status = Status.valueOf(updateDTO.getStatus().toUpperCase());
         RequestType requestType = RequestType.valueOf(updateDTO.getRequestType().toUpperCase());
 
-        User user = userRepository.getById(updateDTO.getUserId()).orElseThrow(() ->
-                new NoDataFoundException("User with this ID doesn't exist!"));
-        FilmSession filmSession = sessionRepository.getById(updateDTO.getSessionId()).orElseThrow(() ->
-                new NoDataFoundException("Session with this ID doesn't exist!"));
+        long previousSessionId = unitOfWork.execute(() -> {
+            User user = userRepository.getById(updateDTO.getUserId()).orElseThrow(() ->
+                    new NoDataFoundException("User with this ID doesn't exist!"));
+            FilmSession filmSession = sessionRepository.getById(updateDTO.getSessionId()).orElseThrow(() ->
+                    new NoDataFoundException("Session with this ID doesn't exist!"));
 
-        ValidationUtil.validateSeatNumber(updateDTO.getSeatNumber(), filmSession.getCapacity());
+            ValidationUtil.validateSeatNumber(updateDTO.getSeatNumber(), filmSession.getCapacity());
 
-        Ticket ticket = TicketUpdateMapper.INSTANCE.toEntity(updateDTO);
-        ticket.setUser(user);
-        ticket.setFilmSession(filmSession);
-        ticket.setStatus(status);
-        ticket.setRequestType(requestType);
+            Ticket ticket = TicketUpdateMapper.INSTANCE.toEntity(updateDTO);
+            ticket.setUser(user);
+            ticket.setFilmSession(filmSession);
+            ticket.setStatus(status);
+            ticket.setRequestType(requestType);
 
-        Ticket existingTicket = ticketRepository.getById(ticket.getId()).orElseThrow(() ->
-                new NoDataFoundException("Ticket with this ID doesn't exist!"));
+            Ticket existingTicket = ticketRepository.getById(ticket.getId()).orElseThrow(() ->
+                    new NoDataFoundException("Ticket with this ID doesn't exist!"));
+            long existingSessionId = existingTicket.getFilmSession().getId();
 
-        ticketRepository.update(ticket, existingTicket.getPurchaseTime());
+            ticketRepository.update(ticket, existingTicket.getPurchaseTime());
 
-        if (!ticketRepository.checkIfTicketExists(ticket)) {
-            throw new NoDataFoundException("Ticket not found in database after updating. Try again.");
-        }
+            if (!ticketRepository.checkIfTicketExists(ticket)) {
+                throw new NoDataFoundException("Ticket not found in database after updating. Try again.");
+            }
+            return existingSessionId;
+        });
+        seatOccupancyCache.invalidate(previousSessionId);
+        seatOccupancyCache.invalidate(updateDTO.getSessionId());
 
         return "Success! Ticket was successfully updated in the database!";
     }
 
     @Override
     public String delete(String ticketIdStr) {
-        ticketRepository.delete(ValidationUtil.parseLong(ticketIdStr));
+        long ticketId = ValidationUtil.parseLong(ticketIdStr);
+        Optional<Long> sessionId = unitOfWork.execute(() -> {
+            Optional<Ticket> ticket = ticketRepository.getById(ticketId);
+            ticketRepository.delete(ticketId);
+            return ticket.map(t -> t.getFilmSession().getId());
+        });
+        sessionId.ifPresent(seatOccupancyCache::invalidate);
         return "Success! Ticket was successfully deleted!";
     }
 
@@ -120,47 +155,100 @@ public class TicketServiceImpl implements TicketService {
                 .collect(Collectors.toSet());
     }
 
+    @Override
+    public Page<TicketResponseDTO> findPage(String cursor, int pageSize) {
+        Page<Ticket> tickets = ticketRepository.findPage(cursor, pageSize);
+        log.info("{} tickets retrieved successfully.", tickets.getContent().size());
+        return tickets.map(TicketResponseMapper.INSTANCE::toDTO);
+    }
+
+    @Override
+    public Page<TicketResponseDTO> findPageByStatus(String status, String cursor, int pageSize) {
+        if (status == null || status.isBlank()) {
+            return findPage(cursor, pageSize);
+        }
+        Page<Ticket> tickets = ticketRepository.findPageByStatus(Status.valueOf(status.toUpperCase()), cursor, pageSize);
+        log.info("{} tickets with status {} retrieved successfully.", tickets.getContent().size(), status);
+        return tickets.map(TicketResponseMapper.INSTANCE::toDTO);
+    }
+
+    @Override
+    public long exportTickets(String from, String to, Consumer<TicketExportDTO> consumer) {
+        LocalDate fromDate = ValidationUtil.parseDate(from, "Start date");
+        LocalDate toDate = ValidationUtil.parseDate(to, "End date");
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date.");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= EXPORT_MAX_DAYS) {
+            throw new IllegalArgumentException("Export range must not exceed " + EXPORT_MAX_DAYS + " days.");
+        }
+        return ticketRepository.streamByDateRange(fromDate, toDate, EXPORT_FETCH_SIZE, consumer);
+    }
+
     @Override
     public String purchaseTicket(TicketCreateDTO ticketCreateDTO) {
-        User user = userRepository.getById(ticketCreateDTO.getUserId())
-                .orElseThrow(() -> new NoDataFoundException("User not found with ID: " + ticketCreateDTO.getUserId()));
-        FilmSession session = sessionRepository.getById(ticketCreateDTO.getSessionId())
-                .orElseThrow(() -> new NoDataFoundException("Session not found with ID: " + ticketCreateDTO.getSessionId()));
+        int seat = ValidationUtil.parseSeatNumber(ticketCreateDTO.getSeatNumber());
+        purchase(ticketCreateDTO.getUserId(), ticketCreateDTO.getSessionId(), List.of(seat));
+        return "Success! Ticket purchased, awaiting confirmation.";
+    }
 
-        ValidationUtil.validateSeatNumber(ticketCreateDTO.getSeatNumber(), session.getCapacity());
-        log.debug("Seat number {} validated successfully for session {}.", ticketCreateDTO.getSeatNumber(), session.getId());
+    @Override
+    public String purchaseTickets(Long userId, Long sessionId, List<String> seatNumbers) {
+        if (seatNumbers == null || seatNumbers.isEmpty()) {
+            throw new IllegalArgumentException("Select at least one seat.");
+        }
+        List<Integer> seats = seatNumbers.stream()
+                .map(ValidationUtil::parseSeatNumber)
+                .distinct()
+                .toList();
+        if (seats.size() > MAX_GROUP_SIZE) {
+            throw new IllegalArgumentException("No more than " + MAX_GROUP_SIZE + " seats can be purchased at once.");
+        }
 
-        Ticket ticket = TicketCreateMapper.INSTANCE.toEntity(ticketCreateDTO);
-        ticket.setUser(user);
-        ticket.setFilmSession(session);
-        ticket.setStatus(Status.PENDING);
-        ticket.setRequestType(RequestType.PURCHASE);
+        purchase(userId, sessionId, seats);
+        return String.format("Success! %d ticket(s) purchased, awaiting confirmation.", seats.size());
+    }
+
+    @Override
+    public String holdSeat(TicketCreateDTO ticketCreateDTO) {
+        long sessionId = ticketCreateDTO.getSessionId();
+        long userId = ticketCreateDTO.getUserId();
+        int seat = ValidationUtil.parseSeatNumber(ticketCreateDTO.getSeatNumber());
 
-        if (ticketRepository.checkIfTicketExists(ticket)) {
+        if (seatOccupancyCache.isTaken(sessionId, seat, () -> findSession(sessionId))) {
             throw new EntityAlreadyExistException("Ticket already exists with this session and seat. Try again.");
         }
 
-        ticketRepository.save(ticket);
-        if (!ticketRepository.checkIfTicketExists(ticket)) {
-            throw new NoDataFoundException("Ticket not found in database after purchasing. Try again.");
-        }
-        log.info("Ticket successfully created for session {} and seat {}.", session.getId(), ticket.getSeatNumber());
-        return "Success! Ticket purchased, awaiting confirmation.";
+        SeatHoldCache.SeatHold hold = seatHoldCache.hold(sessionId, seat, userId).orElseThrow(() ->
+                new EntityAlreadyExistException("Seat is temporarily held by another customer. Choose another seat."));
+        log.info("Seat {} in session {} held for user {}.", seat, sessionId, userId);
+        return String.format("Success! Seat %d is held for you until %s.", seat,
+                hold.getExpiresAt().toLocalTime().withNano(0));
     }
 
     @Override
-    public FilmSessionResponseDTO getSessionDetailsWithTickets(String sessionIdStr) {
+    public FilmSessionResponseDTO getSessionDetailsWithTickets(String sessionIdStr, Long userId) {
         int sessionId = ValidationUtil.parseId(sessionIdStr);
-        FilmSession session = sessionRepository.getById(sessionId)
-                .orElseThrow(() -> new NoDataFoundException("Session not found with ID: " + sessionId));
-
-        List<Ticket> tickets = ticketRepository.getTicketsBySession(sessionId);
-        List<Integer> takenSeats = tickets.stream()
-                .map(ticket -> Integer.parseInt(ticket.getSeatNumber()))
-                .toList();
+        FilmSession session = findSession(sessionId);
+
+        SeatAvailability seats = new SeatAvailability(session.getCapacity());
+        for (String seatNumber : ticketRepository.getSeatNumbersBySession(sessionId)) {
+            try {
+                seats.markTaken(Integer.parseInt(seatNumber));
+            } catch (NumberFormatException e) {
+                log.warn("Skipping ticket with invalid seat number '{}' in session {}.", seatNumber, sessionId);
+            }
+        }
 
         FilmSessionResponseDTO sessionResponseDTO= FilmSessionResponseMapper.INSTANCE.toDTO(session);
-        sessionResponseDTO.setTakenSeats(takenSeats);
+        if (userId != null) {
+            seatHoldCache.getSeatsHeldByOthers(sessionId, userId).forEach(seats::markTaken);
+            seatHoldCache.getHoldOf(sessionId, userId).ifPresent(hold -> {
+                sessionResponseDTO.setHeldSeat(hold.getSeat());
+                sessionResponseDTO.setHeldUntil(hold.getExpiresAt());
+            });
+        }
+        sessionResponseDTO.setSeats(seats);
         return sessionResponseDTO;
     }
 
@@ -183,19 +271,21 @@ public class TicketServiceImpl implements TicketService {
 
     @Override
     public String processTicketAction(String action, Long ticketId) {
-        Ticket ticket = ticketRepository.getById(ticketId).orElseThrow(() ->
-                new NoDataFoundException("Ticket with this ID doesn't exist!"));
-
-        return switch (action) {
-            case "confirm" -> confirmTicket(ticket);
-            case "return" -> returnTicket(ticket);
-            case "cancel" -> cancelTicket(ticket);
-            case "returnMyTicket" -> returnMyTicket(ticket);
-            default -> {
-                log.warn("Unknown action: {}", action);
-                yield "Error! Unknown action.";
-            }
-        };
+        return unitOfWork.execute(() -> {
+            Ticket ticket = ticketRepository.getById(ticketId).orElseThrow(() ->
+                    new NoDataFoundException("Ticket with this ID doesn't exist!"));
+
+            return switch (action) {
+                case "confirm" -> confirmTicket(ticket);
+                case "return" -> returnTicket(ticket);
+                case "cancel" -> cancelTicket(ticket);
+                case "returnMyTicket" -> returnMyTicket(ticket);
+                default -> {
+                    log.warn("Unknown action: {}", action);
+                    yield "Error! Unknown action.";
+                }
+            };
+        });
     }
 
     private String returnMyTicket(Ticket ticket) {
@@ -233,4 +323,61 @@ public class TicketServiceImpl implements TicketService {
         }
         return "Error! Invalid action for this ticket.";
     }
+
+    private void purchase(long userId, long sessionId, List<Integer> seats) {
+        for (int seat : seats) {
+            if (seatHoldCache.isHeldByOther(sessionId, seat, userId)) {
+                throw new EntityAlreadyExistException("Seat " + seat + " is temporarily held by another customer. Choose another seat.");
+            }
+        }
+
+        List<Integer> claimed = new ArrayList<>(seats.size());
+        try {
+            for (int seat : seats) {
+                if (!seatOccupancyCache.tryClaim(sessionId, seat, () -> findSession(sessionId))) {
+                    log.debug("Seat {} in session {} is already taken, purchase rejected.", seat, sessionId);
+                    throw new EntityAlreadyExistException("Seat " + seat + " is already taken. Try again.");
+                }
+                claimed.add(seat);
+            }
+
+            unitOfWork.run(() -> {
+                User user = userRepository.getById(userId)
+                        .orElseThrow(() -> new NoDataFoundException("User not found with ID: " + userId));
+                FilmSession session = findSession(sessionId);
+
+                List<Ticket> tickets = new ArrayList<>(seats.size());
+                for (int seat : seats) {
+                    Ticket ticket = new Ticket();
+                    ticket.setSeatNumber(String.valueOf(seat));
+                    ticket.setUser(user);
+                    ticket.setFilmSession(session);
+                    ticket.setStatus(Status.PENDING);
+                    ticket.setRequestType(RequestType.PURCHASE);
+                    tickets.add(ticket);
+                }
+
+                if (tickets.size() == 1) {
+                    ticketRepository.save(tickets.get(0));
+                } else {
+                    ticketRepository.saveAll(tickets);
+                }
+            });
+        } catch (RuntimeException e) {
+            claimed.forEach(seat -> seatOccupancyCache.release(sessionId, seat));
+            // The database rejected a seat the bitmap considered free: resync from the tickets table.
+            if (e instanceof EntityAlreadyExistException && claimed.size() == seats.size()) {
+                seatOccupancyCache.invalidate(sessionId);
+            }
+            throw e;
+        }
+
+        seats.forEach(seat -> seatHoldCache.release(sessionId, seat, userId));
+        log.info("{} ticket(s) successfully created for session {} and seats {}.", seats.size(), sessionId, seats);
+    }
+
+    private FilmSession findSession(long sessionId) {
+        return sessionRepository.getById(sessionId)
+                .orElseThrow(() -> new NoDataFoundException("Session not found with ID: " + sessionId));
+    }
 }
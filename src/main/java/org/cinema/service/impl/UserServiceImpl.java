@@ -3,6 +3,8 @@ package org.cinema.service.impl;
 import jakarta.servlet.http.HttpSession;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.cache.SeatOccupancyCache;
+import org.cinema.config.HibernateConfig;
 import org.cinema.dto.userDTO.UserCreateDTO;
 import org.cinema.dto.userDTO.UserResponseDTO;
 import org.cinema.dto.userDTO.UserUpdateDTO;
@@ -13,11 +15,15 @@ import org.cinema.mapper.userMapper.UserResponseMapper;
 import org.cinema.mapper.userMapper.UserUpdateMapper;
 import org.cinema.model.Role;
 import org.cinema.model.User;
+import org.cinema.repository.Page;
+import org.cinema.repository.UnitOfWork;
+import org.cinema.repository.impl.TicketRepositoryImpl;
 import org.cinema.repository.impl.UserRepositoryImpl;
 import org.cinema.service.UserService;
 import org.cinema.util.PasswordUtil;
 import org.cinema.util.ValidationUtil;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -30,6 +36,9 @@ public class UserServiceImpl implements UserService {
     private static final UserServiceImpl instance = new UserServiceImpl();
 
     private final UserRepositoryImpl userRepository = UserRepositoryImpl.getInstance();
+    private final TicketRepositoryImpl ticketRepository = TicketRepositoryImpl.getInstance(HibernateConfig.getSessionFactory());
+    private final SeatOccupancyCache seatOccupancyCache = SeatOccupancyCache.getInstance();
+    private final UnitOfWork unitOfWork = UnitOfWork.getInstance();
 
     @Override
     public String save(UserCreateDTO userCreateDTO) {
@@ -83,7 +92,14 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public String delete(String userIdStr) {
-        userRepository.delete(ValidationUtil.parseLong(userIdStr));
+        long userId = ValidationUtil.parseLong(userIdStr);
+        // Tickets of the user are removed by ON DELETE CASCADE, which the seat occupancy cache does not see.
+        List<Long> sessionIds = unitOfWork.execute(() -> {
+            List<Long> ids = ticketRepository.getSessionIdsByUserId(userId);
+            userRepository.delete(userId);
+            return ids;
+        });
+        sessionIds.forEach(seatOccupancyCache::invalidate);
         return "Success! User was successfully deleted!";
     }
 
@@ -107,6 +123,13 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toSet());
     }
 
+    @Override
+    public Page<UserResponseDTO> findPage(String cursor, int pageSize) {
+        Page<User> users = userRepository.findPage(cursor, pageSize);
+        log.info("{} users retrieved successfully.", users.getContent().size());
+        return users.map(UserResponseMapper.INSTANCE::toDTO);
+    }
+
     @Override
     public HttpSession login(UserUpdateDTO userUpdateDTO, HttpSession session) {
         ValidationUtil.validateUsername(userUpdateDTO.getUsername());
@@ -118,6 +141,7 @@ public class UserServiceImpl implements UserService {
         if (!PasswordUtil.checkPassword(userUpdateDTO.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("Invalid username or password.");
         }
+        rehashIfNeeded(user, userUpdateDTO.getPassword());
 
         session.setAttribute("userId", user.getId());
         session.setAttribute("role", user.getRole().toString());
@@ -165,4 +189,21 @@ public class UserServiceImpl implements UserService {
         userRepository.update(user);
         log.info("User with ID {} updated their profile.", userId);
     }
+
+    /**
+     * Replaces a password hash created with an outdated bcrypt cost while the plain password is known.
+     * A failed rehash does not fail the login; it is retried on the next one.
+     */
+    private void rehashIfNeeded(User user, String password) {
+        if (!PasswordUtil.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(PasswordUtil.hashPassword(password));
+            userRepository.update(user);
+            log.info("Password hash of user with ID {} upgraded to the configured cost.", user.getId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to rehash password of user with ID {}: {}", user.getId(), e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package org.cinema.util;
+
+import lombok.extern.slf4j.Slf4j;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of asynchronous calls in flight against one upstream host.
+ * Calls over the limit are queued without blocking the caller and are started as earlier calls complete;
+ * when the queue is full as well, further calls are rejected.
+ */
+@Slf4j
+public class InFlightLimiter {
+
+    private final int maxInFlight;
+    private final int maxQueued;
+    private final Queue<Runnable> waiting = new ArrayDeque<>();
+    private int inFlight;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param maxInFlight the maximum number of calls running at the same time.
+     * @param maxQueued the maximum number of calls waiting for a slot.
+     */
+    public InFlightLimiter(int maxInFlight, int maxQueued) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight calls must be positive.");
+        }
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("Max queued calls must not be negative.");
+        }
+        this.maxInFlight = maxInFlight;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Starts the call now if a slot is free, otherwise once one becomes free.
+     * If the queue is full, the returned future is failed with {@link RejectedExecutionException}.
+     * Cancelling the returned future removes a queued call from the queue, or cancels a started one,
+     * which frees its slot.
+     *
+     * @param call starts the asynchronous call.
+     * @param <T> the type of the call result.
+     * @return a future completed with the call's result.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Runnable start = () -> {
+            if (result.isDone()) {
+                release();
+                return;
+            }
+            CompletableFuture<T> started;
+            try {
+                started = call.get();
+            } catch (RuntimeException e) {
+                release();
+                result.completeExceptionally(e);
+                return;
+            }
+            started.whenComplete((value, error) -> {
+                release();
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(value);
+                }
+            });
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    started.cancel(true);
+                }
+            });
+        };
+
+        boolean startNow;
+        synchronized (this) {
+            startNow = inFlight < maxInFlight;
+            if (startNow) {
+                inFlight++;
+            } else if (waiting.size() < maxQueued) {
+                waiting.add(start);
+            } else {
+                log.warn("Upstream call rejected: {} calls in flight and {} queued.", inFlight, waiting.size());
+                result.completeExceptionally(new RejectedExecutionException("Too many upstream calls queued."));
+                return result;
+            }
+        }
+        if (startNow) {
+            start.run();
+        } else {
+            result.whenComplete((value, error) -> {
+                if (result.isCancelled()) {
+                    dequeue(start);
+                }
+            });
+        }
+        return result;
+    }
+
+    private synchronized void dequeue(Runnable start) {
+        if (waiting.remove(start)) {
+            log.debug("Cancelled upstream call removed from the queue.");
+        }
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = waiting.poll();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        }
+        log.debug("Starting queued upstream call.");
+        next.run();
+    }
+}
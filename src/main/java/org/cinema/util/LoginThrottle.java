@@ -0,0 +1,66 @@
+package org.cinema.util;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Rate limits login attempts per remote address and per username before any credentials are checked,
+ * so that credential-stuffing bursts are rejected without a database lookup or a bcrypt verification.
+ * The address limit stops one client from trying many usernames; the username limit stops many clients
+ * from guessing the password of one account.
+ */
+@Slf4j
+public class LoginThrottle {
+
+    @Getter
+    private static final LoginThrottle instance = new LoginThrottle();
+
+    private final TokenBucketRateLimiter addressLimiter;
+    private final TokenBucketRateLimiter usernameLimiter;
+
+    private LoginThrottle() {
+        int maxKeys = PropertiesUtil.getInt("login.throttle.max.keys", 10000);
+        this.addressLimiter = new TokenBucketRateLimiter(
+                PropertiesUtil.getInt("login.throttle.address.burst", 20),
+                PropertiesUtil.getInt("login.throttle.address.per.minute", 10),
+                Duration.ofMinutes(1), maxKeys);
+        this.usernameLimiter = new TokenBucketRateLimiter(
+                PropertiesUtil.getInt("login.throttle.username.burst", 5),
+                PropertiesUtil.getInt("login.throttle.username.per.minute", 3),
+                Duration.ofMinutes(1), maxKeys);
+    }
+
+    /**
+     * Registers a login attempt.
+     *
+     * @param remoteAddress the address the attempt comes from.
+     * @param username the username the attempt is for.
+     * @return {@link Duration#ZERO} if the attempt may proceed, otherwise how long the client should wait.
+     */
+    public Duration tryAcquire(String remoteAddress, String username) {
+        Duration wait = addressLimiter.tryAcquire(remoteAddress);
+        if (!wait.isZero()) {
+            log.warn("Login attempts from {} throttled.", remoteAddress);
+            return wait;
+        }
+        wait = usernameLimiter.tryAcquire(username.toLowerCase(Locale.ROOT));
+        if (!wait.isZero()) {
+            log.warn("Login attempts for user '{}' throttled.", username);
+        }
+        return wait;
+    }
+
+    public long getThrottledByAddress() {
+        return addressLimiter.getThrottledCount();
+    }
+
+    public long getThrottledByUsername() {
+        return usernameLimiter.getThrottledCount();
+    }
+
+    public int getTrackedKeys() {
+        return addressLimiter.size() + usernameLimiter.size();
+    }
+}
@@ -6,15 +6,30 @@ import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Properties;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.cinema.exception.NoDataFoundException;
 import org.cinema.exception.OmdbApiException;
@@ -24,26 +39,62 @@ import org.cinema.model.MovieAPI;
  * Utility class for interacting with the OMDB API.
  * Provides methods to fetch and search movie details.
  * Uses OMDB API for retrieving data in JSON format and parses it into {@link MovieAPI} objects.
+ * Responses are cached in-process: search results by normalized title (including "no movies found"
+ * answers, for a shorter time) and movie details by IMDb ID.
+ * <p>
+ * Requests are sent asynchronously on a dedicated bounded executor, never on the common pool.
+ * Each request has its own timeout, a whole search has an overall deadline, and the number of
+ * requests in flight per upstream host is limited. When some detail requests miss the deadline
+ * the movies fetched so far are returned. Requests beyond the per-host queue, or refused by the saturated
+ * executor, fail at once instead of running on the caller's thread. With {@link VirtualThreads} enabled the requests run
+ * on virtual threads instead; the per-host in-flight limit and the executor's capacity still apply.
  */
 @Slf4j
 @NoArgsConstructor
 public class OmdbApiUtil {
-    private static final Properties properties = new Properties();
-    private static final String API_KEY;
-    private static final String BASE_URL;
+    private static final String API_KEY = PropertiesUtil.get("omdb.api.key", null);
+    private static final String BASE_URL = PropertiesUtil.get("omdb.api.url", null);
     private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final HttpClient httpClient = HttpClient.newHttpClient();
+    private static final Duration REQUEST_TIMEOUT =
+            Duration.ofMillis(PropertiesUtil.getLong("omdb.http.request.timeout.millis", 3000));
+    private static final Duration SEARCH_DEADLINE =
+            Duration.ofMillis(PropertiesUtil.getLong("omdb.search.deadline.millis", 5000));
+    private static final int MAX_IN_FLIGHT_PER_HOST = PropertiesUtil.getInt("omdb.http.max.in.flight", 8);
+    private static final int MAX_QUEUED_PER_HOST = PropertiesUtil.getInt("omdb.http.max.queued", 64);
 
-    static {
-        try {
-            properties.load(OmdbApiUtil.class.getClassLoader().getResourceAsStream("application.properties"));
-            API_KEY = properties.getProperty("omdb.api.key");
-            BASE_URL = properties.getProperty("omdb.api.url");
-        } catch (IOException e) {
-            log.error("Failed to load application.properties: {}", e.getMessage());
-            throw new RuntimeException(e);
-        }
-    }
+    private static final ExecutorService httpExecutor = createHttpExecutor();
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(httpExecutor)
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+    private static final Map<String, InFlightLimiter> hostLimiters = new ConcurrentHashMap<>();
+
+    private static final Duration CACHE_TTL =
+            Duration.ofMinutes(PropertiesUtil.getLong("omdb.cache.ttl.minutes", 360));
+    private static final Duration NEGATIVE_CACHE_TTL =
+            Duration.ofMinutes(PropertiesUtil.getLong("omdb.cache.negative.ttl.minutes", 10));
+    /**
+     * The only OMDB search error that means the title has no matches; other errors, such as an exceeded
+     * request limit or an invalid key, say nothing about the title and are not cached.
+     */
+    private static final String MOVIE_NOT_FOUND_ERROR = "Movie not found!";
+
+    /**
+     * Search results by normalized title; an empty list records that OMDB found nothing and expires sooner.
+     * Weighted by the number of movies so that large result lists count proportionally.
+     */
+    private static final Cache<String, List<MovieAPI>> searchCache = Caffeine.newBuilder()
+            .maximumWeight(PropertiesUtil.getLong("omdb.cache.search.max.weight", 5000))
+            .weigher((String title, List<MovieAPI> movies) -> Math.max(1, movies.size()))
+            .expireAfter(new SearchExpiry(CACHE_TTL, NEGATIVE_CACHE_TTL))
+            .recordStats()
+            .build();
+    private static final Cache<String, MovieAPI> detailsCache = Caffeine.newBuilder()
+            .maximumWeight(PropertiesUtil.getLong("omdb.cache.details.max.weight", 5000))
+            .weigher((String movieId, MovieAPI movie) -> 1)
+            .expireAfterWrite(CACHE_TTL)
+            .recordStats()
+            .build();
 
     /**
      * Searches for movies by title using the OMDB API.
@@ -59,14 +110,42 @@ public class OmdbApiUtil {
         log.debug("Starting movie search for title: {}", title);
         ValidationUtil.validateTitle(title);
 
+        String cacheKey = normalizeTitle(title);
+        List<MovieAPI> cached = searchCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            log.debug("OMDB search cache hit for title: {}", title);
+            if (cached.isEmpty()) {
+                throw new NoDataFoundException("No movies found for the given title: " + title);
+            }
+            return cached;
+        }
+
+        long deadline = System.nanoTime() + SEARCH_DEADLINE.toNanos();
         try {
             String encodedTitle = URLEncoder.encode(title, StandardCharsets.UTF_8);
             String urlString = buildUrl("s", encodedTitle);
 
-            String response = fetchApiResponse(urlString);
-            return parseSearchResponse(response, title);
+            String response = fetchApiResponse(urlString, deadline);
+            List<String> movieIds = parseSearchResponse(response, title);
+            List<MovieAPI> movies = List.copyOf(fetchMovieDetails(movieIds, deadline));
+            if (movies.isEmpty()) {
+                throw new OmdbApiException("Failed to fetch movie details in time for title: " + title);
+            }
+            if (movies.size() == movieIds.size()) {
+                searchCache.put(cacheKey, movies);
+            } else {
+                log.warn("Returning partial search results for title '{}': {} of {} movies.",
+                        title, movies.size(), movieIds.size());
+            }
+            return movies;
         } catch (NoDataFoundException e) {
+            searchCache.put(cacheKey, List.of());
+            throw e;
+        } catch (OmdbApiException e) {
             throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OmdbApiException("Interrupted while searching for movies", e);
         } catch (IOException e) {
             log.error("Error parsing JSON response for search title: {}", title);
             throw new OmdbApiException("Failed to process movie search data for title: " + title, e);
@@ -76,63 +155,209 @@ public class OmdbApiUtil {
         }
     }
 
+    /**
+     * Returns the counters of the search results cache.
+     *
+     * @return the search cache statistics
+     */
+    public static CacheStatistics getSearchCacheStats() {
+        return CacheStatistics.of(searchCache);
+    }
+
+    /**
+     * Returns the counters of the movie details cache.
+     *
+     * @return the details cache statistics
+     */
+    public static CacheStatistics getDetailsCacheStats() {
+        return CacheStatistics.of(detailsCache);
+    }
+
+    /**
+     * Normalizes a title for use as a cache key: trimmed, lower-cased, with single spaces.
+     *
+     * @param title the movie title
+     * @return the normalized title
+     */
+    public static String normalizeTitle(String title) {
+        return title.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Stops the HTTP executor. Called on application shutdown.
+     */
+    public static void shutdown() {
+        httpExecutor.shutdownNow();
+    }
+
+    /**
+     * Fetches details for the given movie IDs concurrently and waits for them until the deadline.
+     * Requests still running at the deadline are cancelled and failed ones are skipped.
+     *
+     * @param movieIds the IDs of the movies to fetch details for
+     * @param deadline the {@link System#nanoTime()} by which the search has to finish
+     * @return the movies fetched in time, in the order of {@code movieIds}
+     */
+    private static List<MovieAPI> fetchMovieDetails(List<String> movieIds, long deadline) throws InterruptedException {
+        List<CompletableFuture<MovieAPI>> futures = new ArrayList<>();
+        for (String movieId : movieIds) {
+            futures.add(getMovieDetails(movieId));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("OMDB search deadline of {} ms reached while fetching movie details.", SEARCH_DEADLINE.toMillis());
+        } catch (ExecutionException e) {
+            log.debug("Some movie detail requests failed: {}", e.getCause().getMessage());
+        }
+
+        List<MovieAPI> movies = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<MovieAPI> future = futures.get(i);
+            if (!future.isDone()) {
+                future.cancel(true);
+                log.warn("Movie details request for ID {} cancelled after the deadline.", movieIds.get(i));
+            } else if (future.isCompletedExceptionally()) {
+                log.error("Error fetching details for movie ID: {}", movieIds.get(i));
+            } else {
+                movies.add(future.join());
+            }
+        }
+        log.info("Movie search completed. Total movies found: {}", movies.size());
+        return movies;
+    }
+
     /**
      * Fetches movie details from the OMDB API using the provided movie ID.
      *
      * @param movieId the ID of the movie to fetch details for
-     * @return the {@link MovieAPI} object containing movie details
-     * @throws NoDataFoundException if no data is found for the given movie ID
-     * @throws OmdbApiException if an error occurs while fetching or parsing the movie details
+     * @return a future completed with the {@link MovieAPI} object containing movie details;
+     *         completed exceptionally with {@link NoDataFoundException} if no data is found for the given movie ID,
+     *         or with {@link OmdbApiException} if an error occurs while fetching or parsing the movie details
      */
-    private static MovieAPI getMovieDetails(String movieId) {
+    private static CompletableFuture<MovieAPI> getMovieDetails(String movieId) {
         ValidationUtil.validateNotBlank(movieId, "Movie ID");
 
-        try {
-            log.debug("Fetching movie details for ID: {}", movieId);
-            String urlString = buildUrl("i", movieId);
-            String response = fetchApiResponse(urlString);
-
-            return parseMovieResponse(response, movieId);
-        } catch (NoDataFoundException e) {
-            throw e;
-        } catch (IOException e) {
-            log.error("Error parsing JSON response for movie ID: {}", movieId);
-            throw new OmdbApiException("Error parsing response from OMDB API", e);
-        } catch (Exception e) {
-            log.error("Unexpected error while fetching movie details for ID: {}", movieId);
-            throw new OmdbApiException("Unexpected error occurred while fetching movie details", e);
+        MovieAPI cached = detailsCache.getIfPresent(movieId);
+        if (cached != null) {
+            log.debug("OMDB details cache hit for ID: {}", movieId);
+            return CompletableFuture.completedFuture(cached);
         }
+
+        log.debug("Fetching movie details for ID: {}", movieId);
+        CompletableFuture<String> request = sendAsync(buildUrl("i", movieId));
+        return cancelWith(request, request.thenApply(response -> {
+            try {
+                MovieAPI movie = parseMovieResponse(response, movieId);
+                detailsCache.put(movieId, movie);
+                return movie;
+            } catch (IOException e) {
+                log.error("Error parsing JSON response for movie ID: {}", movieId);
+                throw new OmdbApiException("Error parsing response from OMDB API", e);
+            }
+        }));
     }
 
     /**
-     * Sends an HTTP request to the OMDB API to fetch the response from the given URL.
+     * Sends an HTTP request to the OMDB API and waits for the response until the deadline.
      *
      * @param urlString the URL to send the GET request to
+     * @param deadline the {@link System#nanoTime()} by which the response has to arrive
      * @return the response body as a string
-     * @throws OmdbApiException if the API request fails or the response status code is not 200
+     * @throws OmdbApiException if the API request fails, times out or the response status code is not 200
      */
-    private static String fetchApiResponse(String urlString) {
+    private static String fetchApiResponse(String urlString, long deadline) {
+        CompletableFuture<String> response = sendAsync(urlString);
+        try {
+            return response.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            response.cancel(true);
+            log.error("OMDB API request timed out: {}", urlString);
+            throw new OmdbApiException("OMDB API did not respond in time", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OmdbApiException("Interrupted while waiting for OMDB API", e);
+        } catch (ExecutionException e) {
+            log.error("Failed to fetch API response from URL: {}", urlString);
+            throw new OmdbApiException("Failed to fetch data from OMDB API", e.getCause());
+        }
+    }
+
+    /**
+     * Sends an asynchronous GET request, respecting the in-flight limit of the target host.
+     * Cancelling the returned future removes the request from the limiter's queue, or aborts the exchange
+     * and frees its in-flight slot if it was already sent.
+     *
+     * @param urlString the URL to send the GET request to
+     * @return a future completed with the response body, or exceptionally with {@link OmdbApiException}
+     *         if the status code is not 200 or the executor rejects the request, and with
+     *         {@link RejectedExecutionException} if the host's queue is full
+     */
+    private static CompletableFuture<String> sendAsync(String urlString) {
         ValidationUtil.validateNotBlank(urlString, "URL");
         log.debug("Sending API request to URL: {}", urlString);
 
-        try {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(urlString))
-                    .header("Accept", "application/json")
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        URI uri = URI.create(urlString);
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(uri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
 
+        InFlightLimiter limiter = hostLimiters.computeIfAbsent(String.valueOf(uri.getHost()),
+                host -> new InFlightLimiter(MAX_IN_FLIGHT_PER_HOST, MAX_QUEUED_PER_HOST));
+        CompletableFuture<HttpResponse<String>> exchange = limiter.submit(() -> {
+            try {
+                return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+            } catch (RejectedExecutionException e) {
+                log.warn("OMDB request rejected, the HTTP executor is saturated: {}", urlString);
+                return CompletableFuture.failedFuture(new OmdbApiException("OMDB API client is overloaded", e));
+            }
+        });
+        return cancelWith(exchange, exchange.thenApply(response -> {
             if (response.statusCode() != 200) {
                 throw new OmdbApiException("API request failed with status code: " + response.statusCode());
             }
-
             return response.body();
-        } catch (Exception e) {
-            log.error("Failed to fetch API response from URL: {}", urlString);
-            throw new OmdbApiException("Failed to fetch data from OMDB API", e);
+        }));
+    }
+
+    /**
+     * Cancels {@code source} when {@code dependent} is cancelled. Cancelling a stage derived with
+     * {@code thenApply} only completes that stage; it does not reach the stage it was derived from.
+     *
+     * @param source the stage doing the work
+     * @param dependent a stage derived from {@code source}
+     * @param <T> the type of the dependent result
+     * @return {@code dependent}
+     */
+    private static <T> CompletableFuture<T> cancelWith(CompletableFuture<?> source, CompletableFuture<T> dependent) {
+        dependent.whenComplete((value, error) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    private static ExecutorService createHttpExecutor() {
+        int threads = PropertiesUtil.getInt("omdb.http.threads", 4);
+        int queueSize = PropertiesUtil.getInt("omdb.http.queue.size", 256);
+        if (VirtualThreads.isEnabled()) {
+            return VirtualThreads.newBoundedThreadPerTaskExecutor("omdb-http-", threads + queueSize);
         }
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                task -> {
+                    Thread thread = new Thread(task, "omdb-http-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
     }
 
     /**
@@ -150,42 +375,31 @@ public class OmdbApiUtil {
     }
 
     /**
-     * Parses the JSON response from the search API and converts it into a list of {@link MovieAPI} objects.
+     * Parses the JSON response from the search API and extracts the IMDb IDs of the found movies.
      *
      * @param response the JSON response body as a string
      * @param title the title of the movie being searched
-     * @return a list of {@link MovieAPI} objects corresponding to the search results
+     * @return the IMDb IDs of the search results
      * @throws IOException if an error occurs during JSON parsing
-     * @throws NoDataFoundException if no search results are found
+     * @throws NoDataFoundException if no movies match the title
+     * @throws OmdbApiException if the API reports any other error, e.g. an exceeded request limit
      */
-    private static List<MovieAPI> parseSearchResponse(String response, String title) throws IOException {
+    static List<String> parseSearchResponse(String response, String title) throws IOException {
         JsonNode jsonResponse = objectMapper.readTree(response);
-        if ("True".equalsIgnoreCase(jsonResponse.get("Response").asText())) {
-            JsonNode searchResults = jsonResponse.get("Search");
-            
-            List<CompletableFuture<MovieAPI>> futures = new ArrayList<>();
-            
-            for (JsonNode node : searchResults) {
-                CompletableFuture<MovieAPI> future = CompletableFuture.supplyAsync(() -> {
-                    try {
-                        return getMovieDetails(node.get("imdbID").asText());
-                    } catch (Exception e) {
-                        log.error("Error fetching details for movie ID: {}", node.get("imdbID").asText(), e);
-                        throw new CompletionException(e);
-                    }
-                });
-                futures.add(future);
+        if ("True".equalsIgnoreCase(jsonResponse.path("Response").asText())) {
+            List<String> movieIds = new ArrayList<>();
+            for (JsonNode node : jsonResponse.get("Search")) {
+                movieIds.add(node.get("imdbID").asText());
             }
+            return movieIds;
+        }
 
-            List<MovieAPI> movieList = futures.stream()
-                    .map(CompletableFuture::join)
-                    .collect(Collectors.toList());
-
-            log.info("Movie search completed. Total movies found: {}", movieList.size());
-            return movieList;
-        } else {
+        String error = jsonResponse.path("Error").asText();
+        if (MOVIE_NOT_FOUND_ERROR.equalsIgnoreCase(error)) {
             throw new NoDataFoundException("No movies found for the given title: " + title);
         }
+        log.error("OMDB API returned an error for search title '{}': {}", title, error);
+        throw new OmdbApiException("OMDB API error: " + error);
     }
 
     /**
@@ -197,7 +411,7 @@ public class OmdbApiUtil {
      * @throws IOException if an error occurs during JSON parsing
      * @throws NoDataFoundException if no details are found for the movie ID
      */
-    private static MovieAPI parseMovieResponse(String response, String movieId) throws IOException {
+    static MovieAPI parseMovieResponse(String response, String movieId) throws IOException {
         MovieAPI movie = objectMapper.readValue(response, MovieAPI.class);
         if (movie != null && "True".equalsIgnoreCase(movie.getResponse())) {
             log.info("Movie details retrieved for ID: {}", movieId);
@@ -207,4 +421,51 @@ public class OmdbApiUtil {
             throw new NoDataFoundException("Movie details not found for ID: " + movieId);
         }
     }
+
+    /**
+     * Expires search results a fixed time after they were written; "no movies found" answers
+     * use the shorter negative TTL, as the title may get matches later.
+     */
+    static final class SearchExpiry implements Expiry<String, List<MovieAPI>> {
+        private final long ttlNanos;
+        private final long negativeTtlNanos;
+
+        SearchExpiry(Duration ttl, Duration negativeTtl) {
+            this.ttlNanos = ttl.toNanos();
+            this.negativeTtlNanos = negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String title, List<MovieAPI> movies, long currentTime) {
+            return movies.isEmpty() ? negativeTtlNanos : ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String title, List<MovieAPI> movies, long currentTime, long currentDuration) {
+            return expireAfterCreate(title, movies, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String title, List<MovieAPI> movies, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    /**
+     * The counters and size of an OMDB response cache.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class CacheStatistics {
+        private final CacheStats stats;
+        private final long entryCount;
+        private final long weightedSize;
+
+        static CacheStatistics of(Cache<?, ?> cache) {
+            long weightedSize = cache.policy().eviction()
+                    .map(eviction -> eviction.weightedSize().orElse(0))
+                    .orElse(0L);
+            return new CacheStatistics(cache.stats(), cache.estimatedSize(), weightedSize);
+        }
+    }
 }
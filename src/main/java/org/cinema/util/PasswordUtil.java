@@ -1,30 +1,57 @@
 package org.cinema.util;
 
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.cinema.exception.ServiceBusyException;
 import org.mindrot.jbcrypt.BCrypt;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Utility class for password hashing and validation using bcrypt.
  * Provides methods to hash passwords and verify them against stored hashes.
+ * <p>
+ * Bcrypt is deliberately CPU-heavy, so the work runs on a dedicated executor sized to the number of cores
+ * with a bounded queue instead of on the request threads. When the queue is full, or a task does not finish
+ * within the wait timeout, the call fails fast with {@link ServiceBusyException} so that a login storm cannot
+ * pin every request thread and stall the rest of the site.
  */
 @Slf4j
 public class PasswordUtil {
 
+    private static final int COST = PropertiesUtil.getInt("password.bcrypt.cost", 10);
+    private static final long WAIT_TIMEOUT_MILLIS = PropertiesUtil.getLong("password.hash.timeout.millis", 5000);
+    private static final int RETRY_AFTER_SECONDS = PropertiesUtil.getInt("password.hash.retry.after.seconds", 5);
+
+    private static final ThreadPoolExecutor hashExecutor = createHashExecutor();
+
+    private static final LongAdder operations = new LongAdder();
+    private static final LongAdder rejected = new LongAdder();
+    private static final LongAdder totalHashNanos = new LongAdder();
+    private static final LongAdder totalWaitNanos = new LongAdder();
+    private static final AtomicLong maxHashNanos = new AtomicLong();
+
     /**
-     * Hashes the given password using bcrypt.
+     * Hashes the given password using bcrypt with the configured cost.
      *
      * @param password the password to hash
      * @return the hashed password
+     * @throws ServiceBusyException if the hashing executor is saturated
      */
     public static String hashPassword(String password) {
-        try {
-            String hashedPassword = BCrypt.hashpw(password, BCrypt.gensalt());
-            log.debug("Password hashed successfully.");
-            return hashedPassword;
-        } catch (Exception e) {
-            log.error("Unexpected error during password hashing: {}", e.getMessage());
-            throw new RuntimeException("Unexpected error during hashing password", e);
-        }
+        String hashedPassword = execute(() -> BCrypt.hashpw(password, BCrypt.gensalt(COST)), "hashing password");
+        log.debug("Password hashed successfully.");
+        return hashedPassword;
     }
 
     /**
@@ -33,13 +60,117 @@ public class PasswordUtil {
      * @param password the password to check
      * @param storedHash the stored password hash
      * @return true if the password matches the hash, false otherwise
+     * @throws ServiceBusyException if the hashing executor is saturated
      */
     public static boolean checkPassword(String password, String storedHash) {
+        return execute(() -> BCrypt.checkpw(password, storedHash), "checking password");
+    }
+
+    /**
+     * Checks whether a stored hash was created with a cost other than the configured one
+     * and should be replaced the next time the plain password is known, i.e. on a successful login.
+     *
+     * @param storedHash the stored password hash
+     * @return true if the hash should be recomputed
+     */
+    public static boolean needsRehash(String storedHash) {
+        if (storedHash == null || storedHash.length() < 7 || storedHash.charAt(0) != '$') {
+            return false;
+        }
+        int costStart = storedHash.indexOf('$', 1) + 1;
+        try {
+            return Integer.parseInt(storedHash.substring(costStart, costStart + 2)) != COST;
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            log.warn("Stored password hash has an unknown format.");
+            return false;
+        }
+    }
+
+    /**
+     * Returns a snapshot of the hashing executor metrics.
+     *
+     * @return the current metrics
+     */
+    public static Stats getStats() {
+        return new Stats(operations.sum(), rejected.sum(), totalHashNanos.sum(), maxHashNanos.get(),
+                totalWaitNanos.sum(), hashExecutor.getQueue().size(), hashExecutor.getActiveCount());
+    }
+
+    /**
+     * Stops the hashing executor. Called when the application shuts down.
+     */
+    public static void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    private static <T> T execute(Callable<T> task, String operation) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = hashExecutor.submit(() -> {
+                long started = System.nanoTime();
+                totalWaitNanos.add(started - submitted);
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    operations.increment();
+                    totalHashNanos.add(elapsed);
+                    maxHashNanos.accumulateAndGet(elapsed, Math::max);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue is full, rejecting {}.", operation);
+            throw busy();
+        }
+
         try {
-            return BCrypt.checkpw(password, storedHash);
-        } catch (Exception e) {
-            log.error("Error during password checking: {}", e.getMessage());
-            throw new RuntimeException("Error checking password", e);
+            return future.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            log.warn("Password hashing did not finish within {} ms, giving up {}.", WAIT_TIMEOUT_MILLIS, operation);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while " + operation, e);
+        } catch (ExecutionException e) {
+            log.error("Error during {}: {}", operation, e.getCause().getMessage());
+            throw new RuntimeException("Error " + operation, e.getCause());
         }
     }
-}
\ No newline at end of file
+
+    private static ServiceBusyException busy() {
+        return new ServiceBusyException("The server is busy. Please try again in a few seconds.", RETRY_AFTER_SECONDS);
+    }
+
+    private static ThreadPoolExecutor createHashExecutor() {
+        int threads = PropertiesUtil.getInt("password.hash.threads", Runtime.getRuntime().availableProcessors());
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(PropertiesUtil.getInt("password.hash.queue.size", 64)),
+                task -> {
+                    Thread thread = new Thread(task, "password-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Point-in-time metrics of the password hashing executor.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Stats {
+        private final long operations;
+        private final long rejected;
+        private final long totalHashNanos;
+        private final long maxHashNanos;
+        private final long totalWaitNanos;
+        private final int queueDepth;
+        private final int activeThreads;
+    }
+}
@@ -0,0 +1,62 @@
+package org.cinema.util;
+
+import lombok.extern.slf4j.Slf4j;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Utility class for reading application settings from {@code application.properties}.
+ * Values can be overridden with JVM system properties of the same name.
+ */
+@Slf4j
+public class PropertiesUtil {
+    private static final Properties properties = new Properties();
+
+    static {
+        try (InputStream input = PropertiesUtil.class.getClassLoader().getResourceAsStream("application.properties")) {
+            if (input != null) {
+                properties.load(input);
+            } else {
+                log.warn("application.properties not found, default settings will be used.");
+            }
+        } catch (IOException e) {
+            log.error("Failed to load application.properties: {}", e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the value of a setting.
+     *
+     * @param key the setting name
+     * @param defaultValue the value to use when the setting is absent
+     * @return the configured value or {@code defaultValue}
+     */
+    public static String get(String key, String defaultValue) {
+        String value = System.getProperty(key, properties.getProperty(key));
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        return (int) getLong(key, defaultValue);
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = get(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("Invalid numeric value '{}' for setting '{}', using default {}.", value, key, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key, null);
+        return value == null ? defaultValue : Boolean.parseBoolean(value);
+    }
+}
@@ -0,0 +1,140 @@
+package org.cinema.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.cinema.dto.filmSessionDTO.BulkScheduleRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns the input of the bulk scheduling form into {@link BulkScheduleRow}s: either a CSV file
+ * or a recurrence rule (a time slot repeated on selected weekdays of a date range).
+ * Only the shape of the input is checked here; the values of each row are validated by the service.
+ */
+@Slf4j
+public class ScheduleImportUtil {
+
+    /**
+     * Column order of the CSV file. A first line starting with this header is skipped.
+     */
+    public static final String CSV_HEADER = "movie_id,date,start_time,end_time,price,capacity";
+
+    private static final int MAX_RECURRENCE_DAYS = 366;
+
+    /**
+     * Reads one row per non-blank line of a CSV file with the {@link #CSV_HEADER} columns.
+     * Missing columns are left empty, so the row is rejected by validation with its line number.
+     *
+     * @param reader the CSV content.
+     * @return the rows in file order; {@link BulkScheduleRow#getLine()} is the line in the file.
+     * @throws IOException if the file cannot be read.
+     */
+    public static List<BulkScheduleRow> parseCsv(Reader reader) throws IOException {
+        List<BulkScheduleRow> rows = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1) {
+                line = line.replace("\uFEFF", "");
+                if (line.trim().toLowerCase().startsWith("movie_id")) {
+                    continue;
+                }
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            String[] columns = Arrays.copyOf(line.split(",", -1), 6);
+            rows.add(BulkScheduleRow.builder()
+                    .line(lineNumber)
+                    .movieId(trim(columns[0]))
+                    .date(trim(columns[1]))
+                    .startTime(trim(columns[2]))
+                    .endTime(trim(columns[3]))
+                    .price(trim(columns[4]))
+                    .capacity(trim(columns[5]))
+                    .build());
+        }
+        log.debug("{} rows read from the schedule CSV.", rows.size());
+        return rows;
+    }
+
+    /**
+     * Expands a recurrence rule into one row per movie and matching date.
+     *
+     * @param movieIds the IDs of the movies shown in the slot.
+     * @param price the ticket price.
+     * @param capacity the number of seats.
+     * @param startTime the start time of every session.
+     * @param endTime the end time of every session.
+     * @param from the first date of the range.
+     * @param to the last date of the range, inclusive.
+     * @param days the weekdays to schedule on, e.g. {@code MONDAY}; every day if {@code null} or empty.
+     * @return the rows in date order, numbered from 1.
+     * @throws IllegalArgumentException if no movie is selected, or the range or a weekday is invalid.
+     */
+    public static List<BulkScheduleRow> expandRecurrence(String[] movieIds, String price, String capacity,
+                                                         String startTime, String endTime,
+                                                         String from, String to, String[] days) {
+        LocalDate fromDate = ValidationUtil.parseDate(from, "Start date");
+        LocalDate toDate = ValidationUtil.parseDate(to, "End date");
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date.");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= MAX_RECURRENCE_DAYS) {
+            throw new IllegalArgumentException("Date range must not exceed " + MAX_RECURRENCE_DAYS + " days.");
+        }
+        if (movieIds == null || movieIds.length == 0) {
+            throw new IllegalArgumentException("Select at least one movie.");
+        }
+        Set<DayOfWeek> weekdays = parseWeekdays(days);
+
+        List<BulkScheduleRow> rows = new ArrayList<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            if (!weekdays.contains(date.getDayOfWeek())) {
+                continue;
+            }
+            for (String movieId : movieIds) {
+                rows.add(BulkScheduleRow.builder()
+                        .line(rows.size() + 1)
+                        .movieId(movieId)
+                        .date(date.toString())
+                        .startTime(startTime)
+                        .endTime(endTime)
+                        .price(price)
+                        .capacity(capacity)
+                        .build());
+            }
+        }
+        log.debug("Recurrence from {} to {} on {} expanded to {} rows.", fromDate, toDate, weekdays, rows.size());
+        return rows;
+    }
+
+    private static Set<DayOfWeek> parseWeekdays(String[] days) {
+        if (days == null || days.length == 0) {
+            return EnumSet.allOf(DayOfWeek.class);
+        }
+        Set<DayOfWeek> weekdays = EnumSet.noneOf(DayOfWeek.class);
+        for (String day : days) {
+            try {
+                weekdays.add(DayOfWeek.valueOf(day.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown weekday: " + day);
+            }
+        }
+        return weekdays;
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+}
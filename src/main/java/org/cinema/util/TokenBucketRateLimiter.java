@@ -0,0 +1,98 @@
+package org.cinema.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Memory-bounded token bucket rate limiter keyed by string, e.g. a remote address or a username.
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the theoretical arrival time of the next request
+ * (the generic cell rate algorithm, equivalent to a token bucket): a request is admitted by moving that time
+ * forward one emission interval with a compare-and-set, so token accounting never blocks.
+ * Buckets live in a Caffeine cache bounded to {@code maxKeys}, whose lookups are lock-free as well.
+ * A bucket left idle for the burst duration is full again and is expired; a key evicted earlier
+ * starts again with a full bucket, so the bound trades a little precision under a flood of distinct keys
+ * for constant memory.
+ */
+public class TokenBucketRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<String, AtomicLong> buckets;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    /**
+     * Creates a limiter.
+     *
+     * @param burst the number of requests a key may make at once with a full bucket.
+     * @param permits the number of tokens added back per {@code period}.
+     * @param period the refill period.
+     * @param maxKeys the maximum number of keys whose buckets are remembered.
+     */
+    public TokenBucketRateLimiter(int burst, int permits, Duration period, int maxKeys) {
+        this(burst, permits, period, maxKeys, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int burst, int permits, Duration period, int maxKeys, LongSupplier nanoClock) {
+        if (burst <= 0 || permits <= 0 || maxKeys <= 0) {
+            throw new IllegalArgumentException("Burst, permits and max keys must be positive.");
+        }
+        this.emissionIntervalNanos = Math.max(1, period.toNanos() / permits);
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofNanos(burstNanos))
+                .ticker(nanoClock::getAsLong)
+                .build();
+    }
+
+    /**
+     * Takes one token from the key's bucket if one is available.
+     *
+     * @param key the key to rate limit.
+     * @return {@link Duration#ZERO} if the request is admitted, otherwise how long until a token is available.
+     */
+    public Duration tryAcquire(String key) {
+        AtomicLong bucket = buckets.get(key, k -> new AtomicLong(nanoClock.getAsLong()));
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long arrival = bucket.get();
+            long next = (arrival - now < 0 ? now : arrival) + emissionIntervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                throttled.increment();
+                return Duration.ofNanos(excess);
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                allowed.increment();
+                return Duration.ZERO;
+            }
+        }
+    }
+
+    public long getAllowedCount() {
+        return allowed.sum();
+    }
+
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Returns the number of keys whose buckets are currently remembered.
+     *
+     * @return the number of tracked keys.
+     */
+    public int size() {
+        buckets.cleanUp();
+        return (int) buckets.estimatedSize();
+    }
+}
@@ -5,6 +5,7 @@ import org.cinema.model.Role;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
 
 @Slf4j
 public class ValidationUtil {
@@ -108,6 +109,31 @@ public class ValidationUtil {
         }
     }
 
+    public static int parseSeatNumber(String seatNumberStr) {
+        validateNotBlank(seatNumberStr, "Seat number");
+        try {
+            int seatNum = Integer.parseInt(seatNumberStr.trim());
+            if (seatNum <= 0) {
+                log.error("Validation failed: seat number '{}' is not positive", seatNum);
+                throw new IllegalArgumentException("Seat number exceeds the session's capacity or is not positive.");
+            }
+            return seatNum;
+        } catch (NumberFormatException e) {
+            log.error("Validation failed: seat number '{}' has invalid format", seatNumberStr);
+            throw new IllegalArgumentException("Invalid seat number format.");
+        }
+    }
+
+    public static LocalDate parseDate(String dateStr, String fieldName) {
+        validateNotBlank(dateStr, fieldName);
+        try {
+            return LocalDate.parse(dateStr.trim());
+        } catch (DateTimeParseException e) {
+            log.error("Validation failed: {} '{}' has invalid format", fieldName, dateStr);
+            throw new IllegalArgumentException(fieldName + " has invalid format.");
+        }
+    }
+
     public static long parseLong(String id) {
         validateNotBlank(id, "ID");
         try {
@@ -0,0 +1,164 @@
+package org.cinema.util;
+
+import lombok.extern.slf4j.Slf4j;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in virtual-thread execution mode, switched on by {@code execution.virtual.threads}.
+ * <p>
+ * The application is compiled for Java 17, so virtual threads are created reflectively and only used
+ * when the runtime is Java 21 or newer; on older runtimes the setting is ignored with a warning and
+ * the bounded platform-thread executors stay in place.
+ */
+@Slf4j
+public class VirtualThreads {
+
+    private static final int MIN_FEATURE_VERSION = 21;
+    private static final boolean SUPPORTED = Runtime.version().feature() >= MIN_FEATURE_VERSION;
+    private static final boolean ENABLED = resolveEnabled();
+
+    /**
+     * Returns whether blocking work should run on virtual threads.
+     *
+     * @return true if the mode is switched on and the runtime supports virtual threads
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Returns whether the runtime supports virtual threads.
+     *
+     * @return true on Java 21 or newer
+     */
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for every task.
+     *
+     * @param namePrefix the prefix of the thread names, followed by a counter
+     * @return the executor
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+        if (!SUPPORTED) {
+            throw new UnsupportedOperationException("Virtual threads require Java " + MIN_FEATURE_VERSION + " or newer.");
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            Object builder = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(builderClass)).invoke();
+            MethodHandle name = lookup.findVirtual(builderClass, "name",
+                    MethodType.methodType(builderClass, String.class, long.class));
+            builder = name.invoke(builder, namePrefix, 1L);
+            ThreadFactory factory = (ThreadFactory) lookup.findVirtual(builderClass, "factory",
+                    MethodType.methodType(ThreadFactory.class)).invoke(builder);
+            return (ExecutorService) lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class, ThreadFactory.class)).invoke(factory);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create a virtual thread executor.", e);
+        }
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for every task but runs at most {@code maxTasks}
+     * tasks at a time, rejecting further ones with {@link RejectedExecutionException} like a bounded pool
+     * with a full queue.
+     *
+     * @param namePrefix the prefix of the thread names, followed by a counter
+     * @param maxTasks the maximum number of tasks running at the same time
+     * @return the executor
+     * @throws UnsupportedOperationException if the runtime does not support virtual threads
+     */
+    public static ExecutorService newBoundedThreadPerTaskExecutor(String namePrefix, int maxTasks) {
+        return new BoundedExecutor(newThreadPerTaskExecutor(namePrefix), maxTasks);
+    }
+
+    private static boolean resolveEnabled() {
+        if (!PropertiesUtil.getBoolean("execution.virtual.threads", false)) {
+            return false;
+        }
+        if (!SUPPORTED) {
+            log.warn("execution.virtual.threads is set, but Java {} has no virtual threads; using platform threads.",
+                    Runtime.version().feature());
+            return false;
+        }
+        log.info("Blocking work runs on virtual threads.");
+        return true;
+    }
+
+    /**
+     * Limits the number of tasks running on a delegate executor with a semaphore;
+     * a task that finds no free permit is rejected instead of waiting.
+     */
+    static final class BoundedExecutor extends AbstractExecutorService {
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+        private final int maxTasks;
+
+        BoundedExecutor(ExecutorService delegate, int maxTasks) {
+            if (maxTasks <= 0) {
+                throw new IllegalArgumentException("Max tasks must be positive.");
+            }
+            this.delegate = delegate;
+            this.permits = new Semaphore(maxTasks);
+            this.maxTasks = maxTasks;
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!permits.tryAcquire()) {
+                throw new RejectedExecutionException("All " + maxTasks + " task slots are in use.");
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public void shutdown() {
+            delegate.shutdown();
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -1,4 +1,7 @@
-CREATE TABLE `users`
+-- Baseline schema. Every statement is idempotent, so the migration also applies to databases
+-- created earlier by init.sql or by hbm2ddl.
+
+CREATE TABLE IF NOT EXISTS `users`
 (
     `id`         BIGINT       NOT NULL AUTO_INCREMENT,
     `username`   VARCHAR(255) NOT NULL COLLATE 'utf8mb4_0900_ai_ci',
@@ -9,7 +12,7 @@ CREATE TABLE `users`
     UNIQUE INDEX `username` (`username`) USING BTREE
 );
 
-CREATE TABLE `movies`
+CREATE TABLE IF NOT EXISTS `movies`
 (
     `id`         BIGINT       NOT NULL AUTO_INCREMENT,
     `title`      VARCHAR(255) NOT NULL COLLATE 'utf8mb4_0900_ai_ci',
@@ -22,7 +25,7 @@ CREATE TABLE `movies`
     PRIMARY KEY (`id`) USING BTREE
 );
 
-CREATE TABLE `film_session`
+CREATE TABLE IF NOT EXISTS `film_session`
 (
     `id`         BIGINT         NOT NULL AUTO_INCREMENT,
     `movie_id`   BIGINT         NOT NULL,
@@ -35,7 +38,7 @@ CREATE TABLE `film_session`
     FOREIGN KEY (`movie_id`) REFERENCES `movies` (`id`) ON UPDATE CASCADE ON DELETE CASCADE
 );
 
-CREATE TABLE `ticket`
+CREATE TABLE IF NOT EXISTS `ticket`
 (
     `id`            BIGINT      NOT NULL AUTO_INCREMENT,
     `user_id`       BIGINT      NOT NULL,
@@ -51,6 +54,14 @@ CREATE TABLE `ticket`
     CONSTRAINT `fk_ticket_user` FOREIGN KEY (`user_id`) REFERENCES `users` (`id`) ON UPDATE CASCADE ON DELETE CASCADE
 );
 
-INSERT INTO `users` (`username`, `password`, `role`, `created_at`) VALUES
+CREATE TABLE IF NOT EXISTS `ticket_seq`
+(
+    `next_val` BIGINT NULL DEFAULT NULL
+);
+
+INSERT INTO `ticket_seq` (`next_val`)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM `ticket_seq`);
+
+INSERT IGNORE INTO `users` (`username`, `password`, `role`, `created_at`) VALUES
    ('admin', '$2a$10$R4o9QwMEPW9.YpctiGUsROhxmWd8U8/q5QlV/GE.erbKaXZgJ8sjm', 'ADMIN', '2024-12-13 08:10:49.658637'),
-   ('user123', '$2a$10$QAmv0FYxfZkEBWVgWjlbjuEZRXAMMJcFQprqOmq0mpqT5fMNT4wPa', 'USER', CURRENT_TIMESTAMP);
\ No newline at end of file
+   ('user123', '$2a$10$QAmv0FYxfZkEBWVgWjlbjuEZRXAMMJcFQprqOmq0mpqT5fMNT4wPa', 'USER', CURRENT_TIMESTAMP);
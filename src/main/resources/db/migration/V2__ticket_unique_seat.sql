@@ -0,0 +1,19 @@
+-- One ticket per seat and session. Fails if the table already holds duplicate seats;
+-- those have to be resolved by hand before the application can start.
+SET @index_exists = (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'ticket' AND index_name = 'uk_ticket_session_seat');
+SET @ddl = IF(@index_exists = 0,
+    'ALTER TABLE `ticket` ADD UNIQUE INDEX `uk_ticket_session_seat` (`session_id`, `seat_number`)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- The unique index starts with session_id and also serves the foreign key,
+-- so the single-column index only costs writes.
+SET @index_exists = (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'ticket' AND index_name = 'fk_ticket_session');
+SET @ddl = IF(@index_exists > 0, 'ALTER TABLE `ticket` DROP INDEX `fk_ticket_session`', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,9 @@
+-- Serves the schedule queries, which filter by date and order by date and start time.
+SET @index_exists = (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'film_session' AND index_name = 'idx_film_session_date_start');
+SET @ddl = IF(@index_exists = 0,
+    'ALTER TABLE `film_session` ADD INDEX `idx_film_session_date_start` (`date`, `start_time`)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,9 @@
+-- Serves the status-filtered admin ticket queue; session_id lets the join to film_session use the index.
+SET @index_exists = (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'ticket' AND index_name = 'idx_ticket_status_session');
+SET @ddl = IF(@index_exists = 0,
+    'ALTER TABLE `ticket` ADD INDEX `idx_ticket_status_session` (`status`, `session_id`)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,4 @@
+-- Ticket IDs were generated by AUTO_INCREMENT before the pooled ticket_seq generator was introduced.
+-- Move the sequence past the existing IDs so new tickets cannot collide with them.
+UPDATE `ticket_seq`
+SET `next_val` = GREATEST(COALESCE(`next_val`, 1), (SELECT COALESCE(MAX(`id`), 0) + 1 FROM `ticket`));
@@ -0,0 +1,13 @@
+-- Film session IDs come from the pooled film_session_seq generator instead of AUTO_INCREMENT,
+-- so that bulk scheduling can send its inserts as JDBC batches.
+CREATE TABLE IF NOT EXISTS `film_session_seq`
+(
+    `next_val` BIGINT NULL DEFAULT NULL
+);
+
+INSERT INTO `film_session_seq` (`next_val`)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM `film_session_seq`);
+
+-- Move the sequence past the existing IDs so new sessions cannot collide with them.
+UPDATE `film_session_seq`
+SET `next_val` = GREATEST(COALESCE(`next_val`, 1), (SELECT COALESCE(MAX(`id`), 0) + 1 FROM `film_session`));
@@ -0,0 +1,22 @@
+-- One row per movie: concurrent searches with overlapping OMDB results could store the same title and year twice.
+-- Sessions of a duplicate are moved to the oldest row with the same title and year before the duplicate is removed.
+UPDATE `film_session` fs
+    JOIN `movies` m ON m.`id` = fs.`movie_id`
+    JOIN (SELECT `title`, `year`, MIN(`id`) AS `keep_id` FROM `movies` GROUP BY `title`, `year`) k
+        ON k.`title` = m.`title` AND k.`year` <=> m.`year`
+SET fs.`movie_id` = k.`keep_id`
+WHERE m.`id` <> k.`keep_id`;
+
+DELETE m FROM `movies` m
+    JOIN (SELECT `title`, `year`, MIN(`id`) AS `keep_id` FROM `movies` GROUP BY `title`, `year`) k
+        ON k.`title` = m.`title` AND k.`year` <=> m.`year`
+WHERE m.`id` <> k.`keep_id`;
+
+SET @index_exists = (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'movies' AND index_name = 'uk_movies_title_year');
+SET @ddl = IF(@index_exists = 0,
+    'ALTER TABLE `movies` ADD UNIQUE INDEX `uk_movies_title_year` (`title`, `year`)',
+    'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -31,6 +31,7 @@
         <li class="nav-item"><a class="nav-link" href="${pageContext.request.contextPath}/admin/sessions">Manage Sessions</a></li>
         <li class="nav-item"><a class="nav-link" href="${pageContext.request.contextPath}/admin/tickets">Manage Tickets</a></li>
         <li class="nav-item"><a class="nav-link" href="${pageContext.request.contextPath}/admin/tickets/confirm">Confirm Orders</a></li>
+        <li class="nav-item"><a class="nav-link" href="${pageContext.request.contextPath}/admin/sql">SQL Statistics</a></li>
         <li class="nav-item">
           <form method="post" action="${pageContext.request.contextPath}/logout" class="d-inline" id="logoutForm">
             <button type="button" class="btn btn-outline-light btn-sm" id="logoutButton">Logout</button>
@@ -36,6 +36,18 @@
     ${pageContext.session.removeAttribute("message")}
   </c:if>
 
+  <div class="d-flex justify-content-center gap-2 mb-3">
+    <a href="${pageContext.request.contextPath}/admin/tickets/confirm"
+       class="btn btn-sm ${empty param.status ? 'btn-secondary' : 'btn-outline-secondary'}">All</a>
+    <c:forEach var="statusFilter" items="PENDING,CONFIRMED,CANCELLED,RETURNED">
+      <c:url var="statusUrl" value="/admin/tickets/confirm">
+        <c:param name="status" value="${statusFilter}"/>
+      </c:url>
+      <a href="${statusUrl}"
+         class="btn btn-sm ${param.status == statusFilter ? 'btn-secondary' : 'btn-outline-secondary'}">${statusFilter}</a>
+    </c:forEach>
+  </div>
+
   <c:choose>
     <c:when test="${empty tickets}">
       <p class="text-center">No tickets available.</p>
@@ -116,6 +128,26 @@
       </table>
     </c:otherwise>
   </c:choose>
+
+  <div class="d-flex justify-content-center gap-2 mb-4">
+    <c:if test="${not empty param.cursor}">
+      <c:url var="firstPageUrl" value="/admin/tickets/confirm">
+        <c:if test="${not empty param.status}">
+          <c:param name="status" value="${param.status}"/>
+        </c:if>
+      </c:url>
+      <a href="${firstPageUrl}" class="btn btn-outline-secondary btn-sm">First page</a>
+    </c:if>
+    <c:if test="${not empty nextCursor}">
+      <c:url var="nextPageUrl" value="/admin/tickets/confirm">
+        <c:if test="${not empty param.status}">
+          <c:param name="status" value="${param.status}"/>
+        </c:if>
+        <c:param name="cursor" value="${nextCursor}"/>
+      </c:url>
+      <a href="${nextPageUrl}" class="btn btn-outline-primary btn-sm">Next page</a>
+    </c:if>
+  </div>
 </div>
 </body>
 </html>
@@ -62,43 +62,48 @@
     </c:if>
 
     <c:if test="${not empty selectedSession}">
-      <h3 class="text-center">Select your seat for '${selectedSession.movieTitle}'</h3>
+      <h3 class="text-center">Select your seats for '${selectedSession.movieTitle}'</h3>
       <h2 class="text-center">+--------------------------------+</h2>
       <h2 class="text-center">|----------- SCREEN -----------|</h2>
       <h2 class="text-center">+--------------------------------+</h2>
       <form action="${pageContext.request.contextPath}/user/tickets/purchase" method="post" id="seatForm" class="text-center">
         <input type="hidden" name="sessionId" value="${selectedSession.id}">
-        <input type="hidden" name="seatNumber" id="selectedSeat" value="">
+        <input type="hidden" name="seatNumber" id="selectedSeat" value="${selectedSession.heldSeat}">
+        <c:if test="${not empty selectedSession.heldSeat}">
+          <p class="text-warning">Seat ${selectedSession.heldSeat} is held for you until ${selectedSession.heldUntil.toLocalTime().withNano(0)}.</p>
+        </c:if>
         <div class="seat-map">
-          <c:forEach var="row" begin="0" end="${(selectedSession.capacity / 10) - 1}">
+          <c:forEach var="row" begin="0" end="${(selectedSession.capacity - 1) / 10}">
             <div class="seat-row">
-              <c:forEach var="seat" begin="${row * 10 + 1}" end="${row * 10 + 10}">
-                <button type="button" class="seat-btn ${selectedSession.takenSeats.contains(seat) ? 'taken' : ''}"
-                        data-seat-number="${seat}" ${selectedSession.takenSeats.contains(seat) ? 'disabled' : ''}>
+              <c:forEach var="seat" begin="${row * 10 + 1}" end="${row * 10 + 10 < selectedSession.capacity ? row * 10 + 10 : selectedSession.capacity}">
+                <c:set var="taken" value="${selectedSession.seats.isTaken(seat)}"/>
+                <button type="button" class="seat-btn ${taken ? 'taken' : ''} ${selectedSession.heldSeat == seat ? 'selected' : ''}"
+                        data-seat-number="${seat}" ${taken ? 'disabled' : ''}>
                     ${seat}
                 </button>
               </c:forEach>
             </div>
           </c:forEach>
         </div>
-        <button type="submit" class="btn btn-success mt-3 mx-auto d-block">Purchase</button>
+        <div class="d-flex justify-content-center gap-2 mt-3">
+          <button type="submit" name="action" value="hold" class="btn btn-warning">Hold Seat</button>
+          <button type="submit" name="action" value="purchase" class="btn btn-success">Purchase</button>
+        </div>
       </form>
     </c:if>
   </div>
 </div>
 
 <script>
+  const selectedSeatInput = document.getElementById('selectedSeat');
+
   document.querySelectorAll('.seat-btn').forEach(button => {
     button.addEventListener('click', () => {
-      const selectedSeatInput = document.getElementById('selectedSeat');
-      const previouslySelected = document.querySelector('.seat-btn.selected');
-
-      if (previouslySelected) {
-        previouslySelected.classList.remove('selected');
-      }
+      button.classList.toggle('selected');
 
-      button.classList.add('selected');
-      selectedSeatInput.value = button.getAttribute('data-seat-number');
+      selectedSeatInput.value = Array.from(document.querySelectorAll('.seat-btn.selected'))
+          .map(selected => selected.getAttribute('data-seat-number'))
+          .join(',');
     });
   });
 </script>
@@ -38,6 +38,26 @@
         ${pageContext.session.removeAttribute("message")}
     </c:if>
 
+    <c:if test="${not empty sessionScope.bulkFailures}">
+        <table class="table table-sm table-bordered table-warning">
+            <thead>
+            <tr>
+                <th>Row</th>
+                <th>Reason</th>
+            </tr>
+            </thead>
+            <tbody>
+            <c:forEach var="failure" items="${sessionScope.bulkFailures}">
+                <tr>
+                    <td>${failure.line}</td>
+                    <td><c:out value="${failure.reason}" /></td>
+                </tr>
+            </c:forEach>
+            </tbody>
+        </table>
+        ${pageContext.session.removeAttribute("bulkFailures")}
+    </c:if>
+
     <c:choose>
         <c:when test="${empty filmSessions}">
             <p class="text-center">No sessions available.</p>
@@ -46,6 +66,7 @@
             <table class="table table-bordered">
                 <thead>
                 <tr>
+                    <th>ID</th>
                     <th>Movie</th>
                     <th>Price (BYN)</th>
                     <th>Date</th>
@@ -58,6 +79,7 @@
                 <tbody>
                 <c:forEach var="filmSession" items="${filmSessions}">
                     <tr>
+                        <td>${filmSession.id}</td>
                         <td>${filmSession.movieTitle}</td>
                         <td>${filmSession.price}</td>
                         <td><c:out value="${filmSession.date.format(DateTimeFormatter.ofPattern('dd.MM.yyyy'))}" /></td>
@@ -73,6 +95,7 @@
                             <form method="get" action="${pageContext.request.contextPath}/admin/sessions" class="d-inline">
                                 <input type="hidden" name="id" value="${filmSession.id}">
                                 <input type="hidden" name="action" value="edit">
+                                <input type="hidden" name="cursor" value="${param.cursor}">
                                 <button type="submit" class="btn btn-warning btn-sm">Edit</button>
                             </form>
                         </td>
@@ -83,6 +106,18 @@
         </c:otherwise>
     </c:choose>
 
+    <div class="d-flex justify-content-center gap-2 mb-4">
+        <c:if test="${not empty param.cursor}">
+            <a href="${pageContext.request.contextPath}/admin/sessions" class="btn btn-outline-secondary btn-sm">First page</a>
+        </c:if>
+        <c:if test="${not empty nextCursor}">
+            <c:url var="nextPageUrl" value="/admin/sessions">
+                <c:param name="cursor" value="${nextCursor}"/>
+            </c:url>
+            <a href="${nextPageUrl}" class="btn btn-outline-primary btn-sm">Next page</a>
+        </c:if>
+    </div>
+
     <div class="row justify-content-between">
         <div class="col-md-6">
             <h2 class="text-center">Add Session</h2>
@@ -157,6 +192,64 @@
         </c:if>
     </div>
 
+    <div class="row mt-4">
+        <div class="col-md-12">
+            <h2 class="text-center">Schedule Sessions</h2>
+            <form method="post" action="${pageContext.request.contextPath}/admin/sessions" enctype="multipart/form-data">
+                <input type="hidden" name="action" value="bulk">
+                <div class="row">
+                    <div class="col-md-6">
+                        <h5>Repeat a time slot</h5>
+                        <div class="mb-3">
+                            <select class="form-select form-select-sm" name="movieIds" multiple size="5">
+                                <c:forEach var="movie" items="${movies}">
+                                    <option value="${movie.id}">${movie.title}</option>
+                                </c:forEach>
+                            </select>
+                        </div>
+                        <div class="mb-3 d-flex gap-2">
+                            <input type="date" class="form-control form-control-sm" name="fromDate" title="From">
+                            <input type="date" class="form-control form-control-sm" name="toDate" title="To">
+                        </div>
+                        <div class="mb-3">
+                            <c:forEach var="day" items="MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY,SATURDAY,SUNDAY">
+                                <label class="form-check-label me-2">
+                                    <input type="checkbox" class="form-check-input" name="days" value="${day}">
+                                        ${day.substring(0, 3)}
+                                </label>
+                            </c:forEach>
+                        </div>
+                        <div class="mb-3 d-flex gap-2">
+                            <input type="time" class="form-control form-control-sm" name="startTime" title="Start time">
+                            <input type="time" class="form-control form-control-sm" name="endTime" title="End time">
+                        </div>
+                        <div class="mb-3 d-flex gap-2">
+                            <input type="number" class="form-control form-control-sm" name="price" placeholder="Price (BYN)" step="0.1">
+                            <input type="number" class="form-control form-control-sm" name="capacity" placeholder="Capacity">
+                        </div>
+                    </div>
+                    <div class="col-md-6">
+                        <h5>Or upload a CSV file</h5>
+                        <div class="mb-3">
+                            <input type="file" class="form-control form-control-sm" name="csvFile" accept=".csv,text/csv">
+                        </div>
+                        <p class="small text-muted">
+                            One session per line: <code>movie_id,date,start_time,end_time,price,capacity</code>,
+                            e.g. <code>12,2025-03-01,18:00,20:00,12.5,100</code>. A header line is optional.
+                            If a file is selected, the fields on the left are ignored.
+                        </p>
+                    </div>
+                </div>
+                <div class="text-center">
+                    <button type="submit" class="btn btn-secondary btn-sm">
+                        <span class="button-text">Schedule</span>
+                        <span class="spinner-border spinner-border-sm d-none" role="status" aria-hidden="true"></span>
+                    </button>
+                </div>
+            </form>
+        </div>
+    </div>
+
 </div>
 
 <script src="https://cdn.jsdelivr.net/npm/bootstrap@5.3.0-alpha1/dist/js/bootstrap.bundle.min.js"></script>
@@ -0,0 +1,102 @@
+<%@ page contentType="text/html;charset=UTF-8" language="java"%>
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@ taglib uri="http://java.sun.com/jsp/jstl/fmt" prefix="fmt" %>
+<%@ page import="java.time.format.DateTimeFormatter" %>
+<!DOCTYPE html>
+<html lang="en">
+<head>
+  <meta charset="UTF-8">
+  <meta name="viewport" content="width=device-width, initial-scale=1.0">
+  <title>SQL Statistics</title>
+
+  <link href="https://cdn.jsdelivr.net/npm/bootstrap@5.3.0-alpha1/dist/css/bootstrap.min.css" rel="stylesheet">
+  <link rel="stylesheet" href="${pageContext.request.contextPath}/css/style.css">
+
+</head>
+<body>
+
+<div class="container my-5">
+
+  <div class="d-flex justify-content-between align-items-center mb-3">
+    <h1 class="text-center">SQL Statistics</h1>
+    <a href="${pageContext.request.contextPath}/admin" class="btn btn-danger">Back</a>
+  </div>
+
+  <form method="get" action="${pageContext.request.contextPath}/admin/sql" class="d-flex align-items-center gap-2 mb-3">
+    <label for="limit">Top statements:</label>
+    <input type="number" id="limit" name="limit" value="${limit}" min="1" max="500" class="form-control w-auto">
+    <button type="submit" class="btn btn-primary">Show</button>
+  </form>
+
+  <h2 class="h4">Statements by total time</h2>
+  <c:if test="${untrackedCount > 0}">
+    <div class="alert alert-warning" role="alert">
+      ${untrackedCount} executions were not aggregated because the limit of distinct statements was reached.
+    </div>
+  </c:if>
+  <c:choose>
+    <c:when test="${empty statements}">
+      <p class="text-center">No statements recorded yet.</p>
+    </c:when>
+    <c:otherwise>
+      <table class="table table-bordered table-sm">
+        <thead>
+        <tr>
+          <th>SQL</th>
+          <th>Executions</th>
+          <th>Total, ms</th>
+          <th>Mean, ms</th>
+          <th>Max, ms</th>
+          <th>Errors</th>
+        </tr>
+        </thead>
+        <tbody>
+        <c:forEach var="statement" items="${statements}">
+          <tr>
+            <td><code><c:out value="${statement.sql}"/></code></td>
+            <td>${statement.count}</td>
+            <td><fmt:formatNumber value="${statement.totalMillis}" maxFractionDigits="1"/></td>
+            <td><fmt:formatNumber value="${statement.meanMillis}" maxFractionDigits="2"/></td>
+            <td><fmt:formatNumber value="${statement.maxMillis}" maxFractionDigits="1"/></td>
+            <td>${statement.errors}</td>
+          </tr>
+        </c:forEach>
+        </tbody>
+      </table>
+    </c:otherwise>
+  </c:choose>
+
+  <h2 class="h4 mt-5">Slow statements (over ${slowThresholdMillis} ms, ${slowCount} in total)</h2>
+  <c:choose>
+    <c:when test="${empty slowStatements}">
+      <p class="text-center">No slow statements.</p>
+    </c:when>
+    <c:otherwise>
+      <table class="table table-bordered table-sm">
+        <thead>
+        <tr>
+          <th>Time</th>
+          <th>Duration, ms</th>
+          <th>Repository method</th>
+          <th>SQL</th>
+          <th>Parameters</th>
+        </tr>
+        </thead>
+        <tbody>
+        <c:forEach var="slow" items="${slowStatements}">
+          <tr class="${slow.failed ? 'table-danger' : ''}">
+            <td><c:out value="${slow.executedAt.format(DateTimeFormatter.ofPattern('dd.MM.yyyy HH:mm:ss'))}"/></td>
+            <td><fmt:formatNumber value="${slow.durationMillis}" maxFractionDigits="1"/></td>
+            <td><c:out value="${empty slow.caller ? 'N/A' : slow.caller}"/></td>
+            <td><code><c:out value="${slow.sql}"/></code></td>
+            <td><c:out value="${slow.parameters}"/></td>
+          </tr>
+        </c:forEach>
+        </tbody>
+      </table>
+    </c:otherwise>
+  </c:choose>
+</div>
+
+</body>
+</html>
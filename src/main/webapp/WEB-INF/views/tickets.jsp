@@ -38,6 +38,24 @@
         ${pageContext.session.removeAttribute("message")}
     </c:if>
 
+    <form method="get" action="${pageContext.request.contextPath}/admin/tickets/export" id="exportForm" class="row g-2 align-items-center mb-3">
+        <div class="col-auto">
+            <input type="date" class="form-control form-control-sm" name="from" required>
+        </div>
+        <div class="col-auto">
+            <input type="date" class="form-control form-control-sm" name="to" required>
+        </div>
+        <div class="col-auto">
+            <select class="form-select form-select-sm" name="format">
+                <option value="csv">CSV</option>
+                <option value="ndjson">NDJSON</option>
+            </select>
+        </div>
+        <div class="col-auto">
+            <button type="submit" class="btn btn-outline-success btn-sm">Export sales</button>
+        </div>
+    </form>
+
     <c:choose>
         <c:when test="${empty tickets}">
             <p class="text-center">No tickets available.</p>
@@ -78,6 +96,7 @@
                             <form method="get" action="${pageContext.request.contextPath}/admin/tickets" class="d-inline">
                                 <input type="hidden" name="id" value="${ticket.id}">
                                 <input type="hidden" name="action" value="edit">
+                                <input type="hidden" name="cursor" value="${param.cursor}">
                                 <button type="submit" class="btn btn-warning btn-sm">Edit</button>
                             </form>
                         </td>
@@ -88,29 +107,28 @@
         </c:otherwise>
     </c:choose>
 
+    <div class="d-flex justify-content-center gap-2 mb-4">
+        <c:if test="${not empty param.cursor}">
+            <a href="${pageContext.request.contextPath}/admin/tickets" class="btn btn-outline-secondary btn-sm">First page</a>
+        </c:if>
+        <c:if test="${not empty nextCursor}">
+            <c:url var="nextPageUrl" value="/admin/tickets">
+                <c:param name="cursor" value="${nextCursor}"/>
+            </c:url>
+            <a href="${nextPageUrl}" class="btn btn-outline-primary btn-sm">Next page</a>
+        </c:if>
+    </div>
+
     <div class="row justify-content-between">
         <div class="col-md-6">
             <h2 class="text-center">Add Ticket</h2>
             <form method="post" action="${pageContext.request.contextPath}/admin/tickets" id="addTicketForm">
                 <input type="hidden" name="action" value="add">
                 <div class="mb-3">
-                    <select class="form-control form-control-sm" name="userId" required>
-                        <option value="" disabled selected>-- Select user --</option>
-                        <c:forEach var="user" items="${users}">
-                            <option value="${user.id}">${user.username}</option>
-                        </c:forEach>
-                    </select>
+                    <input type="number" class="form-control form-control-sm" name="userId" placeholder="User ID" min="1" required>
                 </div>
                 <div class="mb-3">
-                    <select class="form-control form-control-sm" name="sessionId" required>
-                        <option value="" disabled selected>-- Select film session --</option>
-                        <c:forEach var="filmSession" items="${filmSessions}">
-                            <option value="${filmSession.id}">
-                                    ${filmSession.movieTitle} -
-                                <c:out value="${filmSession.date.format(DateTimeFormatter.ofPattern('dd.MM.yyyy'))} ${filmSession.startTime.format(DateTimeFormatter.ofPattern('HH:mm'))}" />
-                            </option>
-                        </c:forEach>
-                    </select>
+                    <input type="number" class="form-control form-control-sm" name="sessionId" placeholder="Session ID" min="1" required>
                 </div>
                 <div class="mb-3">
                     <input type="number" class="form-control form-control-sm" name="seatNumber" placeholder="Select seat number" required>
@@ -144,21 +162,10 @@
                     <input type="hidden" name="action" value="update">
                     <input type="hidden" name="id" value="${ticketToEdit.id}">
                     <div class="mb-3">
-                        <select class="form-control form-control-sm" placeholder="Select user" name="userId" required>
-                            <c:forEach var="user" items="${users}">
-                                <option value="${user.id}" <c:if test="${user.id == ticketToEdit.userId}">selected</c:if>>${user.username}</option>
-                            </c:forEach>
-                        </select>
+                        <input type="number" class="form-control form-control-sm" placeholder="User ID" name="userId" value="${ticketToEdit.userId}" min="1" required>
                     </div>
                     <div class="mb-3">
-                        <select class="form-control form-control-sm" placeholder="Select film session" name="sessionId" required>
-                            <c:forEach var="filmSession" items="${filmSessions}">
-                                <option value="${filmSession.id}" <c:if test="${filmSession.id == ticketToEdit.filmSession.id}">selected</c:if>>
-                                        ${filmSession.movieTitle} -
-                                    <c:out value="${filmSession.date.format(DateTimeFormatter.ofPattern('dd.MM.yyyy'))} ${filmSession.startTime.format(DateTimeFormatter.ofPattern('HH:mm'))}" />
-                                </option>
-                            </c:forEach>
-                        </select>
+                        <input type="number" class="form-control form-control-sm" placeholder="Session ID" name="sessionId" value="${ticketToEdit.filmSession.id}" min="1" required>
                     </div>
                     <div class="mb-3">
                         <input type="number" class="form-control form-control-sm"  placeholder="Select seat number" name="seatNumber" value="${ticketToEdit.seatNumber}" required>
@@ -190,7 +197,7 @@
 <script src="https://cdn.jsdelivr.net/npm/bootstrap@5.3.0-alpha1/dist/js/bootstrap.bundle.min.js"></script>
 <script>
     document.addEventListener('DOMContentLoaded', function() {
-        const forms = document.querySelectorAll('form');
+        const forms = document.querySelectorAll('form:not(#exportForm)');
 
         forms.forEach(form => {
             form.addEventListener('submit', function(e) {
@@ -80,6 +80,7 @@
               <form method="get" action="${pageContext.request.contextPath}/admin/users" class="d-inline">
                 <input type="hidden" name="id" value="${user.id}">
                 <input type="hidden" name="action" value="edit">
+                <input type="hidden" name="cursor" value="${param.cursor}">
                 <button type="submit" class="btn btn-warning btn-sm">Edit</button>
               </form>
             </td>
@@ -90,6 +91,18 @@
     </c:otherwise>
   </c:choose>
 
+  <div class="d-flex justify-content-center gap-2 mb-4">
+    <c:if test="${not empty param.cursor}">
+      <a href="${pageContext.request.contextPath}/admin/users" class="btn btn-outline-secondary btn-sm">First page</a>
+    </c:if>
+    <c:if test="${not empty nextCursor}">
+      <c:url var="nextPageUrl" value="/admin/users">
+        <c:param name="cursor" value="${nextCursor}"/>
+      </c:url>
+      <a href="${nextPageUrl}" class="btn btn-outline-primary btn-sm">Next page</a>
+    </c:if>
+  </div>
+
   <div class="row justify-content-between">
     <div class="col-md-6">
       <h2 class="text-center">Add User</h2>
@@ -0,0 +1,95 @@
+package org.cinema.cache;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HashedTimingWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    public void init() {
+        // Four buckets of 10 ms: one round of the wheel is 40 ms.
+        wheel = new HashedTimingWheel(TICK_MILLIS, TimeUnit.MILLISECONDS, 4, "test-wheel");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    public void testTaskRunsAfterItsDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicLong elapsedMillis = new AtomicLong();
+        long start = System.nanoTime();
+
+        wheel.schedule(() -> {
+            elapsedMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            fired.countDown();
+        }, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertTrue(elapsedMillis.get() >= 30 - TICK_MILLIS, "fired after " + elapsedMillis.get() + " ms");
+    }
+
+    @Test
+    public void testDelayLongerThanOneRoundWaitsForLaterRounds() throws InterruptedException {
+        CountDownLatch shortFired = new CountDownLatch(1);
+        CountDownLatch longFired = new CountDownLatch(1);
+        AtomicLong elapsedMillis = new AtomicLong();
+        long start = System.nanoTime();
+
+        // 150 ms lands in the same bucket as 30 ms, three rounds later.
+        wheel.schedule(() -> {
+            elapsedMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            longFired.countDown();
+        }, 150, TimeUnit.MILLISECONDS);
+        wheel.schedule(shortFired::countDown, 30, TimeUnit.MILLISECONDS);
+
+        assertTrue(shortFired.await(5, TimeUnit.SECONDS));
+        assertFalse(longFired.await(50, TimeUnit.MILLISECONDS));
+        assertTrue(longFired.await(5, TimeUnit.SECONDS));
+        assertTrue(elapsedMillis.get() >= 150 - TICK_MILLIS, "fired after " + elapsedMillis.get() + " ms");
+    }
+
+    @Test
+    public void testCancelledTaskDoesNotRun() throws InterruptedException {
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout timeout = wheel.schedule(() -> cancelledRan.set(true), 20, TimeUnit.MILLISECONDS);
+        wheel.schedule(later::countDown, 60, TimeUnit.MILLISECONDS);
+        timeout.cancel();
+
+        assertTrue(later.await(5, TimeUnit.SECONDS));
+        assertFalse(cancelledRan.get());
+    }
+
+    @Test
+    public void testFailingTaskDoesNotStopTheWheel() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+
+        wheel.schedule(() -> {
+            throw new IllegalStateException("boom");
+        }, 10, TimeUnit.MILLISECONDS);
+        wheel.schedule(fired::countDown, 40, TimeUnit.MILLISECONDS);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testStoppedWheelRejectsTasks() {
+        wheel.stop();
+
+        assertThrows(IllegalStateException.class, () -> wheel.schedule(() -> { }, 10, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,149 @@
+package org.cinema.cache;
+
+import org.cinema.dto.filmSessionDTO.FilmSessionResponseDTO;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleSnapshotCacheTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+
+    private ScheduleSnapshotCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void init() {
+        cache = new ScheduleSnapshotCache();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void testSnapshotIsSortedAndReused() {
+        Supplier<Collection<FilmSessionResponseDTO>> loader = counting(() -> List.of(
+                session(2, DAY, "18:00"), session(1, DAY, "10:00")));
+
+        Set<FilmSessionResponseDTO> first = cache.getByDate(DAY, loader);
+        Set<FilmSessionResponseDTO> second = cache.getByDate(DAY, loader);
+
+        assertEquals(1, loads.get());
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertEquals(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> first.clear());
+    }
+
+    @Test
+    public void testReadsReturnCopies() {
+        FilmSessionResponseDTO loaded = session(1, DAY, "10:00");
+        Supplier<Collection<FilmSessionResponseDTO>> loader = counting(() -> List.of(loaded));
+
+        FilmSessionResponseDTO read = cache.getAll(loader).iterator().next();
+        read.setHeldSeat(7);
+        loaded.setMovieTitle("Changed by the loader's caller");
+
+        FilmSessionResponseDTO reread = cache.getAll(loader).iterator().next();
+        assertNotSame(read, reread);
+        assertNull(reread.getHeldSeat());
+        assertEquals("Movie 1", reread.getMovieTitle());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testInvalidateDropsDateAndSessionSnapshots() {
+        cache.getByDate(DAY, counting(() -> List.of(session(1, DAY, "10:00"))));
+        cache.getByDate(NEXT_DAY, counting(() -> List.of(session(2, NEXT_DAY, "10:00"))));
+        cache.getAll(counting(() -> List.of(session(1, DAY, "10:00"), session(2, NEXT_DAY, "10:00"))));
+        assertEquals(3, loads.get());
+
+        // Session 1 moved from DAY to NEXT_DAY: both dates and the whole schedule are reloaded.
+        cache.invalidate(NEXT_DAY, 1L);
+
+        cache.getByDate(DAY, counting(List::of));
+        cache.getByDate(NEXT_DAY, counting(() -> List.of(session(1, NEXT_DAY, "12:00"), session(2, NEXT_DAY, "10:00"))));
+        cache.getAll(counting(() -> List.of(session(1, NEXT_DAY, "12:00"), session(2, NEXT_DAY, "10:00"))));
+        assertEquals(6, loads.get());
+    }
+
+    @Test
+    public void testInvalidateKeepsUnaffectedDates() {
+        cache.getByDate(DAY, counting(() -> List.of(session(1, DAY, "10:00"))));
+
+        cache.invalidate(NEXT_DAY, null);
+
+        cache.getByDate(DAY, counting(List::of));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testClearDropsAllSnapshots() {
+        cache.getByDate(DAY, counting(() -> List.of(session(1, DAY, "10:00"))));
+        cache.getAll(counting(() -> List.of(session(1, DAY, "10:00"))));
+
+        cache.clear();
+
+        cache.getByDate(DAY, counting(List::of));
+        cache.getAll(counting(List::of));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testLoadOverlappingWriteIsNotCached() {
+        Set<FilmSessionResponseDTO> stale = cache.getByDate(DAY, counting(() -> {
+            List<FilmSessionResponseDTO> readBeforeWrite = List.of(session(1, DAY, "10:00"));
+            cache.invalidate(DAY, 2L);
+            return readBeforeWrite;
+        }));
+        assertEquals(List.of(1L), ids(stale));
+
+        Set<FilmSessionResponseDTO> fresh = cache.getByDate(DAY, counting(() -> List.of(
+                session(1, DAY, "10:00"), session(2, DAY, "12:00"))));
+        assertEquals(List.of(1L, 2L), ids(fresh));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testLoadOverlappingWriteIsNotCachedForWholeSchedule() {
+        cache.getAll(counting(() -> {
+            List<FilmSessionResponseDTO> readBeforeWrite = List.of(session(1, DAY, "10:00"));
+            cache.clear();
+            return readBeforeWrite;
+        }));
+
+        Set<FilmSessionResponseDTO> fresh = cache.getAll(counting(() -> List.of(
+                session(1, DAY, "10:00"), session(2, NEXT_DAY, "12:00"))));
+        assertEquals(List.of(1L, 2L), ids(fresh));
+        assertEquals(2, loads.get());
+    }
+
+    private Supplier<Collection<FilmSessionResponseDTO>> counting(Supplier<Collection<FilmSessionResponseDTO>> loader) {
+        return () -> {
+            loads.incrementAndGet();
+            return loader.get();
+        };
+    }
+
+    private static FilmSessionResponseDTO session(long id, LocalDate date, String startTime) {
+        return FilmSessionResponseDTO.builder()
+                .id(id)
+                .movieId(id)
+                .movieTitle("Movie " + id)
+                .date(date)
+                .startTime(LocalTime.parse(startTime))
+                .endTime(LocalTime.parse(startTime).plusHours(2))
+                .capacity(50)
+                .build();
+    }
+
+    private static List<Long> ids(Set<FilmSessionResponseDTO> sessions) {
+        return sessions.stream().map(FilmSessionResponseDTO::getId).toList();
+    }
+}
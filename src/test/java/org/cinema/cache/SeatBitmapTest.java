@@ -0,0 +1,56 @@
+package org.cinema.cache;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatBitmapTest {
+
+    @Test
+    public void testClaimAndDoubleClaim() {
+        SeatBitmap bitmap = new SeatBitmap(10);
+
+        assertTrue(bitmap.tryClaim(3));
+        assertFalse(bitmap.tryClaim(3));
+        assertTrue(bitmap.isTaken(3));
+        assertFalse(bitmap.isTaken(4));
+    }
+
+    @Test
+    public void testReleaseFreesOnlyThatSeat() {
+        SeatBitmap bitmap = new SeatBitmap(10);
+        bitmap.tryClaim(3);
+        bitmap.tryClaim(4);
+
+        bitmap.release(3);
+        bitmap.release(3);
+
+        assertFalse(bitmap.isTaken(3));
+        assertTrue(bitmap.isTaken(4));
+        assertTrue(bitmap.tryClaim(3));
+    }
+
+    @Test
+    public void testSeatsAcrossWordBoundaries() {
+        SeatBitmap bitmap = new SeatBitmap(130);
+
+        for (int seat : new int[]{1, 64, 65, 128, 129, 130}) {
+            assertTrue(bitmap.tryClaim(seat));
+        }
+
+        assertTrue(bitmap.isTaken(64));
+        assertTrue(bitmap.isTaken(65));
+        assertFalse(bitmap.isTaken(63));
+        assertFalse(bitmap.isTaken(66));
+        assertFalse(bitmap.isTaken(127));
+    }
+
+    @Test
+    public void testSeatOutsideCapacityIsRejected() {
+        SeatBitmap bitmap = new SeatBitmap(10);
+
+        assertThrows(IllegalArgumentException.class, () -> bitmap.tryClaim(0));
+        assertThrows(IllegalArgumentException.class, () -> bitmap.tryClaim(11));
+        assertThrows(IllegalArgumentException.class, () -> new SeatBitmap(-1));
+    }
+}
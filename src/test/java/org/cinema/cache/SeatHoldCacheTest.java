@@ -0,0 +1,131 @@
+package org.cinema.cache;
+
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatHoldCacheTest {
+
+    private static final long SESSION = 1;
+    private static final long ALICE = 10;
+    private static final long BOB = 20;
+
+    private HashedTimingWheel wheel;
+    private SeatHoldCache cache;
+
+    @BeforeEach
+    public void init() {
+        wheel = new HashedTimingWheel(10, TimeUnit.MILLISECONDS, 8, "test-seat-hold-wheel");
+        cache = new SeatHoldCache(Duration.ofMillis(200), wheel);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    public void testSeatHeldByAnotherUserIsRefused() {
+        assertTrue(cache.hold(SESSION, 5, ALICE).isPresent());
+
+        assertTrue(cache.hold(SESSION, 5, BOB).isEmpty());
+        assertTrue(cache.isHeldByOther(SESSION, 5, BOB));
+        assertFalse(cache.isHeldByOther(SESSION, 5, ALICE));
+        assertEquals(Set.of(5), cache.getSeatsHeldByOthers(SESSION, BOB));
+        assertEquals(Set.of(), cache.getSeatsHeldByOthers(SESSION, ALICE));
+    }
+
+    @Test
+    public void testHoldingAnotherSeatReleasesThePreviousOne() {
+        cache.hold(SESSION, 5, ALICE);
+
+        cache.hold(SESSION, 6, ALICE);
+
+        assertFalse(cache.isHeldByOther(SESSION, 5, BOB));
+        assertEquals(6, cache.getHoldOf(SESSION, ALICE).orElseThrow().getSeat());
+    }
+
+    @Test
+    public void testHoldExpires() {
+        cache.hold(SESSION, 5, ALICE);
+
+        awaitTrue(() -> !cache.hasHolds(SESSION));
+
+        assertFalse(cache.isHeldByOther(SESSION, 5, BOB));
+        assertTrue(cache.hold(SESSION, 5, BOB).isPresent());
+    }
+
+    @Test
+    public void testExtendedHoldOutlivesTheFirstExpiry() throws InterruptedException {
+        SeatHoldCache.SeatHold first = cache.hold(SESSION, 5, ALICE).orElseThrow();
+        Thread.sleep(120);
+
+        SeatHoldCache.SeatHold extended = cache.hold(SESSION, 5, ALICE).orElseThrow();
+        assertTrue(extended.getExpiresAt().isAfter(first.getExpiresAt()));
+
+        // Past the first hold's expiry the seat is still held, as its timeout was cancelled.
+        Thread.sleep(130);
+        assertTrue(cache.isHeldByOther(SESSION, 5, BOB));
+
+        awaitTrue(() -> !cache.hasHolds(SESSION));
+    }
+
+    @Test
+    public void testReleaseDropsEmptySession() {
+        cache.hold(SESSION, 5, ALICE);
+        cache.hold(SESSION, 6, BOB);
+
+        cache.release(SESSION, 5, BOB);
+        assertTrue(cache.isHeldByOther(SESSION, 5, BOB));
+
+        cache.release(SESSION, 5, ALICE);
+        assertTrue(cache.hasHolds(SESSION));
+        cache.release(SESSION, 6, BOB);
+        assertFalse(cache.hasHolds(SESSION));
+    }
+
+    @Test
+    public void testHoldAfterSessionWasDroppedIsTracked() {
+        cache.hold(SESSION, 5, ALICE);
+        cache.release(SESSION, 5, ALICE);
+        assertFalse(cache.hasHolds(SESSION));
+
+        Optional<SeatHoldCache.SeatHold> hold = cache.hold(SESSION, 7, BOB);
+
+        assertTrue(hold.isPresent());
+        assertTrue(cache.isHeldByOther(SESSION, 7, ALICE));
+    }
+
+    @Test
+    public void testClearDropsAllHoldsOfSession() {
+        cache.hold(SESSION, 5, ALICE);
+        cache.hold(SESSION + 1, 5, ALICE);
+
+        cache.clear(SESSION);
+
+        assertFalse(cache.hasHolds(SESSION));
+        assertTrue(cache.getHoldOf(SESSION, ALICE).isEmpty());
+        assertTrue(cache.getHoldOf(SESSION + 1, ALICE).isPresent());
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds.");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted.");
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.cinema.cache;
+
+import org.cinema.model.FilmSession;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SeatOccupancyCacheTest {
+
+    private static final long SESSION_ID = 7L;
+
+    private final Map<Long, List<String>> soldSeats = new HashMap<>();
+    private int loads;
+    private SeatOccupancyCache cache;
+
+    @BeforeEach
+    public void init() {
+        soldSeats.put(SESSION_ID, new ArrayList<>(List.of("1", "2", "bad", "99")));
+        loads = 0;
+        cache = new SeatOccupancyCache(sessionId -> {
+            loads++;
+            return soldSeats.getOrDefault(sessionId, List.of());
+        });
+    }
+
+    @Test
+    public void testLoadMarksSoldSeats() {
+        assertTrue(cache.isTaken(SESSION_ID, 1, session()));
+        assertTrue(cache.isTaken(SESSION_ID, 2, session()));
+        assertFalse(cache.isTaken(SESSION_ID, 3, session()));
+        assertEquals(1, loads);
+    }
+
+    @Test
+    public void testClaimAndDoubleClaim() {
+        assertTrue(cache.tryClaim(SESSION_ID, 3, session()));
+        assertFalse(cache.tryClaim(SESSION_ID, 3, session()));
+        assertFalse(cache.tryClaim(SESSION_ID, 1, session()));
+        assertEquals(1, loads);
+    }
+
+    @Test
+    public void testReleaseMakesSeatClaimable() {
+        cache.tryClaim(SESSION_ID, 3, session());
+
+        cache.release(SESSION_ID, 3);
+        cache.release(SESSION_ID, 500);
+        cache.release(42L, 3);
+
+        assertTrue(cache.tryClaim(SESSION_ID, 3, session()));
+    }
+
+    @Test
+    public void testInvalidateReloadsFromDatabase() {
+        cache.tryClaim(SESSION_ID, 3, session());
+        soldSeats.get(SESSION_ID).remove("1");
+
+        cache.invalidate(SESSION_ID);
+
+        assertFalse(cache.isTaken(SESSION_ID, 1, session()));
+        assertFalse(cache.isTaken(SESSION_ID, 3, session()));
+        assertTrue(cache.isTaken(SESSION_ID, 2, session()));
+        assertEquals(2, loads);
+    }
+
+    @Test
+    public void testSeatOutsideCapacityIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> cache.tryClaim(SESSION_ID, 11, session()));
+    }
+
+    private static Supplier<FilmSession> session() {
+        return () -> {
+            FilmSession filmSession = new FilmSession();
+            filmSession.setId(SESSION_ID);
+            filmSession.setCapacity(10);
+            return filmSession;
+        };
+    }
+}
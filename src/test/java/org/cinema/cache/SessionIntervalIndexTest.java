@@ -0,0 +1,118 @@
+package org.cinema.cache;
+
+import org.cinema.cache.SessionIntervalIndex.Interval;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionIntervalIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 10);
+    private static final LocalDate NEXT_DAY = DAY.plusDays(1);
+
+    private SessionIntervalIndex index;
+
+    @BeforeEach
+    public void init() {
+        index = new SessionIntervalIndex();
+        index.ensureLoaded(List::of);
+    }
+
+    @Test
+    public void testBackToBackSlotsDoNotOverlap() {
+        index.put(slot(1, DAY, "10:00", "12:00"));
+
+        assertTrue(index.findOverlapping(DAY, time("12:00"), time("14:00")).isEmpty());
+        assertTrue(index.findOverlapping(DAY, time("08:00"), time("10:00")).isEmpty());
+        assertEquals(List.of(1L), ids(index.findOverlapping(DAY, time("11:59"), time("14:00"))));
+    }
+
+    @Test
+    public void testContainmentOverlapsBothWays() {
+        index.put(slot(1, DAY, "10:00", "14:00"));
+        index.put(slot(2, NEXT_DAY, "11:00", "12:00"));
+
+        assertEquals(List.of(1L), ids(index.findOverlapping(DAY, time("11:00"), time("12:00"))));
+        assertEquals(List.of(2L), ids(index.findOverlapping(NEXT_DAY, time("10:00"), time("14:00"))));
+    }
+
+    @Test
+    public void testSingleSessionDay() {
+        index.put(slot(1, DAY, "18:00", "20:00"));
+
+        assertEquals(List.of(1L), ids(index.findOverlapping(DAY, time("19:00"), time("19:30"))));
+        assertTrue(index.findOverlapping(DAY, time("20:00"), time("22:00")).isEmpty());
+        assertTrue(index.findOverlapping(NEXT_DAY, time("18:00"), time("20:00")).isEmpty());
+    }
+
+    @Test
+    public void testOverlapsAreOrderedByStartTime() {
+        index.put(slot(3, DAY, "16:00", "18:00"));
+        index.put(slot(1, DAY, "09:00", "23:00"));
+        index.put(slot(2, DAY, "12:00", "13:00"));
+        index.put(slot(4, DAY, "07:00", "08:00"));
+
+        assertEquals(List.of(1L, 2L, 3L), ids(index.findOverlapping(DAY, time("12:30"), time("17:00"))));
+    }
+
+    @Test
+    public void testPutMovesSessionToAnotherDate() {
+        index.put(slot(1, DAY, "10:00", "12:00"));
+        index.put(slot(1, NEXT_DAY, "15:00", "17:00"));
+
+        assertTrue(index.findOverlapping(DAY, time("10:00"), time("12:00")).isEmpty());
+        assertEquals(List.of(1L), ids(index.findOverlapping(NEXT_DAY, time("16:00"), time("18:00"))));
+        assertEquals(List.of(1L), ids(index.findOverlapping(DAY.atStartOfDay(), NEXT_DAY.plusDays(1).atStartOfDay())));
+    }
+
+    @Test
+    public void testRemoveEmptiesDate() {
+        index.put(slot(1, DAY, "10:00", "12:00"));
+        index.put(slot(2, NEXT_DAY, "10:00", "12:00"));
+
+        index.remove(1);
+        index.remove(1);
+
+        assertTrue(index.findOverlapping(DAY, LocalTime.MIN, LocalTime.MAX).isEmpty());
+        assertEquals(List.of(2L), ids(index.findOverlapping(DAY.atStartOfDay(), NEXT_DAY.plusDays(1).atStartOfDay())));
+    }
+
+    @Test
+    public void testRangeAcrossDates() {
+        index.put(slot(1, DAY, "22:00", "23:30"));
+        index.put(slot(2, NEXT_DAY, "00:00", "01:00"));
+        index.put(slot(3, NEXT_DAY, "10:00", "12:00"));
+
+        assertEquals(List.of(1L, 2L, 3L), ids(index.findOverlapping(DAY.atStartOfDay(), NEXT_DAY.plusDays(1).atStartOfDay())));
+        assertEquals(List.of(1L), ids(index.findOverlapping(DAY.atTime(23, 0), NEXT_DAY.atStartOfDay())));
+        assertTrue(index.findOverlapping(DAY.atTime(23, 30), NEXT_DAY.atStartOfDay()).isEmpty());
+        assertEquals(List.of(2L), ids(index.findOverlapping(DAY.atTime(23, 30), NEXT_DAY.atTime(0, 1))));
+        assertEquals(List.of(3L), ids(index.findOverlapping(NEXT_DAY.atTime(1, 0), NEXT_DAY.atTime(10, 1))));
+        assertTrue(index.findOverlapping(NEXT_DAY.atTime(12, 0), NEXT_DAY.atTime(11, 0)).isEmpty());
+    }
+
+    @Test
+    public void testPutIsIgnoredUntilLoaded() {
+        SessionIntervalIndex unloaded = new SessionIntervalIndex();
+        unloaded.put(slot(1, DAY, "10:00", "12:00"));
+        unloaded.ensureLoaded(() -> List.of(slot(2, DAY, "13:00", "14:00")));
+
+        assertEquals(List.of(2L), ids(unloaded.findOverlapping(DAY, LocalTime.MIN, LocalTime.MAX)));
+    }
+
+    private static Interval slot(long sessionId, LocalDate date, String start, String end) {
+        return new Interval(sessionId, 1L, date, time(start), time(end));
+    }
+
+    private static LocalTime time(String value) {
+        return LocalTime.parse(value);
+    }
+
+    private static List<Long> ids(List<Interval> intervals) {
+        return intervals.stream().map(Interval::getSessionId).toList();
+    }
+}
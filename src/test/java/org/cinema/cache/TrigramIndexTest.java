@@ -0,0 +1,116 @@
+package org.cinema.cache;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    public void init() {
+        index = new TrigramIndex();
+    }
+
+    @Test
+    public void testRanksExactThenPrefixThenWordStartThenInfix() {
+        index.put(1, "Batmania");
+        index.put(2, "The Batman Returns");
+        index.put(3, "Batman");
+        index.put(4, "Superbatman");
+        index.put(5, "Batman Begins");
+
+        assertEquals(List.of(3L, 1L, 5L, 2L, 4L), index.search("batman", 10));
+    }
+
+    @Test
+    public void testSearchIsCaseInsensitiveAndTrimmed() {
+        index.put(1, "  The MATRIX ");
+
+        assertEquals(List.of(1L), index.search(" matrix", 10));
+        assertEquals(List.of(1L), index.search("tHe MaTrIx", 10));
+    }
+
+    @Test
+    public void testAllQueryGramsMustMatch() {
+        index.put(1, "Alien");
+        index.put(2, "Aliens");
+        index.put(3, "Lien");
+
+        assertEquals(List.of(1L, 2L), index.search("alie", 10));
+        assertTrue(index.search("alienx", 10).isEmpty());
+        assertTrue(index.search("xyz", 10).isEmpty());
+    }
+
+    @Test
+    public void testGramsMustBeContiguous() {
+        index.put(1, "abc def");
+
+        // Both grams "abc" and "def" occur, but not as one substring.
+        assertTrue(index.search("abcdef", 10).isEmpty());
+    }
+
+    @Test
+    public void testShortQueriesScanAllTexts() {
+        index.put(1, "Up");
+        index.put(2, "Pulp Fiction");
+        index.put(3, "Heat");
+
+        assertEquals(List.of(1L), index.search("up", 10));
+        assertEquals(List.of(1L, 2L), index.search("u", 10));
+        assertEquals(List.of(3L), index.search("he", 10));
+        assertTrue(index.search("  ", 10).isEmpty());
+        assertTrue(index.search(null, 10).isEmpty());
+    }
+
+    @Test
+    public void testLimitKeepsBestMatches() {
+        index.put(1, "Star Trek");
+        index.put(2, "Star");
+        index.put(3, "Lone Star");
+
+        assertEquals(List.of(2L, 1L), index.search("star", 2));
+    }
+
+    @Test
+    public void testPutReplacesPreviousText() {
+        index.put(1, "Old Title");
+        index.put(1, "New Title");
+
+        assertTrue(index.search("old", 10).isEmpty());
+        assertEquals(List.of(1L), index.search("new", 10));
+        assertEquals(1, index.size());
+
+        index.put(1, null);
+        assertEquals(0, index.size());
+        assertTrue(index.search("title", 10).isEmpty());
+    }
+
+    @Test
+    public void testRemove() {
+        index.put(1, "Alien");
+        index.put(2, "Aliens");
+
+        index.remove(1);
+        index.remove(1);
+        index.remove(42);
+
+        assertEquals(List.of(2L), index.search("alien", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testRebuildReplacesContent() {
+        index.put(1, "Alien");
+
+        index.rebuild(Map.of(2L, "Heat", 3L, "Heathers"));
+
+        assertTrue(index.search("alien", 10).isEmpty());
+        assertEquals(List.of(2L, 3L), index.search("heat", 10));
+        assertEquals(2, index.size());
+    }
+}
@@ -1,6 +1,9 @@
 package org.cinema.config;
 
+import org.cinema.model.FilmSession;
 import org.cinema.model.Movie;
+import org.cinema.model.Ticket;
+import org.cinema.model.User;
 import org.hibernate.SessionFactory;
 import org.hibernate.cfg.Configuration;
 
@@ -13,6 +16,9 @@ public class TestHibernateConfig {
             sessionFactory = new Configuration()
                     .configure("hibernate-test.cfg.xml")
                     .addAnnotatedClass(Movie.class)
+                    .addAnnotatedClass(FilmSession.class)
+                    .addAnnotatedClass(User.class)
+                    .addAnnotatedClass(Ticket.class)
                     .buildSessionFactory();
         }
         return sessionFactory;
@@ -0,0 +1,121 @@
+package org.cinema.metrics;
+
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testSmallValuesHaveTheirOwnBuckets() {
+        for (int value = 0; value < 32; value++) {
+            assertEquals(value, LatencyHistogram.indexOf(value));
+            assertEquals(value, LatencyHistogram.highestValueOf(value));
+        }
+        assertEquals(32, LatencyHistogram.indexOf(32));
+    }
+
+    @Test
+    public void testBucketsAreContiguous() {
+        for (int index = 0; index < LatencyHistogram.BUCKET_COUNT - 1; index++) {
+            long highest = LatencyHistogram.highestValueOf(index);
+            assertEquals(index, LatencyHistogram.indexOf(highest), "highest value of bucket " + index);
+            assertEquals(index + 1, LatencyHistogram.indexOf(highest + 1), "value after bucket " + index);
+        }
+        assertEquals(LatencyHistogram.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.BUCKET_COUNT - 1));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.indexOf(LatencyHistogram.MAX_VALUE));
+    }
+
+    @Test
+    public void testBucketWidthStaysWithinRelativeError() {
+        for (int index = 32; index < LatencyHistogram.BUCKET_COUNT; index++) {
+            long lowest = LatencyHistogram.highestValueOf(index - 1) + 1;
+            long width = LatencyHistogram.highestValueOf(index) - lowest + 1;
+            assertTrue(width * 32 <= lowest, "bucket " + index + " is " + width + " wide at " + lowest);
+        }
+    }
+
+    @Test
+    public void testOutOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getMaxNanos());
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getSumNanos());
+        assertEquals(1, snapshot.getCountAtOrBelow(0));
+        assertEquals(LatencyHistogram.MAX_VALUE, snapshot.getValueAtQuantile(1.0));
+    }
+
+    @Test
+    public void testQuantiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(5050, snapshot.getSumNanos());
+        assertEquals(1, snapshot.getValueAtQuantile(0.0));
+        assertEquals(50, snapshot.getValueAtQuantile(0.5));
+        // 99 shares a two-wide bucket with 98 and is its highest value.
+        assertEquals(99, snapshot.getValueAtQuantile(0.99));
+        // 100 shares a bucket with 101, but no quantile exceeds the recorded maximum.
+        assertEquals(100, snapshot.getValueAtQuantile(1.0));
+    }
+
+    @Test
+    public void testQuantileOfLargeValueIsWithinItsBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000_000);
+        histogram.record(5_000_000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        long median = snapshot.getValueAtQuantile(0.5);
+        assertTrue(median >= 1_000_000 && median <= 1_000_000 * 33 / 32, "median " + median);
+        assertEquals(5_000_000, snapshot.getValueAtQuantile(0.99));
+    }
+
+    @Test
+    public void testEmptySnapshot() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getValueAtQuantile(0.99));
+        assertEquals(0, snapshot.getCountAtOrBelow(LatencyHistogram.MAX_VALUE));
+    }
+
+    @Test
+    public void testCumulativeCounts() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10);
+        histogram.record(100);
+        histogram.record(1000);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCountAtOrBelow(-1));
+        assertEquals(0, snapshot.getCountAtOrBelow(9));
+        assertEquals(1, snapshot.getCountAtOrBelow(10));
+        assertEquals(1, snapshot.getCountAtOrBelow(99));
+        assertEquals(2, snapshot.getCountAtOrBelow(100));
+        assertEquals(2, snapshot.getCountAtOrBelow(991));
+        assertEquals(3, snapshot.getCountAtOrBelow(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testCumulativeCountIncludesBucketStraddlingTheBound() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1000);
+
+        // 1000 is recorded into the bucket 992..1007, which starts below the bound.
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(LatencyHistogram.indexOf(992), LatencyHistogram.indexOf(1000));
+        assertEquals(1007, LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(1000)));
+        assertEquals(1, snapshot.getCountAtOrBelow(995));
+        assertEquals(0, snapshot.getCountAtOrBelow(991));
+    }
+}
@@ -0,0 +1,125 @@
+package org.cinema.repository;
+
+import org.cinema.config.TestHibernateConfig;
+import org.cinema.model.Movie;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.context.internal.ThreadLocalSessionContext;
+import org.junit.jupiter.api.*;
+
+import javax.transaction.Synchronization;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UnitOfWorkTest {
+
+    private static SessionFactory sessionFactory;
+    private static UnitOfWork unitOfWork;
+
+    @BeforeAll
+    public static void setUp() {
+        sessionFactory = TestHibernateConfig.getSessionFactory();
+        unitOfWork = new UnitOfWork(sessionFactory);
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        TestHibernateConfig.closeSessionFactory();
+    }
+
+    @BeforeEach
+    public void init() {
+        try (var session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createQuery("DELETE FROM Movie").executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    @Test
+    public void testCommitPersistsWorkAndClosesSession() {
+        AtomicReference<Session> current = new AtomicReference<>();
+
+        Long id = unitOfWork.execute(() -> {
+            current.set(sessionFactory.getCurrentSession());
+            Movie movie = movie("Committed");
+            current.get().persist(movie);
+            return movie.getId();
+        });
+
+        assertFalse(current.get().isOpen());
+        try (var session = sessionFactory.openSession()) {
+            assertNotNull(session.get(Movie.class, id));
+        }
+    }
+
+    @Test
+    public void testFailedWorkRollsBackAndClosesSession() {
+        AtomicReference<Session> current = new AtomicReference<>();
+
+        assertThrows(IllegalStateException.class, () -> unitOfWork.run(() -> {
+            current.set(sessionFactory.getCurrentSession());
+            current.get().persist(movie("Rolled back"));
+            throw new IllegalStateException("boom");
+        }));
+
+        assertFalse(current.get().isOpen());
+        assertEquals(0, countMovies());
+    }
+
+    @Test
+    public void testFailedCommitClosesSession() {
+        AtomicReference<Session> current = new AtomicReference<>();
+
+        assertThrows(RuntimeException.class, () -> unitOfWork.run(() -> {
+            current.set(sessionFactory.getCurrentSession());
+            current.get().getTransaction().registerSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+                    throw new IllegalStateException("commit failed");
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                }
+            });
+        }));
+
+        assertFalse(current.get().isOpen());
+        unitOfWork.run(() -> assertNotSame(current.get(), sessionFactory.getCurrentSession()));
+    }
+
+    @Test
+    public void testSessionIsUnboundWhenTransactionCannotStart() {
+        Session broken = sessionFactory.openSession();
+        broken.close();
+        ThreadLocalSessionContext.bind(broken);
+
+        assertThrows(RuntimeException.class, () -> unitOfWork.run(() -> fail("work must not run")));
+
+        unitOfWork.run(() -> assertTrue(sessionFactory.getCurrentSession().getTransaction().isActive()));
+    }
+
+    @Test
+    public void testNestedCallsJoinOuterSession() {
+        unitOfWork.run(() -> {
+            Session outer = sessionFactory.getCurrentSession();
+            unitOfWork.run(() -> assertSame(outer, sessionFactory.getCurrentSession()));
+            assertTrue(outer.getTransaction().isActive());
+        });
+    }
+
+    private static Movie movie(String title) {
+        Movie movie = new Movie();
+        movie.setTitle(title);
+        movie.setYear("2020");
+        return movie;
+    }
+
+    private static long countMovies() {
+        try (var session = sessionFactory.openSession()) {
+            return session.createQuery("SELECT COUNT(m) FROM Movie m", Long.class).uniqueResult();
+        }
+    }
+}
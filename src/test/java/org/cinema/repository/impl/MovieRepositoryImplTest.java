@@ -1,6 +1,7 @@
 package org.cinema.repository.impl;
 
 import org.cinema.config.TestHibernateConfig;
+import org.cinema.exception.EntityAlreadyExistException;
 import org.cinema.model.Movie;
 import org.cinema.repository.MovieRepository;
 import org.junit.jupiter.api.*;
@@ -78,6 +79,39 @@ public class MovieRepositoryImplTest {
         assertEquals("Unique Movie", foundMovies.get(0).getTitle());
     }
 
+    @Test
+    public void testFindMoviesByTitles() {
+        Movie movie = new Movie();
+        movie.setTitle("Remake");
+        movie.setYear("1999");
+        movieRepository.save(movie);
+
+        Movie remake = new Movie();
+        remake.setTitle("Remake");
+        remake.setYear("2019");
+        movieRepository.save(remake);
+
+        List<Movie> found = movieRepository.findByTitles(List.of("Remake", "Missing"));
+        assertEquals(2, found.size());
+        assertTrue(found.stream().anyMatch(m -> remake.getId().equals(m.getId())));
+        assertTrue(movieRepository.findByTitles(List.of("Remak")).isEmpty());
+    }
+
+    @Test
+    public void testSaveDuplicateTitleAndYearIsRejected() {
+        Movie movie = new Movie();
+        movie.setTitle("Twice");
+        movie.setYear("2001");
+        movieRepository.save(movie);
+
+        Movie duplicate = new Movie();
+        duplicate.setTitle("Twice");
+        duplicate.setYear("2001");
+
+        assertThrows(EntityAlreadyExistException.class, () -> movieRepository.save(duplicate));
+        assertEquals(1, movieRepository.findByTitles(List.of("Twice")).size());
+    }
+
     @Test
     public void testUpdateMovie() {
         Movie movie = new Movie();
@@ -0,0 +1,115 @@
+package org.cinema.repository.impl;
+
+import org.cinema.config.TestHibernateConfig;
+import org.cinema.model.*;
+import org.cinema.repository.TicketRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TicketRepositoryImplTest {
+
+    private static final int SESSIONS = 3;
+    private static final int USERS = 3;
+
+    private static SessionFactory sessionFactory;
+    private static TicketRepository ticketRepository;
+    private static Statistics statistics;
+
+    private long firstSessionId;
+    private long firstUserId;
+
+    @BeforeAll
+    public static void setUp() {
+        sessionFactory = TestHibernateConfig.getSessionFactory();
+        ticketRepository = TicketRepositoryImpl.getInstance(sessionFactory);
+        statistics = sessionFactory.getStatistics();
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        TestHibernateConfig.closeSessionFactory();
+    }
+
+    @BeforeEach
+    public void init() {
+        try (var session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createQuery("DELETE FROM Ticket").executeUpdate();
+            session.createQuery("DELETE FROM FilmSession").executeUpdate();
+            session.createQuery("DELETE FROM Movie").executeUpdate();
+            session.createQuery("DELETE FROM User").executeUpdate();
+
+            User[] users = new User[USERS];
+            for (int i = 0; i < USERS; i++) {
+                users[i] = new User("user" + i, "password", Role.USER);
+                session.save(users[i]);
+            }
+            for (int i = 0; i < SESSIONS; i++) {
+                Movie movie = new Movie();
+                movie.setTitle("Movie " + i);
+                session.save(movie);
+
+                FilmSession filmSession = new FilmSession(null, movie, BigDecimal.TEN, LocalDate.now().plusDays(i),
+                        LocalTime.of(18, 0), LocalTime.of(20, 0), 50);
+                session.save(filmSession);
+                if (i == 0) {
+                    firstSessionId = filmSession.getId();
+                    firstUserId = users[0].getId();
+                }
+
+                for (int j = 0; j < USERS; j++) {
+                    Ticket ticket = new Ticket();
+                    ticket.setUser(users[j]);
+                    ticket.setFilmSession(filmSession);
+                    ticket.setSeatNumber(String.valueOf(j + 1));
+                    ticket.setStatus(Status.PENDING);
+                    ticket.setRequestType(RequestType.PURCHASE);
+                    session.save(ticket);
+                }
+            }
+            session.getTransaction().commit();
+        }
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindAllUsesSingleStatement() {
+        Set<Ticket> tickets = ticketRepository.findAll();
+
+        assertEquals(SESSIONS * USERS, tickets.size());
+        tickets.forEach(TicketRepositoryImplTest::readMappedFields);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetTicketsByUserIdUsesSingleStatement() {
+        List<Ticket> tickets = ticketRepository.getTicketsByUserId(firstUserId);
+
+        assertEquals(SESSIONS, tickets.size());
+        tickets.forEach(TicketRepositoryImplTest::readMappedFields);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testGetTicketsBySessionUsesSingleStatement() {
+        List<Ticket> tickets = ticketRepository.getTicketsBySession(firstSessionId);
+
+        assertEquals(USERS, tickets.size());
+        tickets.forEach(TicketRepositoryImplTest::readMappedFields);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static void readMappedFields(Ticket ticket) {
+        assertNotNull(ticket.getUser().getUsername());
+        assertNotNull(ticket.getFilmSession().getMovie().getTitle());
+    }
+}
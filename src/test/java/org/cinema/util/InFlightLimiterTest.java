@@ -0,0 +1,81 @@
+package org.cinema.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InFlightLimiterTest {
+
+    private final List<CompletableFuture<String>> started = new ArrayList<>();
+
+    @Test
+    public void testQueuedCallStartsWhenSlotIsReleased() throws Exception {
+        InFlightLimiter limiter = new InFlightLimiter(1, 1);
+
+        CompletableFuture<String> first = limiter.submit(this::startCall);
+        CompletableFuture<String> second = limiter.submit(this::startCall);
+        assertEquals(1, started.size());
+
+        started.get(0).complete("first");
+        assertEquals("first", first.get());
+        assertEquals(2, started.size());
+
+        started.get(1).complete("second");
+        assertEquals("second", second.get());
+    }
+
+    @Test
+    public void testCallIsRejectedWhenQueueIsFull() {
+        InFlightLimiter limiter = new InFlightLimiter(1, 1);
+        limiter.submit(this::startCall);
+        limiter.submit(this::startCall);
+
+        CompletableFuture<String> rejected = limiter.submit(this::startCall);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertEquals(1, started.size());
+    }
+
+    @Test
+    public void testCancelledQueuedCallFreesQueueSpace() {
+        InFlightLimiter limiter = new InFlightLimiter(1, 1);
+        limiter.submit(this::startCall);
+        limiter.submit(this::startCall).cancel(true);
+
+        CompletableFuture<String> queued = limiter.submit(this::startCall);
+        assertFalse(queued.isDone());
+
+        started.get(0).complete("first");
+        assertEquals(2, started.size());
+        started.get(1).complete("queued");
+        assertEquals("queued", queued.join());
+    }
+
+    @Test
+    public void testCallFailingToStartReleasesSlot() {
+        InFlightLimiter limiter = new InFlightLimiter(1, 0);
+
+        CompletableFuture<String> failed = limiter.submit(() -> {
+            throw new RejectedExecutionException("executor saturated");
+        });
+        CompletableFuture<String> next = limiter.submit(this::startCall);
+
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(1, started.size());
+        started.get(0).complete("next");
+        assertEquals("next", next.join());
+    }
+
+    private CompletableFuture<String> startCall() {
+        CompletableFuture<String> call = new CompletableFuture<>();
+        started.add(call);
+        return call;
+    }
+}
@@ -0,0 +1,142 @@
+package org.cinema.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.cinema.exception.NoDataFoundException;
+import org.cinema.exception.OmdbApiException;
+import org.cinema.model.MovieAPI;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OmdbApiUtilTest {
+
+    private static final String SLOW_ID = "tt0000001";
+    private static final String FAST_ID = "tt0000002";
+
+    private static HttpServer server;
+    private static ExecutorService serverExecutor;
+    private static final CountDownLatch releaseSlowDetails = new CountDownLatch(1);
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", OmdbApiUtilTest::handle);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        System.setProperty("omdb.api.url", "http://127.0.0.1:" + server.getAddress().getPort() + "/");
+        System.setProperty("omdb.api.key", "test");
+        System.setProperty("omdb.http.max.in.flight", "1");
+        System.setProperty("omdb.search.deadline.millis", "1000");
+        System.setProperty("omdb.http.request.timeout.millis", "30000");
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        releaseSlowDetails.countDown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        for (String key : List.of("omdb.api.url", "omdb.api.key", "omdb.http.max.in.flight",
+                "omdb.search.deadline.millis", "omdb.http.request.timeout.millis")) {
+            System.clearProperty(key);
+        }
+    }
+
+    @Test
+    public void testExpiredDetailsRequestReleasesItsPermit() {
+        assertThrows(OmdbApiException.class, () -> OmdbApiUtil.searchMovies("slow"));
+
+        List<MovieAPI> movies = OmdbApiUtil.searchMovies("fast");
+
+        assertEquals(1, movies.size());
+        assertEquals("Fast", movies.get(0).getTitle());
+    }
+
+    @Test
+    public void testMovieNotFoundIsNoData() {
+        String response = "{\"Response\":\"False\",\"Error\":\"Movie not found!\"}";
+
+        assertThrows(NoDataFoundException.class, () -> OmdbApiUtil.parseSearchResponse(response, "missing"));
+    }
+
+    @Test
+    public void testOtherApiErrorsAreNotNoData() {
+        for (String error : List.of("Request limit reached!", "Invalid API key!", "Too many results.")) {
+            String response = "{\"Response\":\"False\",\"Error\":\"" + error + "\"}";
+
+            OmdbApiException exception = assertThrows(OmdbApiException.class,
+                    () -> OmdbApiUtil.parseSearchResponse(response, "title"));
+            assertTrue(exception.getMessage().contains(error));
+        }
+    }
+
+    @Test
+    public void testApiErrorIsNotCachedAsNoMovies() {
+        assertThrows(OmdbApiException.class, () -> OmdbApiUtil.searchMovies("limited"));
+        assertThrows(OmdbApiException.class, () -> OmdbApiUtil.searchMovies("limited"));
+    }
+
+    @Test
+    public void testNoMoviesFoundExpiresSooner() {
+        OmdbApiUtil.SearchExpiry expiry = new OmdbApiUtil.SearchExpiry(Duration.ofMinutes(360), Duration.ofMinutes(10));
+        List<MovieAPI> movies = List.of(new MovieAPI());
+
+        assertEquals(Duration.ofMinutes(360).toNanos(), expiry.expireAfterCreate("title", movies, 0));
+        assertEquals(Duration.ofMinutes(10).toNanos(), expiry.expireAfterCreate("missing", List.of(), 0));
+        assertEquals(Duration.ofMinutes(360).toNanos(), expiry.expireAfterUpdate("missing", movies, 0, 1));
+        assertEquals(42, expiry.expireAfterRead("title", movies, 0, 42));
+    }
+
+    @Test
+    public void testSearchResultsAreCached() {
+        List<MovieAPI> first = OmdbApiUtil.searchMovies("fast");
+        long hits = OmdbApiUtil.getSearchCacheStats().getStats().hitCount();
+
+        assertSame(first, OmdbApiUtil.searchMovies("  FAST "));
+        assertEquals(hits + 1, OmdbApiUtil.getSearchCacheStats().getStats().hitCount());
+        assertTrue(OmdbApiUtil.getSearchCacheStats().getEntryCount() >= 1);
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getQuery();
+        String body;
+        if (query.startsWith("s=limited")) {
+            body = "{\"Response\":\"False\",\"Error\":\"Request limit reached!\"}";
+        } else if (query.startsWith("s=slow")) {
+            body = "{\"Response\":\"True\",\"Search\":[{\"imdbID\":\"" + SLOW_ID + "\"}]}";
+        } else if (query.startsWith("s=fast")) {
+            body = "{\"Response\":\"True\",\"Search\":[{\"imdbID\":\"" + FAST_ID + "\"}]}";
+        } else if (query.startsWith("i=" + SLOW_ID)) {
+            awaitRelease();
+            body = "{\"Response\":\"True\",\"Title\":\"Slow\"}";
+        } else {
+            body = "{\"Response\":\"True\",\"Title\":\"Fast\"}";
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static void awaitRelease() {
+        try {
+            releaseSlowDetails.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.cinema.util;
+
+import org.cinema.dto.filmSessionDTO.BulkScheduleRow;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleImportUtilTest {
+
+    @Test
+    public void testParseCsvSkipsBomAndHeader() throws IOException {
+        String csv = "\uFEFF" + ScheduleImportUtil.CSV_HEADER + "\n"
+                + "1, 2030-01-10 ,18:00,20:00,12.50,80\n";
+
+        List<BulkScheduleRow> rows = ScheduleImportUtil.parseCsv(new StringReader(csv));
+
+        assertEquals(1, rows.size());
+        BulkScheduleRow row = rows.get(0);
+        assertEquals(2, row.getLine());
+        assertEquals("1", row.getMovieId());
+        assertEquals("2030-01-10", row.getDate());
+        assertEquals("18:00", row.getStartTime());
+        assertEquals("20:00", row.getEndTime());
+        assertEquals("12.50", row.getPrice());
+        assertEquals("80", row.getCapacity());
+    }
+
+    @Test
+    public void testParseCsvReadsFirstLineWithoutHeader() throws IOException {
+        String csv = "\uFEFF7,2030-01-10,18:00,20:00,10,50\r\n";
+
+        List<BulkScheduleRow> rows = ScheduleImportUtil.parseCsv(new StringReader(csv));
+
+        assertEquals(1, rows.size());
+        assertEquals(1, rows.get(0).getLine());
+        assertEquals("7", rows.get(0).getMovieId());
+    }
+
+    @Test
+    public void testParseCsvKeepsShortRowsAndFileLineNumbers() throws IOException {
+        String csv = ScheduleImportUtil.CSV_HEADER + "\n"
+                + "\n"
+                + "1,2030-01-10,18:00\n"
+                + "   \n"
+                + "2,2030-01-11,10:00,12:00,10,50\n";
+
+        List<BulkScheduleRow> rows = ScheduleImportUtil.parseCsv(new StringReader(csv));
+
+        assertEquals(2, rows.size());
+        BulkScheduleRow shortRow = rows.get(0);
+        assertEquals(3, shortRow.getLine());
+        assertEquals("18:00", shortRow.getStartTime());
+        assertNull(shortRow.getEndTime());
+        assertNull(shortRow.getPrice());
+        assertNull(shortRow.getCapacity());
+        assertEquals(5, rows.get(1).getLine());
+    }
+
+    @Test
+    public void testExpandRecurrenceFiltersWeekdays() {
+        // 2030-01-07 is a Monday.
+        List<BulkScheduleRow> rows = ScheduleImportUtil.expandRecurrence(new String[]{"1", "2"}, "10", "50",
+                "18:00", "20:00", "2030-01-07", "2030-01-20", new String[]{"saturday", " SUNDAY "});
+
+        assertEquals(8, rows.size());
+        assertEquals(List.of("2030-01-12", "2030-01-12", "2030-01-13", "2030-01-13",
+                        "2030-01-19", "2030-01-19", "2030-01-20", "2030-01-20"),
+                rows.stream().map(BulkScheduleRow::getDate).toList());
+        assertEquals(List.of("1", "2", "1", "2", "1", "2", "1", "2"),
+                rows.stream().map(BulkScheduleRow::getMovieId).toList());
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(i + 1, rows.get(i).getLine());
+        }
+    }
+
+    @Test
+    public void testExpandRecurrenceWithoutWeekdaysUsesEveryDay() {
+        List<BulkScheduleRow> rows = ScheduleImportUtil.expandRecurrence(new String[]{"1"}, "10", "50",
+                "18:00", "20:00", "2030-01-07", "2030-01-13", null);
+
+        assertEquals(7, rows.size());
+    }
+
+    @Test
+    public void testExpandRecurrenceCapsRange() {
+        assertEquals(366, ScheduleImportUtil.expandRecurrence(new String[]{"1"}, "10", "50",
+                "18:00", "20:00", "2030-01-01", "2031-01-01", null).size());
+
+        assertThrows(IllegalArgumentException.class, () -> ScheduleImportUtil.expandRecurrence(new String[]{"1"},
+                "10", "50", "18:00", "20:00", "2030-01-01", "2031-01-02", null));
+    }
+
+    @Test
+    public void testExpandRecurrenceRejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> ScheduleImportUtil.expandRecurrence(new String[]{"1"},
+                "10", "50", "18:00", "20:00", "2030-01-10", "2030-01-09", null));
+        assertThrows(IllegalArgumentException.class, () -> ScheduleImportUtil.expandRecurrence(new String[0],
+                "10", "50", "18:00", "20:00", "2030-01-10", "2030-01-12", null));
+        assertThrows(IllegalArgumentException.class, () -> ScheduleImportUtil.expandRecurrence(new String[]{"1"},
+                "10", "50", "18:00", "20:00", "2030-01-10", "2030-01-12", new String[]{"Funday"}));
+    }
+}
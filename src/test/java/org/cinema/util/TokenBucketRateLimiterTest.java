@@ -0,0 +1,130 @@
+package org.cinema.util;
+
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    public void testFullBucketAdmitsBurst() {
+        TokenBucketRateLimiter limiter = limiter(3, 1, Duration.ofSeconds(1), 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Duration.ZERO, limiter.tryAcquire("key"));
+        }
+        assertEquals(Duration.ofSeconds(1), limiter.tryAcquire("key"));
+        assertEquals(3, limiter.getAllowedCount());
+        assertEquals(1, limiter.getThrottledCount());
+    }
+
+    @Test
+    public void testKeysHaveSeparateBuckets() {
+        TokenBucketRateLimiter limiter = limiter(1, 1, Duration.ofSeconds(1), 100);
+
+        assertEquals(Duration.ZERO, limiter.tryAcquire("a"));
+        assertFalse(limiter.tryAcquire("a").isZero());
+        assertEquals(Duration.ZERO, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    public void testTokensRefillOneEmissionIntervalAtATime() {
+        // Two permits per second: one token every 500 ms.
+        TokenBucketRateLimiter limiter = limiter(2, 2, Duration.ofSeconds(1), 100);
+        limiter.tryAcquire("key");
+        limiter.tryAcquire("key");
+
+        advance(Duration.ofMillis(300));
+        assertEquals(Duration.ofMillis(200), limiter.tryAcquire("key"));
+
+        advance(Duration.ofMillis(200));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("key"));
+        assertEquals(Duration.ofMillis(500), limiter.tryAcquire("key"));
+    }
+
+    @Test
+    public void testIdleBucketRefillsOnlyUpToBurst() {
+        TokenBucketRateLimiter limiter = limiter(2, 1, Duration.ofSeconds(1), 100);
+        limiter.tryAcquire("key");
+        limiter.tryAcquire("key");
+
+        advance(Duration.ofMinutes(10));
+
+        assertEquals(Duration.ZERO, limiter.tryAcquire("key"));
+        assertEquals(Duration.ZERO, limiter.tryAcquire("key"));
+        assertFalse(limiter.tryAcquire("key").isZero());
+    }
+
+    @Test
+    public void testIdleBucketsAreForgotten() {
+        TokenBucketRateLimiter limiter = limiter(2, 1, Duration.ofSeconds(1), 100);
+        limiter.tryAcquire("key");
+        assertEquals(1, limiter.size());
+
+        advance(Duration.ofSeconds(3));
+
+        assertEquals(0, limiter.size());
+    }
+
+    @Test
+    public void testNumberOfKeysIsBounded() {
+        TokenBucketRateLimiter limiter = limiter(1, 1, Duration.ofSeconds(1), 10);
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("key-" + i);
+        }
+
+        assertTrue(limiter.size() <= 10, "tracked " + limiter.size() + " keys");
+    }
+
+    @Test
+    public void testConcurrentCallersNeverExceedBurst() throws Exception {
+        TokenBucketRateLimiter limiter = limiter(50, 1, Duration.ofHours(1), 100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger admitted = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 100; j++) {
+                        if (limiter.tryAcquire("key").isZero()) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(50, admitted.get());
+        assertEquals(750, limiter.getThrottledCount());
+    }
+
+    private TokenBucketRateLimiter limiter(int burst, int permits, Duration period, int maxKeys) {
+        return new TokenBucketRateLimiter(burst, permits, period, maxKeys, clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,104 @@
+package org.cinema.util;
+
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VirtualThreadsTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = new VirtualThreads.BoundedExecutor(Executors.newCachedThreadPool(), 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testTasksOverTheBoundAreRejected() {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> await(release));
+        executor.execute(() -> await(release));
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        release.countDown();
+    }
+
+    @Test
+    public void testFinishedTasksFreeTheirSlots() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                await(release);
+                done.countDown();
+            });
+        }
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+
+        CountDownLatch ran = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            awaitSlot(ran::countDown);
+        }
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFailingTaskFreesItsSlot() throws InterruptedException {
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                throw new IllegalStateException("boom");
+            });
+        }
+
+        CountDownLatch ran = new CountDownLatch(1);
+        awaitSlot(ran::countDown);
+        assertTrue(ran.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRejectionByDelegateReturnsPermit() {
+        executor.shutdown();
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+        }
+        assertTrue(executor.isShutdown());
+    }
+
+    /**
+     * A permit is returned right after the task body, just before its thread finishes, so retry briefly.
+     */
+    private void awaitSlot(Runnable task) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                if (attempt == 100) {
+                    throw e;
+                }
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}